@@ -0,0 +1,102 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 플랫폼 스레드 모드와 가상 스레드 모드 비교용 부하 도구 (JDK 11 이상, 의존성 없음)
+// 실행: java bench/ThreadingBench.java <baseUrl> <동시 사용자 수> <측정 초> [경로...]
+// 예:   java bench/ThreadingBench.java http://localhost:8080 400 30 "/api/dashboard?userId=1" "/api/applications/stats?userId=1"
+// 각 가상 사용자는 응답을 받으면 바로 다음 요청을 보냄 (closed model), 앞의 5초는 워밍업으로 버림
+public class ThreadingBench {
+    
+    private static final int WARMUP_SECONDS = 5;
+    
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("usage: java ThreadingBench.java <baseUrl> <concurrency> <seconds> [path...]");
+            System.exit(1);
+        }
+        String baseUrl = args[0];
+        int concurrency = Integer.parseInt(args[1]);
+        int seconds = Integer.parseInt(args[2]);
+        List<String> paths = args.length > 3
+                ? Arrays.asList(Arrays.copyOfRange(args, 3, args.length))
+                : List.of("/api/dashboard?userId=1");
+        
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        
+        long warmupEnd = System.nanoTime() + Duration.ofSeconds(WARMUP_SECONDS).toNanos();
+        long end = warmupEnd + Duration.ofSeconds(seconds).toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<long[]> latencies = new ArrayList<>();
+        int[] counts = new int[concurrency];
+        CountDownLatch done = new CountDownLatch(concurrency);
+        
+        for (int worker = 0; worker < concurrency; worker++) {
+            long[] samples = new long[1 << 16];
+            latencies.add(samples);
+            int id = worker;
+            Thread thread = new Thread(() -> {
+                try {
+                    int request = 0;
+                    while (System.nanoTime() < end) {
+                        String path = paths.get((id + request++) % paths.size());
+                        HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                                .timeout(Duration.ofSeconds(30))
+                                .GET()
+                                .build();
+                        long started = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(httpRequest, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        long finished = System.nanoTime();
+                        if (started >= warmupEnd && counts[id] < samples.length) {
+                            samples[counts[id]++] = finished - started;
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "bench-" + worker);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+        
+        int total = Arrays.stream(counts).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (int worker = 0; worker < concurrency; worker++) {
+            System.arraycopy(latencies.get(worker), 0, all, offset, counts[worker]);
+            offset += counts[worker];
+        }
+        Arrays.sort(all);
+        
+        System.out.printf("concurrency=%d duration=%ds requests=%d errors=%d throughput=%.1f req/s%n",
+                concurrency, seconds, total, errors.get(), total / (double) seconds);
+        System.out.printf("latency ms: p50=%.2f p90=%.2f p99=%.2f max=%.2f%n",
+                percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99),
+                all.length == 0 ? 0.0 : all[all.length - 1] / 1e6);
+    }
+    
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
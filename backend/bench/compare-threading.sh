@@ -0,0 +1,35 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드(기본)와 가상 스레드(virtual 프로필) 모드를 같은 조건으로 비교
+# 사용법: bench/compare-threading.sh [동시 사용자 수] [측정 초]
+# 필요: JDK 21 이상, init.sql로 초기화된 MySQL (docker-compose up -d)
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+CONCURRENCY="${1:-400}"
+SECONDS_TO_RUN="${2:-30}"
+PORT=18080
+BASE_URL="http://localhost:${PORT}"
+PATHS=("/api/dashboard?userId=1" "/api/applications/stats?userId=1" "/api/applications?userId=1")
+
+./mvnw -q -DskipTests package
+JAR=$(ls target/job-management-backend-*-exec.jar | head -1)
+
+run_mode() {
+  local mode="$1"; shift
+  echo "== ${mode} =="
+  java -jar "$JAR" --server.port=${PORT} --logging.level.com.jobmanagement=INFO \
+       --logging.level.org.hibernate.SQL=WARN --spring.jpa.properties.hibernate.show_sql=false "$@" \
+       > "target/bench-${mode}.log" 2>&1 &
+  local pid=$!
+  trap 'kill ${pid} 2>/dev/null || true' EXIT
+  until curl -sf "${BASE_URL}/actuator/health" > /dev/null; do sleep 1; done
+  java bench/ThreadingBench.java "${BASE_URL}" "${CONCURRENCY}" "${SECONDS_TO_RUN}" "${PATHS[@]}"
+  curl -s "${BASE_URL}/actuator/metrics/db.bulkhead.wait" | sed 's/^/bulkhead: /' || true
+  echo
+  kill ${pid}
+  wait ${pid} 2>/dev/null || true
+  trap - EXIT
+}
+
+run_mode platform
+run_mode virtual --spring.profiles.active=virtual
@@ -0,0 +1,86 @@
+package com.jobmanagement.benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+// JMH 실행 진입점: JMH 명령행 옵션을 그대로 받고 GC 프로파일러를 항상 붙임
+// 실행 후 벤치마크별 gc.alloc.rate.norm(B/op)을 alloc-budget.properties의 한도와 비교해서
+// 하나라도 넘으면 종료 코드 1 (배포 전 CI에서 할당 회귀 확인용)
+public final class BenchmarkRunner {
+    
+    private static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+    
+    private BenchmarkRunner() {
+    }
+    
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList()) {
+            if (commandLine.shouldHelp()) {
+                commandLine.showHelp();
+            } else {
+                new Runner(commandLine).list();
+            }
+            return;
+        }
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+        
+        Properties budgets = loadBudgets();
+        int exceeded = 0;
+        System.out.println();
+        System.out.printf("%-60s %14s %14s%n", "benchmark", "B/op", "budget");
+        for (RunResult result : results) {
+            String key = budgetKey(result.getParams());
+            Result<?> allocation = result.getSecondaryResults().get(ALLOC_METRIC);
+            if (allocation == null) {
+                continue;
+            }
+            double bytesPerOp = allocation.getScore();
+            String budget = budgets.getProperty(key);
+            boolean over = budget != null && bytesPerOp > Double.parseDouble(budget);
+            exceeded += over ? 1 : 0;
+            System.out.printf("%-60s %14.1f %14s%s%n", key, bytesPerOp, budget != null ? budget : "-", over ? "  << 초과" : "");
+        }
+        
+        if (exceeded > 0) {
+            System.out.println(exceeded + "개 벤치마크가 할당 한도를 넘었습니다.");
+            System.exit(1);
+        }
+    }
+    
+    // 예: ListMappingBenchmark.stream.100
+    static String budgetKey(BenchmarkParams params) {
+        String benchmark = params.getBenchmark();
+        String name = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+        String values = params.getParamsKeys().stream()
+                .map(params::getParam)
+                .collect(Collectors.joining("."));
+        return values.isEmpty() ? name : name + "." + values;
+    }
+    
+    private static Properties loadBudgets() throws IOException {
+        Properties budgets = new Properties();
+        try (InputStream in = BenchmarkRunner.class.getResourceAsStream("/alloc-budget.properties")) {
+            if (in != null) {
+                budgets.load(in);
+            }
+        }
+        return budgets;
+    }
+}
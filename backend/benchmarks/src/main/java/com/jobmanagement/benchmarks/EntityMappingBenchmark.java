@@ -0,0 +1,57 @@
+package com.jobmanagement.benchmarks;
+
+import com.jobmanagement.dto.ApplicationDto;
+import com.jobmanagement.dto.CompanyDto;
+import com.jobmanagement.dto.ResumeDto;
+import com.jobmanagement.dto.UserDto;
+import com.jobmanagement.entity.Application;
+import com.jobmanagement.entity.Company;
+import com.jobmanagement.entity.Resume;
+import com.jobmanagement.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 엔티티 한 건 → DTO (Lombok 빌더) 변환 비용
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityMappingBenchmark {
+    
+    private Application application;
+    private Resume resume;
+    private User user;
+    private Company company;
+    
+    @Setup
+    public void setUp() {
+        application = Fixtures.applications(1).get(0);
+        user = Fixtures.user();
+        resume = Fixtures.resume(user);
+        company = Fixtures.company(1);
+    }
+    
+    @Benchmark
+    public ApplicationDto applicationDto() {
+        return ApplicationDto.from(application);
+    }
+    
+    @Benchmark
+    public ResumeDto resumeDto() {
+        return ResumeDto.from(resume);
+    }
+    
+    // 하드코딩된 소개 문구를 문자열 연결로 만들므로 다른 DTO보다 할당이 많음
+    @Benchmark
+    public UserDto userDto() {
+        return UserDto.from(user);
+    }
+    
+    @Benchmark
+    public CompanyDto companyDto() {
+        return CompanyDto.from(company);
+    }
+}
@@ -0,0 +1,166 @@
+package com.jobmanagement.benchmarks;
+
+import com.jobmanagement.entity.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// 벤치마크용 엔티티 (DB 없이 메모리에서 생성)
+// 행마다 회사명, 메모 문장 조합/길이, 날짜, 버전이 달라서 실제 응답처럼 압축률이 형식마다 다르게 나옴
+// (같은 문자열을 반복하면 gzip 후 크기가 형식과 무관하게 거의 같아져서 비교가 안 됨)
+// 시드를 고정해서 실행마다 같은 데이터 (할당량 한도 비교가 흔들리지 않게)
+final class Fixtures {
+    
+    private static final long SEED = 20240315L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 15, 10, 30, 15, 123_000_000);
+    private static final String[] COMPANY_PREFIXES = {"한빛", "새롬", "누리", "다온", "미래", "가온", "하늘", "바른", "든든", "푸른", "별빛", "온새미", "아름", "한결", "초록"};
+    private static final String[] COMPANY_SUFFIXES = {"소프트", "테크", "랩스", "네트웍스", "시스템즈", "로보틱스", "바이오", "모빌리티", "페이", "커머스", "게임즈", "에듀"};
+    private static final String[] INDUSTRIES = {"IT/인터넷", "핀테크", "커머스", "게임", "바이오", "모빌리티", "교육"};
+    private static final String[] LOCATIONS = {"서울특별시", "경기도 성남시", "경기도 판교", "부산광역시", "대전광역시", "원격"};
+    private static final String[] RESUME_TITLES = {"기본 이력서", "백엔드 개발자 이력서", "프론트엔드 개발자 이력서", "데이터 직무 이력서", "경력 기술서"};
+    private static final String[] SENTENCES = {
+            "1차 코딩테스트 통과, 2차 기술 면접 준비 중.",
+            "자료구조와 알고리즘 관련 질문이 많았다고 함.",
+            "포트폴리오에서 대용량 트래픽 처리 경험을 강조할 것.",
+            "인사 담당자와 연봉 협상 일정 조율 필요.",
+            "과제 전형 제출 완료, 결과는 2주 뒤 발표.",
+            "Spring 트랜잭션과 JPA 지연 로딩에 대해 질문 받음.",
+            "팀 문화와 코드 리뷰 방식이 마음에 들었다.",
+            "지원 동기와 입사 후 포부를 구체적으로 정리해야 함.",
+            "협업 경험과 갈등 해결 사례를 준비할 것.",
+            "서류 마감일 전에 자기소개서 분량을 다시 확인."
+    };
+    
+    private Fixtures() {
+    }
+    
+    static User user() {
+        return User.builder()
+                .userId(1L)
+                .name("박건도")
+                .careerLevel(User.CareerLevel.NEWCOMER)
+                .jobCategory("개발자")
+                .profileImageUrl("https://cdn.example.com/profile/1.png")
+                .isMatchingEnabled(true)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+    
+    // ID마다 같은 회사 (이름/업종/위치는 ID로 정해지는 난수)
+    static Company company(long id) {
+        SplittableRandom random = new SplittableRandom(SEED ^ id);
+        return Company.builder()
+                .companyId(id)
+                .name(pick(random, COMPANY_PREFIXES) + pick(random, COMPANY_SUFFIXES))
+                .industry(pick(random, INDUSTRIES))
+                .size(Company.CompanySize.values()[random.nextInt(Company.CompanySize.values().length)])
+                .location(pick(random, LOCATIONS))
+                .createdAt(NOW.minusDays(random.nextInt(365)).minusSeconds(random.nextInt(86_400)))
+                .updatedAt(NOW.minusSeconds(random.nextInt(86_400 * 30)))
+                .build();
+    }
+    
+    static Resume resume(User user) {
+        return resume(user, 1L);
+    }
+    
+    static Resume resume(User user, long id) {
+        SplittableRandom random = new SplittableRandom(SEED ^ (id << 20));
+        return Resume.builder()
+                .resumeId(id)
+                .user(user)
+                .title(RESUME_TITLES[(int) ((id - 1) % RESUME_TITLES.length)])
+                .isPrimary(id == 1)
+                .jobCategory("IT개발·데이터")
+                .targetCompanyType(random.nextBoolean() ? "스타트업 지원" : "대기업 지원용")
+                .targetLocation(pick(random, LOCATIONS))
+                .isPublic(random.nextBoolean())
+                .version((long) random.nextInt(4))
+                .createdAt(NOW.minusDays(30 + random.nextInt(300)))
+                .updatedAt(NOW.minusSeconds(random.nextInt(86_400 * 30)))
+                .build();
+    }
+    
+    static CoverLetter coverLetter(User user, long id) {
+        SplittableRandom random = new SplittableRandom(SEED ^ (id << 40));
+        return CoverLetter.builder()
+                .coverLetterId(id)
+                .user(user)
+                .title(pick(random, COMPANY_PREFIXES) + " 자기소개서 " + id)
+                .contentLength(800 + random.nextInt(3200))
+                .isTemplate(id == 1)
+                .version((long) random.nextInt(6))
+                .createdAt(NOW.minusDays(random.nextInt(200)))
+                .updatedAt(NOW.minusSeconds(random.nextInt(86_400 * 30)))
+                .build();
+    }
+    
+    static List<Company> companies(int size) {
+        List<Company> companies = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            companies.add(company(id));
+        }
+        return companies;
+    }
+    
+    // 이력서 70%, 자기소개서 40%, 메모 50% (1~4문장, 일정/숫자가 섞인 문장 포함)로 null 분기도 함께 지나가게 함
+    // 회사는 앞쪽 ID에 몰리게 (인기 회사에 지원이 몰리는 실제 분포와 비슷하게)
+    static List<Application> applications(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        User user = user();
+        List<Resume> resumes = new ArrayList<>();
+        List<CoverLetter> coverLetters = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            resumes.add(resume(user, id));
+        }
+        for (long id = 1; id <= 5; id++) {
+            coverLetters.add(coverLetter(user, id));
+        }
+        Application.ApplicationStatus[] statuses = Application.ApplicationStatus.values();
+        List<Application> applications = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime createdAt = NOW.minusMinutes(random.nextInt(60 * 24 * 180));
+            applications.add(Application.builder()
+                    .applicationId(1000L + i * 7L + random.nextInt(7))
+                    .user(user)
+                    .company(company(1 + (long) (200 * Math.pow(random.nextDouble(), 2))))
+                    .resume(random.nextInt(10) < 7 ? resumes.get(random.nextInt(resumes.size())) : null)
+                    .coverLetter(random.nextInt(10) < 4 ? coverLetters.get(random.nextInt(coverLetters.size())) : null)
+                    .status(statuses[random.nextInt(statuses.length)])
+                    .appliedDate(random.nextInt(10) < 9 ? createdAt.toLocalDate().minusDays(random.nextInt(14)) : null)
+                    .notes(random.nextBoolean() ? notes(random) : null)
+                    .version((long) random.nextInt(8))
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt.plusMinutes(random.nextInt(60 * 24 * 30)))
+                    .build());
+        }
+        return applications;
+    }
+    
+    private static String notes(SplittableRandom random) {
+        StringBuilder text = new StringBuilder();
+        int sentences = 1 + random.nextInt(4);
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            if (random.nextInt(4) == 0) {
+                LocalDate date = LocalDate.of(2024, 3, 1).plusDays(random.nextInt(60));
+                text.append(date.getMonthValue()).append("월 ").append(date.getDayOfMonth()).append("일 ")
+                        .append(9 + random.nextInt(9)).append("시 면접, 담당자 연락처 010-")
+                        .append(1000 + random.nextInt(9000)).append('-').append(1000 + random.nextInt(9000)).append('.');
+            } else {
+                text.append(pick(random, SENTENCES));
+            }
+        }
+        return text.toString();
+    }
+    
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
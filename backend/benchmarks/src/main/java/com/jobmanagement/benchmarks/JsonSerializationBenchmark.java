@@ -0,0 +1,77 @@
+package com.jobmanagement.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobmanagement.dto.*;
+import com.jobmanagement.entity.Application;
+import com.jobmanagement.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Jackson 직렬화 비용 (MappingJackson2HttpMessageConverter가 하는 일과 같은 writeValueAsBytes)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+    
+    @Param({"20", "100"})
+    private int size;
+    
+    private ObjectMapper objectMapper;
+    private List<Application> applications;
+    private ApplicationPageDto page;
+    private List<CompanyDto> companies;
+    private DashboardDto dashboard;
+    
+    @Setup
+    public void setUp() {
+        // 스프링 부트 기본 설정과 같은 빌더 (JavaTimeModule, 날짜는 ISO 문자열)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        applications = Fixtures.applications(size);
+        List<ApplicationDto> items = applications.stream().map(ApplicationDto::from).collect(Collectors.toList());
+        page = ApplicationPageDto.builder().items(items).nextCursor("MjAyNC0wMy0xNXwxMjM").hasNext(true).build();
+        companies = Fixtures.companies(size).stream().map(CompanyDto::from).collect(Collectors.toList());
+        
+        User user = Fixtures.user();
+        dashboard = DashboardDto.builder()
+                .user(UserDto.from(user))
+                .primaryResume(ResumeDto.from(Fixtures.resume(user)))
+                .stats(ApplicationStatsDto.builder()
+                        .totalApplications(42L).appliedCount(20L).documentPassCount(12L)
+                        .finalPassCount(3L).rejectedCount(7L)
+                        .build())
+                .recentApplications(items.subList(0, 5))
+                .degradedSections(List.of())
+                .build();
+    }
+    
+    @Benchmark
+    public byte[] applicationPage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+    
+    @Benchmark
+    public byte[] companyList() throws Exception {
+        return objectMapper.writeValueAsBytes(companies);
+    }
+    
+    @Benchmark
+    public byte[] dashboard() throws Exception {
+        return objectMapper.writeValueAsBytes(dashboard);
+    }
+    
+    // 엔티티 → DTO → JSON까지 응답 한 번의 전체 경로
+    @Benchmark
+    public byte[] mapAndSerializeApplications() throws Exception {
+        List<ApplicationDto> dtos = applications.stream()
+                .map(ApplicationDto::from)
+                .collect(Collectors.toList());
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+}
@@ -0,0 +1,48 @@
+package com.jobmanagement.benchmarks;
+
+import com.jobmanagement.dto.ApplicationDto;
+import com.jobmanagement.entity.Application;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 서비스 계층의 목록 변환 (stream().map(Dto::from).collect(toList()))
+// 같은 결과를 미리 크기를 잡은 ArrayList에 채우는 반복문과 비교
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListMappingBenchmark {
+    
+    // 20: 페이지 기본 크기, 100: 페이지 최대 크기, 1000: 전체 목록 조회
+    @Param({"20", "100", "1000"})
+    private int size;
+    
+    private List<Application> applications;
+    
+    @Setup
+    public void setUp() {
+        applications = Fixtures.applications(size);
+    }
+    
+    @Benchmark
+    public List<ApplicationDto> stream() {
+        return applications.stream()
+                .map(ApplicationDto::from)
+                .collect(Collectors.toList());
+    }
+    
+    @Benchmark
+    public List<ApplicationDto> presizedLoop() {
+        List<ApplicationDto> dtos = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            dtos.add(ApplicationDto.from(application));
+        }
+        return dtos;
+    }
+}
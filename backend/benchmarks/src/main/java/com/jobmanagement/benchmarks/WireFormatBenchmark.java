@@ -0,0 +1,65 @@
+package com.jobmanagement.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.jobmanagement.config.WireFormatConfig;
+import com.jobmanagement.dto.ApplicationDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+// 응답 형식별 직렬화 CPU와 전송 크기 (ApplicationDto 목록, WireFormatConfig와 같은 설정)
+// 전송 크기는 시행마다 한 번 출력: [wire] format=cbor size=100 bytes=... gzip=...
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+    
+    @Param({"20", "100"})
+    private int size;
+    
+    @Param({"json", "cbor", "smile"})
+    private String format;
+    
+    private ObjectMapper objectMapper;
+    private List<ApplicationDto> items;
+    
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> WireFormatConfig.smileFactory();
+            default -> new JsonFactory();
+        };
+        objectMapper = Jackson2ObjectMapperBuilder.json().factory(factory).build();
+        items = Fixtures.applications(size).stream().map(ApplicationDto::from).collect(Collectors.toList());
+        
+        System.out.printf("%n[wire] format=%s size=%d bytes=%d gzip=%d%n",
+                format, size, serialize().length, serializeGzip().length);
+    }
+    
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(items);
+    }
+    
+    // Tomcat 응답 압축과 같은 gzip 기본 수준
+    @Benchmark
+    public byte[] serializeGzip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            objectMapper.writeValue(gzip, items);
+        }
+        return out.toByteArray();
+    }
+}
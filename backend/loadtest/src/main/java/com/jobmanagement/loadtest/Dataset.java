@@ -0,0 +1,71 @@
+package com.jobmanagement.loadtest;
+
+import com.jobmanagement.util.HangulJamo;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+// 부하 요청에 쓸 id/검색어 (DB에서 읽음, 데이터 생성을 건너뛴 경우에도 동일)
+// 사용자/회사는 지원 건수가 많은 순으로 정렬해서 요청도 같은 Zipf 분포로 몰리게 함
+final class Dataset {
+    
+    final long[] usersByActivity;
+    final String[] companyNamesByPopularity;
+    final long[] companyIdsByPopularity;
+    final long minApplicationId;
+    final long maxApplicationId;
+    
+    private Dataset(long[] usersByActivity, long[] companyIdsByPopularity, String[] companyNamesByPopularity,
+                    long minApplicationId, long maxApplicationId) {
+        this.usersByActivity = usersByActivity;
+        this.companyIdsByPopularity = companyIdsByPopularity;
+        this.companyNamesByPopularity = companyNamesByPopularity;
+        this.minApplicationId = minApplicationId;
+        this.maxApplicationId = maxApplicationId;
+    }
+    
+    static Dataset load(Connection connection) throws SQLException {
+        List<Long> users = new ArrayList<>();
+        List<Long> companyIds = new ArrayList<>();
+        List<String> companyNames = new ArrayList<>();
+        long minApplicationId;
+        long maxApplicationId;
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT u.user_id FROM users u LEFT JOIN application_status_counts c ON c.user_id = u.user_id " +
+                    "ORDER BY COALESCE(c.applied_count + c.document_pass_count + c.final_pass_count + c.rejected_count, 0) DESC, u.user_id")) {
+                while (rs.next()) {
+                    users.add(rs.getLong(1));
+                }
+            }
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT c.company_id, c.name FROM companies c " +
+                    "LEFT JOIN (SELECT company_id, COUNT(*) AS cnt FROM applications GROUP BY company_id) a ON a.company_id = c.company_id " +
+                    "ORDER BY COALESCE(a.cnt, 0) DESC, c.company_id")) {
+                while (rs.next()) {
+                    companyIds.add(rs.getLong(1));
+                    companyNames.add(rs.getString(2));
+                }
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MIN(application_id), 0), COALESCE(MAX(application_id), 0) FROM applications")) {
+                rs.next();
+                minApplicationId = rs.getLong(1);
+                maxApplicationId = rs.getLong(2);
+            }
+        }
+        return new Dataset(users.stream().mapToLong(Long::longValue).toArray(),
+                companyIds.stream().mapToLong(Long::longValue).toArray(),
+                companyNames.toArray(new String[0]),
+                minApplicationId, maxApplicationId);
+    }
+    
+    // 자동완성 입력: 앞 1~2글자 또는 초성 (사람이 입력하는 도중의 모습)
+    static String typeaheadQuery(String companyName, int variant) {
+        String prefix = companyName.substring(0, Math.min(companyName.length(), 1 + variant % 2));
+        return variant % 3 == 2 ? HangulJamo.chosungOf(prefix) : prefix;
+    }
+}
@@ -0,0 +1,404 @@
+package com.jobmanagement.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.zip.GZIPOutputStream;
+
+// 합성 데이터셋 생성: 사용자, 회사, 이력서, 자기소개서, 지원 내역을 JDBC 배치로 삽입
+// - 지원 내역은 사용자/회사 모두 Zipf 분포로 뽑아서 일부 사용자와 인기 회사에 몰리게 함
+// - 지원일은 최근일수록 많고, 상태 비율은 지원 > 탈락 > 서류 합격 > 최종 합격
+// - 끝나면 application_status_counts를 원본에서 다시 계산
+final class DatasetGenerator {
+
+    private static final int BATCH_SIZE = 5000;
+    // 백엔드 cover-letters.compress-min-bytes 기본값과 같게
+    private static final int COMPRESS_MIN_BYTES = 512;
+
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "지우", "하준", "서윤", "은우", "하은", "시우", "지아", "건도", "유진", "현우", "수아"};
+    private static final String[] JOB_CATEGORIES = {"개발자", "데이터 엔지니어", "디자이너", "PM", "마케터", "QA"};
+    private static final String[] COMPANY_PREFIXES = {"한빛", "새롬", "누리", "다온", "미래", "가온", "하늘", "바른", "든든", "푸른", "별빛", "온새미", "아름", "한결", "초록"};
+    private static final String[] COMPANY_SUFFIXES = {"소프트", "테크", "랩스", "네트웍스", "시스템즈", "로보틱스", "바이오", "모빌리티", "페이", "커머스", "게임즈", "에듀"};
+    private static final String[] INDUSTRIES = {"IT/인터넷", "핀테크", "커머스", "게임", "바이오", "모빌리티", "교육"};
+    private static final String[] SIZES = {"STARTUP", "MEDIUM", "LARGE"};
+    private static final String[] LOCATIONS = {"서울특별시", "경기도 성남시", "경기도 판교", "부산광역시", "대전광역시", "원격"};
+    private static final String[] RESUME_TITLES = {"기본 이력서", "백엔드 개발자 이력서", "프론트엔드 개발자 이력서", "데이터 직무 이력서", "경력 기술서"};
+    private static final String[] SENTENCES = {
+            "1차 코딩테스트 통과, 2차 기술 면접 준비 중.",
+            "자료구조와 알고리즘 관련 질문이 많았다고 함.",
+            "포트폴리오에서 대용량 트래픽 처리 경험을 강조할 것.",
+            "인사 담당자와 연봉 협상 일정 조율 필요.",
+            "과제 전형 제출 완료, 결과는 2주 뒤 발표.",
+            "Spring 트랜잭션과 JPA 지연 로딩에 대해 질문 받음.",
+            "팀 문화와 코드 리뷰 방식이 마음에 들었다.",
+            "지원 동기와 입사 후 포부를 구체적으로 정리해야 함.",
+            "협업 경험과 갈등 해결 사례를 준비할 것.",
+            "서류 마감일 전에 자기소개서 분량을 다시 확인."
+    };
+    // 상태 비율: APPLIED 55%, DOCUMENT_PASS 15%, FINAL_PASS 5%, REJECTED 25%
+    private static final String[] STATUSES = {"APPLIED", "DOCUMENT_PASS", "FINAL_PASS", "REJECTED"};
+    private static final double[] STATUS_CUMULATIVE = {0.55, 0.70, 0.75, 1.0};
+
+    private final Connection connection;
+    private final int users;
+    private final int companies;
+    private final int applications;
+    private final int resumesPerUser;
+    private final int coverLettersPerUser;
+    private final double userSkew;
+    private final double companySkew;
+    private final SplittableRandom random;
+    private final long seed;
+
+    DatasetGenerator(Connection connection, LoadTestOptions options) {
+        this.connection = connection;
+        this.users = options.getInt("users", 10_000);
+        this.companies = options.getInt("companies", 2_000);
+        this.applications = options.getInt("applications", 100_000);
+        this.resumesPerUser = options.getInt("resumes-per-user", 3);
+        this.coverLettersPerUser = options.getInt("cover-letters-per-user", 5);
+        this.userSkew = options.getDouble("user-skew", 1.1);
+        this.companySkew = options.getDouble("company-skew", 1.2);
+        this.seed = options.getLong("seed", 42L);
+        this.random = new SplittableRandom(seed);
+    }
+
+    void generate() throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            long[] userIds = insertUsers();
+            long[] companyIds = insertCompanies();
+            IdRanges resumes = insertResumes(userIds);
+            IdRanges coverLetters = insertCoverLetters(userIds);
+            insertCoverLetterContents(userIds, coverLetters);
+            insertApplications(userIds, companyIds, resumes, coverLetters);
+            recalculateStatusCounts();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private long[] insertUsers() throws SQLException {
+        long before = maxId("users", "user_id");
+        long started = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO users (name, career_level, job_category, is_matching_enabled) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < users; i++) {
+                statement.setString(1, pick(SURNAMES) + pick(GIVEN_NAMES));
+                statement.setString(2, random.nextInt(10) < 6 ? "NEWCOMER" : "EXPERIENCED");
+                statement.setString(3, pick(JOB_CATEGORIES));
+                statement.setBoolean(4, random.nextBoolean());
+                addBatch(statement, i + 1);
+            }
+            flush(statement);
+        }
+        log("users", users, started);
+        return idsAfter("users", "user_id", before);
+    }
+
+    // 접두어 × 접미어 조합이 모자라면 번호를 붙여 이름 중복(UNIQUE)을 피함
+    private long[] insertCompanies() throws SQLException {
+        long before = maxId("companies", "company_id");
+        long started = System.nanoTime();
+        int combinations = COMPANY_PREFIXES.length * COMPANY_SUFFIXES.length;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO companies (name, industry, size, location) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < companies; i++) {
+                String name = COMPANY_PREFIXES[i % COMPANY_PREFIXES.length]
+                        + COMPANY_SUFFIXES[(i / COMPANY_PREFIXES.length) % COMPANY_SUFFIXES.length]
+                        + (i >= combinations ? " " + (i / combinations + 1) : "");
+                statement.setString(1, name);
+                statement.setString(2, pick(INDUSTRIES));
+                statement.setString(3, pick(SIZES));
+                statement.setString(4, pick(LOCATIONS));
+                addBatch(statement, i + 1);
+            }
+            flush(statement);
+        }
+        log("companies", companies, started);
+        return idsAfter("companies", "company_id", before);
+    }
+
+    private IdRanges insertResumes(long[] userIds) throws SQLException {
+        long started = System.nanoTime();
+        int rows = 0;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO resumes (user_id, title, is_primary, job_category, target_company_type, target_location, is_public) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (long userId : userIds) {
+                int count = 1 + random.nextInt(Math.max(1, resumesPerUser));
+                for (int i = 0; i < count; i++) {
+                    statement.setLong(1, userId);
+                    statement.setString(2, RESUME_TITLES[i % RESUME_TITLES.length]);
+                    statement.setBoolean(3, i == 0);
+                    statement.setString(4, "IT개발·데이터");
+                    statement.setString(5, random.nextBoolean() ? "스타트업 지원" : "대기업 지원용");
+                    statement.setString(6, pick(LOCATIONS));
+                    statement.setBoolean(7, random.nextBoolean());
+                    addBatch(statement, ++rows);
+                }
+            }
+            flush(statement);
+        }
+        log("resumes", rows, started);
+        return idRanges("resumes", "resume_id", userIds);
+    }
+
+    private IdRanges insertCoverLetters(long[] userIds) throws SQLException {
+        long started = System.nanoTime();
+        int rows = 0;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO cover_letters (user_id, title, is_template) VALUES (?, ?, ?)")) {
+            for (long userId : userIds) {
+                int count = random.nextInt(coverLettersPerUser + 1);
+                for (int i = 0; i < count; i++) {
+                    statement.setLong(1, userId);
+                    statement.setString(2, COMPANY_PREFIXES[random.nextInt(COMPANY_PREFIXES.length)] + " 자기소개서 " + (i + 1));
+                    statement.setBoolean(3, i == 0);
+                    addBatch(statement, ++rows);
+                }
+            }
+            flush(statement);
+        }
+        log("cover_letters", rows, started);
+        return idRanges("cover_letters", "cover_letter_id", userIds);
+    }
+
+    // 본문은 백엔드(CoverLetterContentStore)와 같은 방식으로 저장 (일정 크기 이상이면 GZIP), 글자 수는 cover_letters에 반영
+    private void insertCoverLetterContents(long[] userIds, IdRanges coverLetters) throws SQLException {
+        long started = System.nanoTime();
+        int rows = 0;
+        try (PreparedStatement contents = connection.prepareStatement(
+                "INSERT INTO cover_letter_contents (cover_letter_id, user_id, encoding, data) VALUES (?, ?, ?, ?)");
+             PreparedStatement lengths = connection.prepareStatement(
+                "UPDATE cover_letters SET content_length = ? WHERE cover_letter_id = ?")) {
+            for (long userId : userIds) {
+                for (long coverLetterId : coverLetters.of(userId)) {
+                    String content = paragraph(20 + random.nextInt(40));
+                    byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+                    byte[] compressed = raw.length >= COMPRESS_MIN_BYTES ? gzip(raw) : raw;
+                    boolean gzip = compressed.length < raw.length;
+                    contents.setLong(1, coverLetterId);
+                    contents.setLong(2, userId);
+                    contents.setString(3, gzip ? "GZIP" : "PLAIN");
+                    contents.setBytes(4, gzip ? compressed : raw);
+                    contents.addBatch();
+                    lengths.setInt(1, content.length());
+                    lengths.setLong(2, coverLetterId);
+                    lengths.addBatch();
+                    if (++rows % BATCH_SIZE == 0) {
+                        contents.executeBatch();
+                        flush(lengths);
+                    }
+                }
+            }
+            contents.executeBatch();
+            flush(lengths);
+        }
+        log("cover_letter_contents", rows, started);
+    }
+
+    private void insertApplications(long[] userIds, long[] companyIds, IdRanges resumes, IdRanges coverLetters) throws SQLException {
+        long started = System.nanoTime();
+        // 순위 → id 매핑을 섞어서 인기 사용자/회사가 id 순서와 무관하게 퍼지도록 함
+        long[] userByRank = shuffled(userIds);
+        long[] companyByRank = shuffled(companyIds);
+        ZipfDistribution userDistribution = new ZipfDistribution(userByRank.length, userSkew);
+        ZipfDistribution companyDistribution = new ZipfDistribution(companyByRank.length, companySkew);
+        LocalDate today = LocalDate.now();
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO applications (user_id, company_id, resume_id, cover_letter_id, status, applied_date, notes) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < applications; i++) {
+                long userId = userByRank[userDistribution.sample(random)];
+                statement.setLong(1, userId);
+                statement.setLong(2, companyByRank[companyDistribution.sample(random)]);
+                setNullableLong(statement, 3, random.nextInt(10) < 7 ? resumes.pick(userId, random) : null);
+                setNullableLong(statement, 4, random.nextInt(10) < 4 ? coverLetters.pick(userId, random) : null);
+                statement.setString(5, status());
+                // 최근 1년, 지수 분포로 최근 날짜에 몰림 (평균 약 60일 전)
+                int daysAgo = (int) Math.min(364, -60 * Math.log(1 - random.nextDouble()));
+                statement.setDate(6, Date.valueOf(today.minusDays(daysAgo)));
+                statement.setString(7, random.nextInt(10) < 5 ? paragraph(1 + random.nextInt(3)) : null);
+                addBatch(statement, i + 1);
+                if ((i + 1) % Math.max(1, applications / 10) == 0) {
+                    System.out.printf("  applications %,d / %,d%n", i + 1, applications);
+                }
+            }
+            flush(statement);
+        }
+        log("applications", applications, started);
+    }
+
+    private void recalculateStatusCounts() throws SQLException {
+        long started = System.nanoTime();
+        int rows;
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM application_status_counts");
+            rows = statement.executeUpdate(
+                    "INSERT INTO application_status_counts (user_id, applied_count, document_pass_count, final_pass_count, rejected_count) " +
+                    "SELECT user_id, SUM(status = 'APPLIED'), SUM(status = 'DOCUMENT_PASS'), " +
+                    "SUM(status = 'FINAL_PASS'), SUM(status = 'REJECTED') FROM applications GROUP BY user_id");
+        }
+        connection.commit();
+        log("application_status_counts", rows, started);
+    }
+
+    private void addBatch(PreparedStatement statement, int row) throws SQLException {
+        statement.addBatch();
+        if (row % BATCH_SIZE == 0) {
+            flush(statement);
+        }
+    }
+
+    private void flush(PreparedStatement statement) throws SQLException {
+        statement.executeBatch();
+        connection.commit();
+    }
+
+    private long maxId(String table, String column) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private long[] idsAfter(String table, String column, long after) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT " + column + " FROM " + table + " WHERE " + column + " > ? ORDER BY " + column)) {
+            statement.setLong(1, after);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // 방금 넣은 행을 사용자별 id 목록으로 다시 읽음
+    private IdRanges idRanges(String table, String idColumn, long[] userIds) throws SQLException {
+        IdRanges ranges = new IdRanges(userIds);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT user_id, " + idColumn + " FROM " + table + " WHERE user_id BETWEEN ? AND ? ORDER BY user_id, " + idColumn)) {
+            statement.setLong(1, userIds.length == 0 ? 0 : userIds[0]);
+            statement.setLong(2, userIds.length == 0 ? -1 : userIds[userIds.length - 1]);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    ranges.add(rs.getLong(1), rs.getLong(2));
+                }
+            }
+        }
+        return ranges;
+    }
+
+    private long[] shuffled(long[] ids) {
+        List<Long> list = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            list.add(id);
+        }
+        Collections.shuffle(list, new Random(seed));
+        return list.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private String status() {
+        double value = random.nextDouble();
+        for (int i = 0; i < STATUS_CUMULATIVE.length; i++) {
+            if (value < STATUS_CUMULATIVE[i]) {
+                return STATUSES[i];
+            }
+        }
+        return STATUSES[STATUSES.length - 1];
+    }
+
+    private String paragraph(int sentences) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(pick(SENTENCES));
+        }
+        return text.toString();
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static void setNullableLong(PreparedStatement statement, int index, Long value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.BIGINT);
+        } else {
+            statement.setLong(index, value);
+        }
+    }
+
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(raw.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void log(String table, int rows, long started) {
+        System.out.printf("  %-26s %,12d rows %,8d ms%n", table, rows, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // 사용자 id → 그 사용자의 이력서/자기소개서 id 목록
+    private static final class IdRanges {
+        private final long[] userIds;
+        private final List<List<Long>> ids;
+
+        private IdRanges(long[] userIds) {
+            this.userIds = userIds;
+            this.ids = new ArrayList<>(userIds.length);
+            for (int i = 0; i < userIds.length; i++) {
+                ids.add(null);
+            }
+        }
+
+        private void add(long userId, long id) {
+            int index = Arrays.binarySearch(userIds, userId);
+            if (index < 0) {
+                return;
+            }
+            if (ids.get(index) == null) {
+                ids.set(index, new ArrayList<>(4));
+            }
+            ids.get(index).add(id);
+        }
+
+        private List<Long> of(long userId) {
+            int index = Arrays.binarySearch(userIds, userId);
+            List<Long> result = index >= 0 ? ids.get(index) : null;
+            return result != null ? result : List.of();
+        }
+
+        private Long pick(long userId, SplittableRandom random) {
+            int index = Arrays.binarySearch(userIds, userId);
+            List<Long> candidates = index >= 0 ? ids.get(index) : null;
+            if (candidates == null || candidates.isEmpty()) {
+                return null;
+            }
+            return candidates.get(random.nextInt(candidates.size()));
+        }
+    }
+}
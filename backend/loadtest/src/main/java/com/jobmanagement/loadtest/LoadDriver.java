@@ -0,0 +1,241 @@
+package com.jobmanagement.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+// 고정 도착률(open model) 부하 발생기
+// - 응답을 기다리지 않고 정해진 간격마다 요청을 보내므로 서버가 느려져도 부하가 줄지 않음
+// - 지연 시간은 실제 전송 시각이 아니라 "보냈어야 할 시각"부터 재서 coordinated omission을 피함
+// - 동시 진행 요청이 max-in-flight를 넘으면 보내지 않고 dropped로 집계
+final class LoadDriver {
+    
+    static final String DEFAULT_MIX =
+            "page:30,stats:15,dashboard:15,companies:10,typeahead:10,search:5,funnel:5,activity:5,create:3,status:2";
+    
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final String[] SEARCH_TERMS = {"면접", "코딩테스트", "포트폴리오", "연봉", "과제", "트랜잭션", "자기소개서"};
+    private static final String[] STATUSES = {"APPLIED", "DOCUMENT_PASS", "FINAL_PASS", "REJECTED"};
+    
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Dataset dataset;
+    private final ZipfDistribution userDistribution;
+    private final ZipfDistribution companyDistribution;
+    private final SplittableRandom random;
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private final int totalWeight;
+    
+    LoadDriver(String baseUrl, Dataset dataset, LoadTestOptions options) {
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.userDistribution = new ZipfDistribution(dataset.usersByActivity.length, options.getDouble("user-skew", 1.1));
+        this.companyDistribution = new ZipfDistribution(dataset.companyIdsByPopularity.length, options.getDouble("company-skew", 1.2));
+        this.random = new SplittableRandom(options.getLong("seed", 42L) + 1);
+        
+        Map<String, Function<SplittableRandom, HttpRequest>> factories = requestFactories();
+        int weightSum = 0;
+        for (String entry : options.get("mix", DEFAULT_MIX).split(",")) {
+            String[] parts = entry.trim().split(":");
+            Function<SplittableRandom, HttpRequest> factory = factories.get(parts[0]);
+            if (factory == null) {
+                throw new IllegalArgumentException("알 수 없는 엔드포인트: " + parts[0] + " (사용 가능: " + factories.keySet() + ")");
+            }
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1]) : 1;
+            if (weight > 0) {
+                endpoints.add(new Endpoint(parts[0], weight, factory));
+                weightSum += weight;
+            }
+        }
+        this.totalWeight = weightSum;
+    }
+    
+    // 엔드포인트 이름 → 요청 생성 (사용자/회사는 Zipf 분포로 골라 인기 데이터에 몰리게 함)
+    private Map<String, Function<SplittableRandom, HttpRequest>> requestFactories() {
+        Map<String, Function<SplittableRandom, HttpRequest>> factories = new LinkedHashMap<>();
+        factories.put("page", r -> get("/api/applications/page?size=20&userId=" + user(r)));
+        factories.put("list", r -> get("/api/applications?userId=" + user(r)));
+        factories.put("stats", r -> get("/api/applications/stats?userId=" + user(r)));
+        factories.put("dashboard", r -> get("/api/dashboard?userId=" + user(r)));
+        factories.put("companies", r -> get("/api/companies"));
+        factories.put("typeahead", r -> get("/api/companies/search?q="
+                + encode(Dataset.typeaheadQuery(dataset.companyNamesByPopularity[companyDistribution.sample(r)], r.nextInt(3)))));
+        factories.put("search", r -> get("/api/search?userId=" + user(r) + "&q=" + encode(SEARCH_TERMS[r.nextInt(SEARCH_TERMS.length)])));
+        factories.put("funnel", r -> get("/api/applications/analytics/funnel?userId=" + user(r)));
+        factories.put("activity", r -> get("/api/activity-stats?userId=" + user(r)));
+        factories.put("export", r -> get("/api/applications/export?format=ndjson&userId=" + user(r)));
+        factories.put("create", r -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/applications"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(String.format(
+                        "{\"userId\":%d,\"companyId\":%d,\"status\":\"APPLIED\",\"appliedDate\":\"%s\",\"notes\":\"부하 테스트로 생성된 지원 내역\"}",
+                        user(r), dataset.companyIdsByPopularity[companyDistribution.sample(r)], LocalDate.now())))
+                .timeout(Duration.ofSeconds(30))
+                .build());
+        factories.put("status", r -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/applications/"
+                        + (dataset.minApplicationId + r.nextLong(Math.max(1, dataset.maxApplicationId - dataset.minApplicationId + 1)))
+                        + "/status?status=" + STATUSES[r.nextInt(STATUSES.length)]))
+                .PUT(HttpRequest.BodyPublishers.noBody())
+                .timeout(Duration.ofSeconds(30))
+                .build());
+        return factories;
+    }
+    
+    void run(int rate, int warmupSeconds, int durationSeconds, int maxInFlight) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        
+        System.out.printf("부하 시작: %d req/s, 워밍업 %ds + 측정 %ds, 엔드포인트 %s%n", rate, warmupSeconds, durationSeconds,
+                endpoints.stream().map(endpoint -> endpoint.name + ":" + endpoint.weight).toList());
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = pickEndpoint();
+            boolean measured = intended >= measureFrom;
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    endpoint.dropped.incrementAndGet();
+                }
+                continue;
+            }
+            HttpRequest request;
+            try {
+                request = endpoint.factory.apply(random);
+            } catch (RuntimeException e) {
+                inFlight.release();
+                throw e;
+            }
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long latencyMicros = (System.nanoTime() - intended) / 1000;
+                        if (measured) {
+                            endpoint.histogram.recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+                            if (error != null || response.statusCode() >= 400) {
+                                endpoint.errors.incrementAndGet();
+                            }
+                        }
+                        inFlight.release();
+                    });
+        }
+        // 남은 요청이 끝날 때까지 최대 30초 대기
+        if (!inFlight.tryAcquire(maxInFlight, 30, TimeUnit.SECONDS)) {
+            System.out.println("경고: 30초 안에 끝나지 않은 요청이 있습니다.");
+        }
+    }
+    
+    void printReport(int durationSeconds, String csvPath) throws IOException {
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        long totalDropped = 0;
+        List<String> csv = new ArrayList<>();
+        csv.add("endpoint,requests,errors,dropped,throughput,p50_ms,p90_ms,p99_ms,p999_ms,max_ms");
+        
+        System.out.println();
+        System.out.printf("%-12s %9s %7s %8s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "dropped", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Endpoint endpoint : endpoints) {
+            Histogram histogram = endpoint.histogram.copy();
+            total.add(histogram);
+            totalErrors += endpoint.errors.get();
+            totalDropped += endpoint.dropped.get();
+            csv.add(row(endpoint.name, histogram, endpoint.errors.get(), endpoint.dropped.get(), durationSeconds));
+        }
+        csv.add(row("TOTAL", total, totalErrors, totalDropped, durationSeconds));
+        
+        if (csvPath != null) {
+            Files.write(Path.of(csvPath), csv, StandardCharsets.UTF_8);
+            System.out.println("CSV 저장: " + csvPath);
+        }
+    }
+    
+    private static String row(String name, Histogram histogram, long errors, long dropped, int durationSeconds) {
+        long count = histogram.getTotalCount();
+        double throughput = count / (double) durationSeconds;
+        double p50 = millis(histogram, 50);
+        double p90 = millis(histogram, 90);
+        double p99 = millis(histogram, 99);
+        double p999 = millis(histogram, 99.9);
+        double max = count == 0 ? 0 : histogram.getMaxValue() / 1000.0;
+        System.out.printf("%-12s %9d %7d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, count, errors, dropped, throughput, p50, p90, p99, p999, max);
+        return String.format("%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f", name, count, errors, dropped, throughput, p50, p90, p99, p999, max);
+    }
+    
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getTotalCount() == 0 ? 0 : histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+    
+    private Endpoint pickEndpoint() {
+        int value = random.nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            value -= endpoint.weight;
+            if (value < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+    
+    private long user(SplittableRandom r) {
+        return dataset.usersByActivity[userDistribution.sample(r)];
+    }
+    
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+    
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+    
+    private static final class Endpoint {
+        private final String name;
+        private final int weight;
+        private final Function<SplittableRandom, HttpRequest> factory;
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        
+        private Endpoint(String name, int weight, Function<SplittableRandom, HttpRequest> factory) {
+            this.name = name;
+            this.weight = weight;
+            this.factory = factory;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.jobmanagement.loadtest;
+
+import com.jobmanagement.JobManagementApplication;
+import org.h2.tools.RunScript;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 부하 테스트 진입점
+// embedded: H2(MySQL 모드)에 init.sql 적용 → 데이터 생성 → 같은 JVM에서 백엔드 기동 → 부하
+// external: 지정한 DB에 데이터 생성 → 이미 떠 있는 백엔드에 부하
+public final class LoadTestMain {
+    
+    private static final String EMBEDDED_URL =
+            "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,DATE;DB_CLOSE_DELAY=-1";
+    
+    private static final String EMBEDDED_REPLICA_URL =
+            "jdbc:h2:mem:loadtest_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,DATE;DB_CLOSE_DELAY=-1";
+    
+    private static final String EMBEDDED_SHARD_URL =
+            "jdbc:h2:mem:loadtest_shard_%d;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,DATE;DB_CLOSE_DELAY=-1";
+    
+    private LoadTestMain() {
+    }
+    
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = new LoadTestOptions(args);
+        if (options.has("help")) {
+            System.out.println(LoadTestOptions.USAGE);
+            return;
+        }
+        boolean embedded = "embedded".equals(options.get("mode", "embedded"));
+        
+        ConfigurableApplicationContext context = null;
+        String baseUrl;
+        String managementUrl;
+        Dataset dataset;
+        if (embedded) {
+            Path schema = findSchema(options);
+            dataset = prepareEmbedded(EMBEDDED_URL, schema, options);
+            if (options.getBoolean("replica")) {
+                // 같은 seed로 만들어서 시작 시점에는 주 DB와 같고, 이후 쓰기는 복제되지 않음 (복제 지연이 끝없이 긴 복제본)
+                System.out.println("복제본 DB 생성");
+                prepareEmbedded(EMBEDDED_REPLICA_URL, schema, options);
+            }
+            for (int shard = 1; shard < options.getInt("shards", 1); shard++) {
+                prepareEmbeddedShard(shard, schema);
+            }
+            int port = options.getInt("port", 18080);
+            context = startBackend(port, options);
+            baseUrl = "http://localhost:" + port;
+            managementUrl = baseUrl;
+        } else {
+            String jdbcUrl = options.get("jdbc-url", null);
+            if (jdbcUrl == null) {
+                throw new IllegalArgumentException("external 모드에는 --jdbc-url이 필요합니다.");
+            }
+            try (Connection connection = DriverManager.getConnection(jdbcUrl,
+                    options.get("db-user", "myuser"), options.get("db-password", "mypassword"))) {
+                if (!options.getBoolean("skip-generate")) {
+                    new DatasetGenerator(connection, options).generate();
+                    System.out.println("참고: 전문 검색 색인과 회사 카탈로그는 기동 시 만들어지므로, 새로 생성한 데이터로 측정하려면 백엔드를 재시작하세요.");
+                }
+                dataset = Dataset.load(connection);
+            }
+            baseUrl = options.get("base-url", "http://localhost:8080");
+            managementUrl = options.get("management-url", baseUrl);
+        }
+        
+        int exitCode = 0;
+        try {
+            awaitHealthy(managementUrl);
+            int duration = options.getInt("duration", 60);
+            LoadDriver driver = new LoadDriver(baseUrl, dataset, options);
+            ServerMetrics before = ServerMetrics.scrape(managementUrl);
+            if (options.has("rebalance-after")) {
+                scheduleRebalance(managementUrl, options.getInt("warmup", 10) + options.getInt("rebalance-after", 20));
+            }
+            driver.run(options.getInt("rate", 200), options.getInt("warmup", 10), duration, options.getInt("max-in-flight", 2000));
+            driver.printReport(duration, options.get("report", null));
+            ServerMetrics.printDelta(before, ServerMetrics.scrape(managementUrl));
+        } catch (Exception e) {
+            e.printStackTrace();
+            exitCode = 1;
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+    
+    private static Dataset prepareEmbedded(String url, Path schema, LoadTestOptions options) throws Exception {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            System.out.println("스키마 적용: " + schema.toAbsolutePath().normalize());
+            try (Reader reader = Files.newBufferedReader(schema, StandardCharsets.UTF_8)) {
+                RunScript.execute(connection, reader);
+            }
+            new DatasetGenerator(connection, options).generate();
+            return Dataset.load(connection);
+        }
+    }
+    
+    // 스키마만 적용하고 사용자 소유 행은 비움 (회사는 그대로 두고 기동 후 0번 샤드에서 다시 복제됨)
+    // H2는 명시한 ID를 넣으면 AUTO_INCREMENT가 그 뒤로 건너뛰어 MySQL처럼 샤드별로 ID를 엇갈려 발급할 수 없으므로
+    // 샤드마다 겹치지 않는 ID 구간(shard << 40부터)에서 발급하고, 백엔드는 sharding.interleave-ids=false로 기동
+    private static void prepareEmbeddedShard(int shard, Path schema) throws Exception {
+        try (Connection connection = DriverManager.getConnection(EMBEDDED_SHARD_URL.formatted(shard), "sa", "")) {
+            System.out.println("샤드 " + shard + " DB 생성");
+            try (Reader reader = Files.newBufferedReader(schema, StandardCharsets.UTF_8)) {
+                RunScript.execute(connection, reader);
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("DELETE FROM users");
+                List<String[]> identities = new ArrayList<>();
+                try (ResultSet rs = statement.executeQuery(
+                        "SELECT table_name, column_name FROM information_schema.columns WHERE table_schema = SCHEMA() AND is_identity = 'YES'")) {
+                    while (rs.next()) {
+                        identities.add(new String[]{rs.getString(1), rs.getString(2)});
+                    }
+                }
+                for (String[] identity : identities) {
+                    statement.execute("ALTER TABLE " + identity[0] + " ALTER COLUMN " + identity[1] + " RESTART WITH " + ((long) shard << 40));
+                }
+            }
+        }
+    }
+    
+    // 부하 도중 버킷 이동 (이동한 사용자의 쓰기는 이동하는 동안 503으로 errors에 집계됨)
+    private static void scheduleRebalance(String managementUrl, int delaySeconds) {
+        Thread thread = new Thread(() -> {
+            try {
+                Thread.sleep(delaySeconds * 1000L);
+                System.out.println("버킷 이동 시작");
+                HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+                HttpRequest request = HttpRequest.newBuilder(URI.create(managementUrl + "/actuator/shards/rebalance"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"maxBuckets\": 1024}"))
+                        .build();
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                System.out.println("버킷 이동 결과 (" + response.statusCode() + "): " + response.body());
+            } catch (IOException | InterruptedException e) {
+                System.out.println("버킷 이동 실패: " + e);
+            }
+        }, "rebalance");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    // application.yml보다 우선하도록 명령행 인자로 넘김
+    private static ConfigurableApplicationContext startBackend(int port, LoadTestOptions options) {
+        List<String> properties = new ArrayList<>(List.of(
+                "--server.port=" + port,
+                "--spring.datasource.url=" + EMBEDDED_URL,
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--spring.sql.init.mode=never",
+                "--application-export.fetch-size=100",
+                "--search.rebuild-fetch-size=100",
+                "--logging.level.root=WARN",
+                "--logging.level.com.jobmanagement=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+        // 2차 캐시 효과 비교용 (끄면 엔티티의 @Cache와 findByName의 쿼리 캐시 힌트는 무시됨)
+        boolean l2Cache = !"false".equals(options.get("l2-cache", "true"));
+        if (!l2Cache) {
+            properties.add("--spring.jpa.properties.hibernate.cache.use_second_level_cache=false");
+            properties.add("--spring.jpa.properties.hibernate.cache.use_query_cache=false");
+        }
+        // readOnly 트랜잭션은 복제본 DB로 (읽기/쓰기 분리 확인용)
+        if (options.getBoolean("replica")) {
+            properties.add("--datasource-routing.enabled=true");
+            properties.add("--datasource-routing.replicas[0].url=" + EMBEDDED_REPLICA_URL);
+        }
+        int shards = options.getInt("shards", 1);
+        if (shards > 1) {
+            properties.add("--sharding.enabled=true");
+            properties.add("--sharding.interleave-ids=false");
+            properties.add("--sharding.migration-drain-ms=1000");
+            // 기본 노출 목록에는 없으므로 (인증 없는 쓰기 작업) localhost에만 뜨는 부하 테스트용 백엔드에서만 --rebalance-after용으로 노출
+            properties.add("--management.endpoints.web.exposure.include=health,metrics,prometheus,slowqueries,shards");
+            for (int shard = 1; shard < shards; shard++) {
+                properties.add("--sharding.shards[" + (shard - 1) + "].url=" + EMBEDDED_SHARD_URL.formatted(shard));
+                properties.add("--sharding.shards[" + (shard - 1) + "].username=sa");
+                properties.add("--sharding.shards[" + (shard - 1) + "].password=");
+            }
+        }
+        System.out.println("백엔드 기동: 포트 " + port + (l2Cache ? "" : " (2차 캐시 꺼짐)")
+                + (options.getBoolean("replica") ? " (읽기/쓰기 분리)" : "")
+                + (shards > 1 ? " (샤드 " + shards + "개)" : ""));
+        return new SpringApplicationBuilder(JobManagementApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run(properties.toArray(new String[0]));
+    }
+    
+    private static Path findSchema(LoadTestOptions options) {
+        if (options.has("schema")) {
+            return Path.of(options.get("schema", null));
+        }
+        for (String candidate : new String[]{"init.sql", "../init.sql", "../../init.sql"}) {
+            Path path = Path.of(candidate);
+            if (Files.isRegularFile(path)) {
+                return path;
+            }
+        }
+        throw new IllegalArgumentException("init.sql을 찾을 수 없습니다. --schema로 경로를 지정하세요.");
+    }
+    
+    private static void awaitHealthy(String managementUrl) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(managementUrl + "/actuator/health"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        long deadline = System.nanoTime() + Duration.ofMinutes(2).toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 기동 중
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("백엔드가 응답하지 않습니다: " + managementUrl);
+    }
+}
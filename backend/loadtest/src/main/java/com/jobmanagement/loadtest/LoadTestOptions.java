@@ -0,0 +1,80 @@
+package com.jobmanagement.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// --key=value 형식의 명령행 옵션
+final class LoadTestOptions {
+    
+    static final String USAGE = String.join("\n",
+            "usage: java -jar loadtest.jar [--key=value ...]",
+            "",
+            "  --mode=embedded|external   embedded: H2(MySQL 모드) + 같은 JVM에서 백엔드 기동 (기본)",
+            "                             external: 이미 떠 있는 MySQL/백엔드 사용",
+            "  --jdbc-url=...             external 모드 데이터 생성용 JDBC URL",
+            "  --db-user=... --db-password=...",
+            "  --base-url=http://localhost:8080   external 모드 백엔드 주소",
+            "  --management-url=http://localhost:8081   external 모드 actuator 주소 (management.server.port를 따로 둔 경우, 생략하면 base-url)",
+            "  --schema=../../init.sql    embedded 모드 스키마 파일 (생략하면 init.sql을 상위 디렉터리에서 찾음)",
+            "  --port=18080               embedded 모드 백엔드 포트",
+            "  --l2-cache=false           embedded 모드에서 2차 캐시를 끄고 기동 (켠 실행과 queries/req, 지연 시간 비교)",
+            "  --replica=true             embedded 모드에서 같은 데이터의 H2 복제본을 하나 더 만들고 readOnly 트랜잭션을 그쪽으로 보냄",
+            "                             (쓰기는 복제되지 않으므로 복제 지연이 끝없이 긴 복제본처럼 동작)",
+            "  --shards=2                 embedded 모드에서 빈 H2 샤드를 더 만들어 샤딩을 켬 (데이터는 모두 0번 샤드에서 시작)",
+            "  --rebalance-after=20       부하 시작 후 이 초가 지나면 /actuator/shards/rebalance로 버킷을 고르게 옮김 (이동 중 쓰기는 503)",
+            "                             external 모드에서는 백엔드가 shards 엔드포인트를 노출해야 함 (shards 프로필: 관리 포트 8081)",
+            "",
+            "  --users=10000 --companies=2000 --applications=1000000",
+            "  --resumes-per-user=3 --cover-letters-per-user=5   사용자별 최대 개수 (1~최대 사이 균등)",
+            "  --user-skew=1.1 --company-skew=1.2                Zipf 지수 (0이면 균등)",
+            "  --skip-generate=true       데이터 생성 생략 (이미 생성된 DB에 다시 부하만 줄 때)",
+            "  --seed=42",
+            "",
+            "  --rate=200                 초당 요청 수 (고정 도착률, 응답을 기다리지 않고 발사)",
+            "  --duration=60 --warmup=10  측정/워밍업 시간(초)",
+            "  --max-in-flight=2000       동시 진행 요청 상한, 넘으면 해당 요청은 dropped로 집계",
+            "  --mix=page:30,stats:15,... 엔드포인트별 가중치 (LoadDriver.DEFAULT_MIX 참고)",
+            "  --report=loadtest.csv      엔드포인트별 결과를 CSV로도 저장",
+            "",
+            "  부하 후 /actuator/prometheus에서 요청당 SQL 문장 수, 2차 캐시 적중률, 주 DB/복제본/샤드별 커넥션 수를 읽어 함께 출력");
+    
+    private final Map<String, String> values = new HashMap<>();
+    
+    LoadTestOptions(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("옵션 형식이 올바르지 않습니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+    }
+    
+    boolean has(String key) {
+        return values.containsKey(key);
+    }
+    
+    String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+    
+    int getInt(String key, int defaultValue) {
+        return values.containsKey(key) ? Integer.parseInt(values.get(key)) : defaultValue;
+    }
+    
+    long getLong(String key, long defaultValue) {
+        return values.containsKey(key) ? Long.parseLong(values.get(key)) : defaultValue;
+    }
+    
+    double getDouble(String key, double defaultValue) {
+        return values.containsKey(key) ? Double.parseDouble(values.get(key)) : defaultValue;
+    }
+    
+    boolean getBoolean(String key) {
+        return Boolean.parseBoolean(values.getOrDefault(key, "false"));
+    }
+}
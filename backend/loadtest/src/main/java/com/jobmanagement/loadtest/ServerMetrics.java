@@ -0,0 +1,119 @@
+package com.jobmanagement.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 백엔드 /actuator/prometheus에서 요청당 SQL 문장 수와 2차 캐시 적중/실패 카운터를 읽음
+// 부하 전후 값을 빼서 이번 실행분만 보여줌 (같은 백엔드에 여러 번 부하를 줘도 섞이지 않음)
+final class ServerMetrics {
+    
+    private static final Pattern SAMPLE = Pattern.compile("^([a-zA-Z_:][a-zA-Z0-9_:]*)\\{(.*)}\\s+(\\S+)$");
+    private static final Pattern LABEL = Pattern.compile("(\\w+)=\"((?:[^\"\\\\]|\\\\.)*)\"");
+    
+    // 요청당 쿼리 수 (http.server.requests.queries), 키는 "METHOD uri"
+    private final Map<String, Double> queryCounts = new TreeMap<>();
+    private final Map<String, Double> querySums = new TreeMap<>();
+    // 캐시 요청 수, 키는 "영역 hit|miss" (쿼리 캐시는 영역 대신 query)
+    private final Map<String, Double> cacheRequests = new TreeMap<>();
+    // 읽기/쓰기 분리(datasource-routing) 또는 샤딩(sharding) 시 대상별 커넥션 수, 키는 "대상 이유"
+    private final Map<String, Double> routedConnections = new TreeMap<>();
+    
+    static ServerMetrics scrape(String baseUrl) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/prometheus"))
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        ServerMetrics metrics = new ServerMetrics();
+        if (response.statusCode() != 200) {
+            return metrics;
+        }
+        for (String line : response.body().split("\n")) {
+            Matcher sample = SAMPLE.matcher(line);
+            if (sample.matches()) {
+                metrics.add(sample.group(1), labels(sample.group(2)), Double.parseDouble(sample.group(3)));
+            }
+        }
+        return metrics;
+    }
+    
+    private static Map<String, String> labels(String text) {
+        Map<String, String> labels = new TreeMap<>();
+        Matcher label = LABEL.matcher(text);
+        while (label.find()) {
+            labels.put(label.group(1), label.group(2));
+        }
+        return labels;
+    }
+    
+    private void add(String name, Map<String, String> labels, double value) {
+        switch (name) {
+            case "http_server_requests_queries_count" -> queryCounts.merge(labels.get("method") + " " + labels.get("uri"), value, Double::sum);
+            case "http_server_requests_queries_sum" -> querySums.merge(labels.get("method") + " " + labels.get("uri"), value, Double::sum);
+            case "hibernate_second_level_cache_requests_total" -> cacheRequests.merge(shortRegion(labels.get("region")) + " " + labels.get("result"), value, Double::sum);
+            case "hibernate_cache_query_requests_total" -> cacheRequests.merge("query " + labels.get("result"), value, Double::sum);
+            case "db_routing_connections_total" -> routedConnections.merge(labels.get("target") + " " + labels.get("reason"), value, Double::sum);
+            case "db_sharding_connections_total" -> routedConnections.merge("shard-" + labels.get("shard") + " " + labels.get("reason"), value, Double::sum);
+            default -> {
+            }
+        }
+    }
+    
+    private static String shortRegion(String region) {
+        return region == null ? "?" : region.substring(region.lastIndexOf('.') + 1);
+    }
+    
+    // after - before 기준으로 출력
+    static void printDelta(ServerMetrics before, ServerMetrics after) {
+        System.out.println();
+        System.out.printf("%-45s %9s %11s%n", "요청 (서버 측정)", "requests", "queries/req");
+        after.queryCounts.forEach((key, count) -> {
+            double requests = count - before.queryCounts.getOrDefault(key, 0.0);
+            if (requests <= 0) {
+                return;
+            }
+            double queries = after.querySums.getOrDefault(key, 0.0) - before.querySums.getOrDefault(key, 0.0);
+            System.out.printf("%-45s %9.0f %11.2f%n", key, requests, queries / requests);
+        });
+        
+        if (!after.routedConnections.isEmpty()) {
+            System.out.println();
+            System.out.printf("%-30s %10s%n", "커넥션 (대상 이유)", "count");
+            after.routedConnections.forEach((key, value) -> {
+                double delta = value - before.routedConnections.getOrDefault(key, 0.0);
+                if (delta > 0) {
+                    System.out.printf("%-30s %10.0f%n", key, delta);
+                }
+            });
+        }
+        
+        if (after.cacheRequests.isEmpty()) {
+            System.out.println("2차 캐시 메트릭 없음 (캐시 꺼짐 또는 generate_statistics=false)");
+            return;
+        }
+        Map<String, double[]> byRegion = new TreeMap<>();
+        after.cacheRequests.forEach((key, value) -> {
+            int separator = key.lastIndexOf(' ');
+            double delta = value - before.cacheRequests.getOrDefault(key, 0.0);
+            double[] hitMiss = byRegion.computeIfAbsent(key.substring(0, separator), region -> new double[2]);
+            hitMiss["hit".equals(key.substring(separator + 1)) ? 0 : 1] += delta;
+        });
+        System.out.println();
+        System.out.printf("%-20s %10s %10s %8s%n", "캐시 영역", "hit", "miss", "hit %");
+        byRegion.forEach((region, hitMiss) -> {
+            double total = hitMiss[0] + hitMiss[1];
+            if (total == 0) {
+                return;
+            }
+            System.out.printf("%-20s %10.0f %10.0f %7.1f%%%n", region, hitMiss[0], hitMiss[1], hitMiss[0] * 100 / total);
+        });
+    }
+}
@@ -0,0 +1,32 @@
+package com.jobmanagement.loadtest;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+// 0..n-1 순위를 Zipf(s) 분포로 뽑음 (누적 분포를 미리 계산해 이분 탐색)
+// 소수의 사용자/회사에 지원이 몰리는 실제 분포를 흉내내기 위함, s = 0이면 균등
+final class ZipfDistribution {
+    
+    private final double[] cumulative;
+    
+    ZipfDistribution(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+    
+    int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,112 @@
+package com.jobmanagement.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 커넥션 풀 앞단의 세마포어 벌크헤드
+// 가상 스레드처럼 요청 스레드 수에 제한이 없을 때 동시에 커넥션을 잡을 수 있는 수를 제한하고,
+// 대기열 길이/대기 시간을 메트릭으로 노출 (커넥션을 닫을 때 permit 반환)
+public class BulkheadDataSource extends DelegatingDataSource {
+    
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutMs;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+    
+    public BulkheadDataSource(DataSource target, int maxConcurrent, long acquireTimeoutMs, MeterRegistry meterRegistry) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.waitTimer = Timer.builder("db.bulkhead.wait")
+                .description("커넥션 획득 전 벌크헤드 대기 시간")
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("db.bulkhead.rejected")
+                .description("대기 시간 초과로 거절된 커넥션 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("db.bulkhead.queue", permits, Semaphore::getQueueLength)
+                .description("permit을 기다리는 스레드 수")
+                .register(meterRegistry);
+        Gauge.builder("db.bulkhead.active", permits, semaphore -> maxConcurrent - semaphore.availablePermits())
+                .description("permit을 보유 중인 커넥션 수")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+    
+    private void acquire() throws SQLException {
+        long started = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 벌크헤드 대기 중 인터럽트되었습니다.", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            rejectedCounter.increment();
+            throw new SQLTransientConnectionException(
+                    "DB 벌크헤드 대기 시간 초과 (" + acquireTimeoutMs + "ms, 동시 " + maxConcurrent + "개)");
+        }
+    }
+    
+    // close()가 여러 번 불려도 permit은 한 번만 반환
+    private Connection guard(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,35 @@
+package com.jobmanagement.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+// db-bulkhead.enabled=true 이면 DataSource를 BulkheadDataSource로 감쌈 (virtual 프로필에서 기본 활성화)
+@Configuration
+@ConditionalOnProperty(name = "db-bulkhead.enabled", havingValue = "true")
+public class DatabaseBulkheadConfig {
+    
+    @Bean
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor(Environment environment,
+                                                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof BulkheadDataSource) {
+                    return bean;
+                }
+                // 기본값은 커넥션 풀 크기와 같게 두어 풀 대기 대신 벌크헤드에서 기다리게 함
+                int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                int maxConcurrent = environment.getProperty("db-bulkhead.max-concurrent", Integer.class, poolSize);
+                long acquireTimeoutMs = environment.getProperty("db-bulkhead.acquire-timeout-ms", Long.class, 2000L);
+                return new BulkheadDataSource(dataSource, maxConcurrent, acquireTimeoutMs, meterRegistry.getObject());
+            }
+        };
+    }
+}
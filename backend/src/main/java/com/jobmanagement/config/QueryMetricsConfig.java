@@ -0,0 +1,55 @@
+package com.jobmanagement.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+// SQL 지문별 실행 시간(/actuator/slowqueries), 요청당 쿼리 수 메트릭 (query-metrics.enabled=false 로 끔)
+@Configuration
+@ConditionalOnProperty(name = "query-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryMetricsConfig {
+    
+    @Bean
+    public static SlowQueryLog slowQueryLog(Environment environment) {
+        return new SlowQueryLog(
+                environment.getProperty("query-metrics.slow-threshold-ms", Long.class, 200L),
+                environment.getProperty("query-metrics.max-fingerprints", Integer.class, 500));
+    }
+    
+    @Bean
+    public static BeanPostProcessor queryMetricsDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof QueryMetricsDataSource) {
+                    return bean;
+                }
+                return new QueryMetricsDataSource(dataSource, slowQueryLog.getObject());
+            }
+        };
+    }
+    
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        return new SlowQueryEndpoint(slowQueryLog);
+    }
+    
+    @Bean
+    public WebMvcConfigurer requestQueryCounterConfigurer(MeterRegistry meterRegistry) {
+        RequestQueryCounter counter = new RequestQueryCounter(meterRegistry);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(counter).addPathPatterns("/api/**");
+            }
+        };
+    }
+}
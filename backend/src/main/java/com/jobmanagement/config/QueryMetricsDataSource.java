@@ -0,0 +1,79 @@
+package com.jobmanagement.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// JDBC 문장 실행 시간을 SQL 지문별로 기록하는 DataSource
+// Connection이 만드는 Statement를 프록시로 감싸서 execute* 호출만 시간을 잼 (JPA, JdbcTemplate 모두 포함)
+public class QueryMetricsDataSource extends DelegatingDataSource {
+    
+    private final SlowQueryLog slowQueryLog;
+    
+    public QueryMetricsDataSource(DataSource target, SlowQueryLog slowQueryLog) {
+        super(target);
+        this.slowQueryLog = slowQueryLog;
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+    
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    return switch (method.getName()) {
+                        case "createStatement" -> wrap((Statement) result, Statement.class, null);
+                        case "prepareStatement" -> wrap((Statement) result, PreparedStatement.class, (String) args[0]);
+                        case "prepareCall" -> wrap((Statement) result, CallableStatement.class, (String) args[0]);
+                        default -> result;
+                    };
+                });
+    }
+    
+    // preparedSql: PreparedStatement/CallableStatement는 준비할 때의 SQL, Statement는 execute*(sql)/addBatch(sql) 인자
+    private Statement wrap(Statement statement, Class<? extends Statement> type, String preparedSql) {
+        String[] batchSql = {preparedSql};
+        return (Statement) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (!name.startsWith("execute")) {
+                        if ("addBatch".equals(name) && args != null && args.length == 1 && args[0] instanceof String sql) {
+                            batchSql[0] = sql;
+                        }
+                        return invoke(statement, method, args);
+                    }
+                    String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : batchSql[0];
+                    long started = System.nanoTime();
+                    try {
+                        return invoke(statement, method, args);
+                    } finally {
+                        slowQueryLog.record(sql, System.nanoTime() - started);
+                        QueryScope.onStatement(sql);
+                    }
+                });
+    }
+    
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.jobmanagement.config;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+// 현재 스레드에서 실행한 SQL 문장을 세는 범위 (요청 단위 카운터, 테스트의 쿼리 수 상한 검사에서 사용)
+// 범위는 중첩될 수 있고, 문장 하나는 열려 있는 모든 범위에 더해짐
+// QueryMetricsDataSource를 거친 문장만 보이므로 query-metrics.enabled=false 이면 항상 0
+public final class QueryScope implements AutoCloseable {
+    
+    private static final ThreadLocal<Deque<QueryScope>> OPEN = ThreadLocal.withInitial(ArrayDeque::new);
+    
+    private final List<String> statements;
+    private int count;
+    
+    private QueryScope(boolean recordStatements) {
+        this.statements = recordStatements ? new ArrayList<>() : null;
+    }
+    
+    // recordStatements: 상한 초과 시 보여주기 위해 SQL 문자열도 보관
+    public static QueryScope open(boolean recordStatements) {
+        QueryScope scope = new QueryScope(recordStatements);
+        OPEN.get().push(scope);
+        return scope;
+    }
+    
+    static void onStatement(String sql) {
+        Deque<QueryScope> scopes = OPEN.get();
+        if (scopes.isEmpty()) {
+            return;
+        }
+        for (QueryScope scope : scopes) {
+            scope.count++;
+            if (scope.statements != null) {
+                scope.statements.add(sql);
+            }
+        }
+    }
+    
+    // 요청과 무관한 후속 작업(샤드 간 회사 복제 등)의 문장은 열려 있는 범위에 더하지 않음, 닫으면 범위를 되돌림
+    public static Suspension suspend() {
+        Deque<QueryScope> scopes = OPEN.get();
+        OPEN.remove();
+        return new Suspension(scopes);
+    }
+    
+    public static final class Suspension implements AutoCloseable {
+        
+        private final Deque<QueryScope> scopes;
+        
+        private Suspension(Deque<QueryScope> scopes) {
+            this.scopes = scopes;
+        }
+        
+        @Override
+        public void close() {
+            if (scopes.isEmpty()) {
+                OPEN.remove();
+            } else {
+                OPEN.set(scopes);
+            }
+        }
+    }
+    
+    public int getCount() {
+        return count;
+    }
+    
+    public List<String> getStatements() {
+        return statements == null ? List.of() : statements;
+    }
+    
+    @Override
+    public void close() {
+        Deque<QueryScope> scopes = OPEN.get();
+        scopes.remove(this);
+        if (scopes.isEmpty()) {
+            OPEN.remove();
+        }
+    }
+}
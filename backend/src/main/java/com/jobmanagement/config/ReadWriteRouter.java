@@ -0,0 +1,184 @@
+package com.jobmanagement.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 주 DB 하나와 복제본 여러 개의 커넥션 풀을 들고 커넥션마다 대상을 고름
+// - 쓰기/트랜잭션 밖: 주 DB
+// - readOnly 트랜잭션: 정상 복제본을 돌아가며 (round-robin), 커넥션을 못 받으면 그 복제본을 내리고 다음 복제본, 모두 내려가 있으면 주 DB
+// - 내려간 복제본은 checkReplicas(주기 실행)에서 다시 확인해서 복구, max-lag-seconds를 넘게 밀린 복제본도 내림
+// 대상별 커넥션 수는 db.routing.connections (target, reason 태그), 복제본 상태는 db.routing.replica.healthy
+@Slf4j
+public class ReadWriteRouter implements AutoCloseable {
+    
+    public static final class Replica {
+        
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+        
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+    
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final int validationTimeoutSeconds;
+    private final long maxLagSeconds;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    
+    public ReadWriteRouter(DataSource primary, List<Replica> replicas, int validationTimeoutSeconds, long maxLagSeconds,
+                           MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.maxLagSeconds = maxLagSeconds;
+        this.meterRegistry = meterRegistry;
+        for (Replica replica : this.replicas) {
+            Gauge.builder("db.routing.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("복제본 상태 (1: 읽기 대상, 0: 제외)")
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+        }
+    }
+    
+    // LazyConnectionDataSourceProxy 안쪽에 두어서 실제 문장을 실행할 때(트랜잭션 readOnly 여부가 정해진 뒤) 고르게 함
+    public DataSource dataSource() {
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return ReadWriteRouter.this.getConnection();
+            }
+            
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                throw new SQLFeatureNotSupportedException("읽기/쓰기 분리 DataSource는 계정 지정 커넥션을 지원하지 않습니다.");
+            }
+        };
+    }
+    
+    private Connection getConnection() throws SQLException {
+        if (!ReadWriteRouting.isReadOnly()) {
+            return fromPrimary("write");
+        }
+        if (ReadWriteRouting.isPinnedToPrimary()) {
+            return fromPrimary("pinned");
+        }
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = nextHealthyReplica();
+            if (replica == null) {
+                break;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                count(replica.name, "read");
+                return connection;
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+        return fromPrimary("fallback");
+    }
+    
+    private Connection fromPrimary(String reason) throws SQLException {
+        Connection connection = primary.getConnection();
+        count("primary", reason);
+        return connection;
+    }
+    
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size == 0 ? 1 : size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+    
+    private void count(String target, String reason) {
+        Counter.builder("db.routing.connections")
+                .description("읽기/쓰기 분리로 받은 커넥션 수")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+    
+    private void markDown(Replica replica, String cause) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("복제본 {} 읽기 대상에서 제외: {}", replica.name, cause);
+        }
+    }
+    
+    // 내려간 복제본도 매번 다시 확인 (복구되면 읽기 대상에 다시 넣음)
+    @Scheduled(fixedDelayString = "${datasource-routing.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            String problem = probe(replica);
+            if (problem != null) {
+                markDown(replica, problem);
+            } else if (!replica.healthy) {
+                replica.healthy = true;
+                log.info("복제본 {} 읽기 대상으로 복구", replica.name);
+            }
+        }
+    }
+    
+    // 정상이면 null, 아니면 원인
+    private String probe(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection()) {
+            if (!connection.isValid(validationTimeoutSeconds)) {
+                return "연결 확인 실패";
+            }
+            if (maxLagSeconds <= 0) {
+                return null;
+            }
+            // MySQL 8.0.22 이상, 복제가 멈췄으면 Seconds_Behind_Source가 NULL
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!resultSet.next()) {
+                    return "복제 설정 없음";
+                }
+                long lag = resultSet.getLong("Seconds_Behind_Source");
+                if (resultSet.wasNull()) {
+                    return "복제 중지";
+                }
+                return lag > maxLagSeconds ? "복제 지연 " + lag + "초" : null;
+            }
+        } catch (SQLException e) {
+            return e.getMessage();
+        }
+    }
+    
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
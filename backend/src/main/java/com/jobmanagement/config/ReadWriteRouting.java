@@ -0,0 +1,52 @@
+package com.jobmanagement.config;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 현재 스레드의 커넥션을 주 DB/복제본 중 어디서 받을지 결정 (ReadWriteRouter에서 사용)
+// readOnly 트랜잭션이면 복제본, 그 밖(쓰기 트랜잭션, 트랜잭션 밖 JdbcTemplate)은 주 DB
+// pinToPrimary 범위 안에서는 readOnly여도 주 DB (방금 쓴 내용을 바로 읽어야 하는 요청, ReadYourWritesInterceptor 참고)
+public final class ReadWriteRouting {
+    
+    private static final ThreadLocal<Integer> PRIMARY_PINS = new ThreadLocal<>();
+    
+    private ReadWriteRouting() {
+    }
+    
+    public static final class Pin implements AutoCloseable {
+        
+        private boolean closed;
+        
+        private Pin() {
+        }
+        
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            Integer pins = PRIMARY_PINS.get();
+            if (pins == null || pins <= 1) {
+                PRIMARY_PINS.remove();
+            } else {
+                PRIMARY_PINS.set(pins - 1);
+            }
+        }
+    }
+    
+    // 범위는 중첩될 수 있고, 모두 닫혀야 고정이 풀림
+    public static Pin pinToPrimary() {
+        Integer pins = PRIMARY_PINS.get();
+        PRIMARY_PINS.set(pins == null ? 1 : pins + 1);
+        return new Pin();
+    }
+    
+    public static boolean isPinnedToPrimary() {
+        return PRIMARY_PINS.get() != null;
+    }
+    
+    // 트랜잭션 동기화가 시작된 뒤(첫 문장 실행 시점)에 불러야 readOnly 여부가 반영됨
+    public static boolean isReadOnly() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
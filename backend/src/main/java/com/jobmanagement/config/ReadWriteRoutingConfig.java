@@ -0,0 +1,94 @@
+package com.jobmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// datasource-routing.enabled=true 이면 readOnly 트랜잭션은 복제본, 나머지는 주 DB로 보냄
+// 주 DB는 spring.datasource, 복제본은 datasource-routing.replicas[n].url/username/password (풀 설정은 spring.datasource.hikari를 같이 씀)
+// DataSource 빈은 하나(LazyConnectionDataSourceProxy)만 두므로 벌크헤드/쿼리 메트릭 래퍼는 그대로 바깥에 씌워짐
+@Configuration
+@ConditionalOnProperty(name = "datasource-routing.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+    
+    @Bean
+    public ReadWriteRouter readWriteRouter(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        configurePool(primary, "primary", meterRegistry);
+        
+        List<ReadWriteRouter.Replica> replicas = new ArrayList<>();
+        for (int i = 0; environment.containsProperty("datasource-routing.replicas[" + i + "].url"); i++) {
+            String prefix = "datasource-routing.replicas[" + i + "].";
+            HikariDataSource replica = new HikariDataSource();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+            replica.setJdbcUrl(environment.getProperty(prefix + "url"));
+            replica.setUsername(environment.getProperty(prefix + "username", properties.determineUsername()));
+            replica.setPassword(environment.getProperty(prefix + "password", properties.determinePassword()));
+            replica.setDriverClassName(properties.determineDriverClassName());
+            // 복제본이 죽어 있어도 기동은 되게 하고, 커넥션 대기는 짧게 끊어서 바로 다음 복제본/주 DB로 넘어감
+            replica.setInitializationFailTimeout(-1);
+            replica.setConnectionTimeout(environment.getProperty("datasource-routing.replica-connection-timeout-ms", Long.class, 1000L));
+            configurePool(replica, "replica-" + (i + 1), meterRegistry);
+            replicas.add(new ReadWriteRouter.Replica(replica.getPoolName(), replica));
+        }
+        return new ReadWriteRouter(primary, replicas,
+                environment.getProperty("datasource-routing.validation-timeout-seconds", Integer.class, 2),
+                environment.getProperty("datasource-routing.max-lag-seconds", Long.class, 0L),
+                meterRegistry);
+    }
+    
+    // 풀이 빈이 아니어서 부트가 hikaricp.* 메트릭을 붙이지 않으므로 직접 연결 (pool 태그로 구분)
+    private static void configurePool(HikariDataSource dataSource, String poolName, MeterRegistry meterRegistry) {
+        dataSource.setPoolName(poolName);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    }
+    
+    // 트랜잭션 시작 시에는 동기화 상태의 readOnly가 아직 설정되기 전이라 첫 문장 실행 시점까지 커넥션 선택을 미룸
+    @Bean
+    public DataSource dataSource(ReadWriteRouter readWriteRouter) {
+        return new LazyConnectionDataSourceProxy(readWriteRouter.dataSource());
+    }
+    
+    @Bean
+    public static BeanPostProcessor replicaReadJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean factoryBean) {
+                    factoryBean.setJpaDialect(new ReplicaReadJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+    
+    @Bean
+    public WebMvcConfigurer readYourWritesConfigurer(Environment environment) {
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(
+                environment.getProperty("datasource-routing.read-your-writes-ms", Long.class, 2000L));
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor).addPathPatterns("/api/**");
+            }
+        };
+    }
+}
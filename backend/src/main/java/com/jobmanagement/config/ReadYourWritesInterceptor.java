@@ -0,0 +1,78 @@
+package com.jobmanagement.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+
+import java.time.Duration;
+
+// 쓰기 직후 같은 클라이언트의 읽기는 주 DB로 (복제 지연 동안 방금 쓴 내용이 안 보이는 문제 방지)
+// 쓰기 요청(GET/HEAD/OPTIONS 외)은 그 자체로 주 DB에 고정하고 "이 시각까지 주 DB" 쿠키를 붙임, 그 시각 전에 들어온 읽기도 주 DB
+// 서버에 상태를 두지 않으므로 인스턴스가 여러 대여도 그대로 동작
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+    
+    static final String COOKIE_NAME = "db-primary-until";
+    private static final String PIN_ATTRIBUTE = ReadYourWritesInterceptor.class.getName() + ".pin";
+    
+    private final long windowMs;
+    
+    public ReadYourWritesInterceptor(long windowMs) {
+        this.windowMs = windowMs;
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long now = System.currentTimeMillis();
+        if (isWrite(request.getMethod())) {
+            ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, Long.toString(now + windowMs))
+                    .path("/api")
+                    .maxAge(Duration.ofSeconds((windowMs + 999) / 1000))
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+            // 쓰기 요청 안에서 부르는 readOnly 조회도 방금 쓴 내용을 봐야 하므로 주 DB
+            request.setAttribute(PIN_ATTRIBUTE, ReadWriteRouting.pinToPrimary());
+            return true;
+        }
+        Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        if (cookie != null && parse(cookie.getValue()) > now) {
+            request.setAttribute(PIN_ATTRIBUTE, ReadWriteRouting.pinToPrimary());
+        }
+        return true;
+    }
+    
+    // 비동기 응답은 처리 스레드가 바뀌므로 요청 스레드의 고정을 여기서 풂 (RequestQueryCounter와 같은 방식)
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        release(request);
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request);
+    }
+    
+    private static void release(HttpServletRequest request) {
+        if (request.getAttribute(PIN_ATTRIBUTE) instanceof ReadWriteRouting.Pin pin) {
+            request.removeAttribute(PIN_ATTRIBUTE);
+            pin.close();
+        }
+    }
+    
+    private static boolean isWrite(String method) {
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+    
+    private static long parse(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.jobmanagement.config;
+
+import com.jobmanagement.event.CompanyChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+// 참조 테이블(companies)을 0번 샤드에서 나머지 샤드로 복제
+// 회사는 0번 샤드에서만 쓰고(CompanyService는 샤드 범위 밖에서 실행), 지원 내역의 외래 키와 조인을 위해 모든 샤드에 같은 행을 둠
+// - 회사가 바뀌면 커밋 후 그 행만 바로 복제
+// - 놓친 변경(복제 중 실패, 샤드 추가 등)은 주기적인 전체 동기화(sharding.reference-sync-ms, 기동 직후 한 번 포함)로 맞춤
+@Slf4j
+public class ReferenceTableReplicator {
+    
+    private static final int BATCH_SIZE = 1000;
+    
+    private final ShardDirectory directory;
+    private final ShardRows rows = new ShardRows();
+    
+    public ReferenceTableReplicator(ShardDirectory directory) {
+        this.directory = directory;
+    }
+    
+    // 복제 문장 수는 샤드 수에 따라 달라지므로 회사 수정 요청의 쿼리 수에 넣지 않음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        try (QueryScope.Suspension suspension = QueryScope.suspend()) {
+            List<Object[]> changed = rows.select(directory.jdbcTemplate(0), "companies", "company_id = ?",
+                    List.of(event.getCompanyId()));
+            for (int shard = 1; shard < directory.shardCount(); shard++) {
+                rows.upsert(directory.jdbcTemplate(shard), "companies", changed);
+            }
+        } catch (DataAccessException e) {
+            log.warn("회사 복제 실패, 다음 전체 동기화에서 다시 반영합니다: companyId={}", event.getCompanyId(), e);
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${sharding.reference-sync-ms:600000}")
+    public void syncAll() {
+        long lastId = 0;
+        int total = 0;
+        while (true) {
+            List<Object[]> batch = rows.select(directory.jdbcTemplate(0), "companies",
+                    "company_id > ? ORDER BY company_id LIMIT " + BATCH_SIZE, List.of(lastId));
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (int shard = 1; shard < directory.shardCount(); shard++) {
+                rows.upsert(directory.jdbcTemplate(shard), "companies", batch);
+            }
+            lastId = companyIdOf(batch.get(batch.size() - 1));
+            total += batch.size();
+        }
+        log.debug("회사 전체 동기화: {}건, 샤드 {}개", total, directory.shardCount() - 1);
+    }
+    
+    private long companyIdOf(Object[] row) {
+        List<String> columns = rows.columns(directory.jdbcTemplate(0), "companies");
+        for (int i = 0; i < columns.size(); i++) {
+            if ("company_id".equalsIgnoreCase(columns.get(i))) {
+                return ((Number) row[i]).longValue();
+            }
+        }
+        throw new IllegalStateException("companies에 company_id 컬럼이 없습니다.");
+    }
+}
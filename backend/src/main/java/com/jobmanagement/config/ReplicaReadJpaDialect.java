@@ -0,0 +1,30 @@
+package com.jobmanagement.config;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+// 복제본에서 읽는 트랜잭션은 2차 캐시를 읽기만 하고 채우지 않음 (CacheMode.GET)
+// 복제 지연 중에 읽은 예전 값이 캐시에 들어가면 TTL 동안 모든 요청에 낡은 값이 나감
+// 캐시는 쓰기 트랜잭션(주 DB)에서 읽거나 쓴 값으로만 채워짐
+public class ReplicaReadJpaDialect extends HibernateJpaDialect {
+    
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (definition.isReadOnly() && !ReadWriteRouting.isPinnedToPrimary()) {
+            // find()는 세션 CacheMode 대신 JPA 속성(storeMode)을 보므로 둘 다 설정
+            entityManager.setProperty(AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+        }
+        return transactionData;
+    }
+}
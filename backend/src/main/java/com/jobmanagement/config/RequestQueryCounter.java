@@ -0,0 +1,53 @@
+package com.jobmanagement.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+// 요청당 실행한 SQL 문장 수 (http.server.requests.queries, uri/method 태그)
+// 요청 스레드에서 실행한 문장만 셈 (대시보드처럼 다른 스레드로 나눠 조회하는 부분은 빠짐)
+public class RequestQueryCounter implements AsyncHandlerInterceptor {
+    
+    private static final String SCOPE_ATTRIBUTE = RequestQueryCounter.class.getName() + ".scope";
+    
+    private final MeterRegistry meterRegistry;
+    
+    public RequestQueryCounter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(SCOPE_ATTRIBUTE, QueryScope.open(false));
+        return true;
+    }
+    
+    // 비동기 응답(StreamingResponseBody 등)은 처리 스레드가 바뀌므로 요청 스레드의 범위를 여기서 닫음
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(SCOPE_ATTRIBUTE) instanceof QueryScope scope) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            scope.close();
+        }
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(SCOPE_ATTRIBUTE) instanceof QueryScope scope)) {
+            return;
+        }
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+        scope.close();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("요청당 실행한 SQL 문장 수")
+                .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                .tag("method", request.getMethod())
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(scope.getCount());
+    }
+}
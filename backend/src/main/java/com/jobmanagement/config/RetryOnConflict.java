@@ -0,0 +1,17 @@
+package com.jobmanagement.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 낙관적 잠금 충돌(@Version 불일치)이 나면 트랜잭션을 처음부터 다시 실행
+// 다시 읽은 최신 상태에 같은 변경을 적용해도 되는 쓰기 메서드에만 붙임
+// 클라이언트가 보낸 version이 낡은 경우는 재시도하지 않음 (409), RetryOnConflictAspect 참고
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+    
+    // 첫 실행 포함 최대 실행 횟수
+    int attempts() default 3;
+}
@@ -0,0 +1,51 @@
+package com.jobmanagement.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadLocalRandom;
+
+// @RetryOnConflict 처리
+// - 트랜잭션마다 새 영속성 컨텍스트에서 다시 읽도록 @Transactional보다 바깥에서 실행
+// - 이미 바깥 트랜잭션 안에서 호출되면 그 트랜잭션이 롤백 전용이 되므로 재시도하지 않고 그대로 전파
+// - JPA가 감지한 충돌(ObjectOptimisticLockingFailureException)만 재시도, 서비스가 직접 던지는 version 불일치는 제외
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RetryOnConflictAspect {
+    
+    private static final long BASE_BACKOFF_MS = 5;
+    
+    @Around("@annotation(com.jobmanagement.config.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        RetryOnConflict retry = AnnotationUtils.findAnnotation(method, RetryOnConflict.class);
+        if (retry == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= retry.attempts()) {
+                    throw e;
+                }
+                log.debug("낙관적 잠금 충돌, 재시도 {}/{}: {}", attempt, retry.attempts(), joinPoint.getSignature().toShortString());
+                // 같은 행을 두고 경쟁하는 요청끼리 다시 부딪히지 않도록 지터를 섞은 지수 백오프
+                long backoff = BASE_BACKOFF_MS << (attempt - 1);
+                Thread.sleep(backoff + ThreadLocalRandom.current().nextLong(backoff + 1));
+            }
+        }
+    }
+}
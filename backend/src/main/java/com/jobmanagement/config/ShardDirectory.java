@@ -0,0 +1,260 @@
+package com.jobmanagement.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 사용자 ID → 버킷 → 샤드 디렉터리
+// - 버킷은 사용자 ID 해시로 고정 (sharding.buckets), 버킷이 어느 샤드에 있는지는 0번 샤드의 shard_buckets 테이블
+// - 모든 인스턴스가 주기적으로 다시 읽으므로(sharding.directory-refresh-ms) 버킷 이동은 재시작 없이 반영
+// - MIGRATING 버킷의 사용자는 쓰기를 받지 않음 (ShardMigrator가 복사하는 동안)
+// - 다른 샤드의 shard_buckets에도 같은 행을 두고, 버킷을 넘겨주거나 받는 샤드의 행은 ShardMigrator가 같이 바꿈
+//   각 샤드의 행은 그 샤드가 버킷을 가지고 있는지를 나타내고, 쓰기 트랜잭션은 시작할 때 자기 샤드의 행을 잠가서 확인 (ShardFenceJpaDialect)
+// 샤딩을 끄면 샤드 하나(기존 DataSource)짜리 디렉터리, 여러 샤드를 도는 작업도 그대로 한 번만 실행됨
+@Slf4j
+public class ShardDirectory {
+    
+    private static final String SELECT_SQL = "SELECT bucket, shard, state FROM shard_buckets";
+    private static final String INSERT_SQL = "INSERT INTO shard_buckets (bucket, shard, state) VALUES (?, ?, ?)";
+    
+    public enum BucketState {
+        ACTIVE, MIGRATING
+    }
+    
+    private static final class Placement {
+        
+        private final int[] shards;
+        private final boolean[] migrating;
+        
+        private Placement(int[] shards, boolean[] migrating) {
+            this.shards = shards;
+            this.migrating = migrating;
+        }
+    }
+    
+    private final List<DataSource> dataSources;
+    private final List<JdbcTemplate> jdbcTemplates;
+    private final List<TransactionTemplate> transactionTemplates;
+    private final boolean sharded;
+    private final int bucketCount;
+    private final int idStride;
+    private final String bucketLock;
+    private volatile Placement placement;
+    
+    private ShardDirectory(List<DataSource> dataSources, List<JdbcTemplate> jdbcTemplates, boolean sharded,
+                           int bucketCount, int idStride, String bucketLock) {
+        this.dataSources = List.copyOf(dataSources);
+        this.jdbcTemplates = List.copyOf(jdbcTemplates);
+        this.transactionTemplates = dataSources.stream()
+                .map(dataSource -> new TransactionTemplate(new DataSourceTransactionManager(dataSource)))
+                .toList();
+        this.sharded = sharded;
+        this.bucketCount = bucketCount;
+        this.idStride = idStride;
+        this.bucketLock = bucketLock;
+    }
+    
+    public static ShardDirectory single(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        ShardDirectory directory = new ShardDirectory(List.of(dataSource), List.of(jdbcTemplate), false, 1, 0, "");
+        directory.placement = new Placement(new int[1], new boolean[1]);
+        return directory;
+    }
+    
+    // idStride: 샤드별 AUTO_INCREMENT 간격 (0이면 ID로 만든 샤드를 추정하지 않음)
+    // bucketLock: 쓰기 트랜잭션이 버킷 행을 읽을 때 붙이는 잠금 (FOR SHARE)
+    public static ShardDirectory sharded(List<DataSource> dataSources, int bucketCount, int idStride, String bucketLock) {
+        List<JdbcTemplate> jdbcTemplates = dataSources.stream().map(JdbcTemplate::new).toList();
+        return new ShardDirectory(dataSources, jdbcTemplates, true, bucketCount, idStride, bucketLock);
+    }
+    
+    // 디렉터리가 비어 있으면 채우고(first: 모두 0번, spread: 샤드에 고르게), 있으면 버킷 수가 설정과 같은지 확인
+    // 나머지 샤드의 행이 비어 있으면 (새 샤드, 이 확인이 생기기 전부터 쓰던 샤드) 0번 샤드의 디렉터리를 복사
+    public void initialize(String initialPlacement) {
+        if (!sharded) {
+            return;
+        }
+        Integer existing = jdbcTemplates.get(0).queryForObject("SELECT COUNT(*) FROM shard_buckets", Integer.class);
+        if (existing == null || existing == 0) {
+            boolean spread = "spread".equals(initialPlacement);
+            List<Object[]> rows = new ArrayList<>(bucketCount);
+            for (int bucket = 0; bucket < bucketCount; bucket++) {
+                rows.add(new Object[]{bucket, spread ? bucket % shardCount() : 0, BucketState.ACTIVE.name()});
+            }
+            jdbcTemplates.get(0).batchUpdate(INSERT_SQL, rows);
+            log.info("샤드 디렉터리 생성: 버킷 {}개, 샤드 {}개 ({})", bucketCount, shardCount(), spread ? "spread" : "first");
+        } else if (existing != bucketCount) {
+            throw new IllegalStateException("shard_buckets의 버킷 수(" + existing + ")가 sharding.buckets(" + bucketCount + ")와 다릅니다.");
+        }
+        List<Object[]> directoryRows = null;
+        for (int shard = 1; shard < shardCount(); shard++) {
+            Integer copied = jdbcTemplates.get(shard).queryForObject("SELECT COUNT(*) FROM shard_buckets", Integer.class);
+            if (copied == null || copied == 0) {
+                if (directoryRows == null) {
+                    directoryRows = jdbcTemplates.get(0).query(SELECT_SQL,
+                            (rs, rowNum) -> new Object[]{rs.getInt("bucket"), rs.getInt("shard"), rs.getString("state")});
+                }
+                jdbcTemplates.get(shard).batchUpdate(INSERT_SQL, directoryRows);
+                log.info("{}번 샤드에 디렉터리 복사: 버킷 {}개", shard, directoryRows.size());
+            } else if (copied != bucketCount) {
+                throw new IllegalStateException(shard + "번 샤드 shard_buckets의 버킷 수(" + copied + ")가 sharding.buckets("
+                        + bucketCount + ")와 다릅니다.");
+            }
+        }
+        refresh();
+    }
+    
+    @Scheduled(fixedDelayString = "${sharding.directory-refresh-ms:1000}")
+    public void refresh() {
+        if (!sharded) {
+            return;
+        }
+        int[] shards = new int[bucketCount];
+        boolean[] migrating = new boolean[bucketCount];
+        jdbcTemplates.get(0).query(SELECT_SQL, rs -> {
+            int bucket = rs.getInt("bucket");
+            int shard = rs.getInt("shard");
+            if (bucket < 0 || bucket >= bucketCount || shard < 0 || shard >= shardCount()) {
+                throw new IllegalStateException("shard_buckets에 설정과 맞지 않는 행이 있습니다: bucket=" + bucket + ", shard=" + shard);
+            }
+            shards[bucket] = shard;
+            migrating[bucket] = BucketState.MIGRATING.name().equals(rs.getString("state"));
+        });
+        placement = new Placement(shards, migrating);
+    }
+    
+    public boolean isSharded() {
+        return sharded;
+    }
+    
+    public int shardCount() {
+        return dataSources.size();
+    }
+    
+    public int bucketCount() {
+        return bucketCount;
+    }
+    
+    // 연속된 사용자 ID가 여러 버킷으로 흩어지도록 곱셈 해시의 상위 비트 사용
+    public int bucketOf(long userId) {
+        if (!sharded) {
+            return 0;
+        }
+        return (int) (((userId * 0x9E3779B97F4A7C15L) >>> 32) % bucketCount);
+    }
+    
+    // 사용자를 모르면(null) 0번 샤드
+    public int shardOf(Long userId) {
+        return userId == null ? 0 : placement.shards[bucketOf(userId)];
+    }
+    
+    public int shardOfBucket(int bucket) {
+        return placement.shards[bucket];
+    }
+    
+    public boolean isMigrating(Long userId) {
+        return userId != null && placement.migrating[bucketOf(userId)];
+    }
+    
+    public boolean isBucketMigrating(int bucket) {
+        return placement.migrating[bucket];
+    }
+    
+    // 행 ID를 발급한 샤드 (AUTO_INCREMENT 간격으로 추정, 옮겨졌을 수 있으므로 먼저 찾아볼 샤드로만 씀)
+    public int creationShardOf(long id) {
+        if (idStride <= 0 || id <= 0) {
+            return 0;
+        }
+        int shard = (int) ((id - 1) % idStride);
+        return shard < shardCount() ? shard : 0;
+    }
+    
+    // 샤드별 버킷 수
+    public int[] bucketsPerShard() {
+        int[] counts = new int[shardCount()];
+        for (int shard : placement.shards) {
+            counts[shard]++;
+        }
+        return counts;
+    }
+    
+    // 트랜잭션에 묶이지 않은 샤드별 DataSource/JdbcTemplate (여러 샤드를 도는 작업용)
+    public DataSource dataSource(int shard) {
+        return dataSources.get(shard);
+    }
+    
+    public JdbcTemplate jdbcTemplate(int shard) {
+        return jdbcTemplates.get(shard);
+    }
+    
+    // 위 JdbcTemplate을 한 트랜잭션으로 묶을 때
+    public TransactionTemplate transactionTemplate(int shard) {
+        return transactionTemplates.get(shard);
+    }
+    
+    // 샤드 범위 밖에서 사용자 행을 쓰는 작업용: transactionTemplate(shard) 안에서 호출
+    // 버킷 행을 잠가서 읽고 이 샤드가 가지고 있고 이동 중이 아닌 버킷만 반환 (잠금은 트랜잭션이 끝날 때까지 유지되어 그동안 이동이 시작되지 않음)
+    public Set<Integer> lockOwnedBuckets(int shard, Collection<Integer> buckets) {
+        return lockOwnedBuckets(jdbcTemplates.get(shard), shard, buckets);
+    }
+    
+    // ShardFenceJpaDialect에서 사용: 이미 시작한 JPA 트랜잭션의 커넥션으로 확인
+    public boolean lockOwnedBucket(Connection connection, int shard, int bucket) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+        return !lockOwnedBuckets(jdbcTemplate, shard, List.of(bucket)).isEmpty();
+    }
+    
+    private Set<Integer> lockOwnedBuckets(JdbcTemplate jdbcTemplate, int shard, Collection<Integer> buckets) {
+        if (!sharded) {
+            return new HashSet<>(buckets);
+        }
+        Set<Integer> owned = new HashSet<>();
+        if (buckets.isEmpty()) {
+            return owned;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(buckets.size(), "?"));
+        jdbcTemplate.query(SELECT_SQL + " WHERE bucket IN (" + placeholders + ") " + bucketLock, rs -> {
+            if (rs.getInt("shard") == shard && BucketState.ACTIVE.name().equals(rs.getString("state"))) {
+                owned.add(rs.getInt("bucket"));
+            }
+        }, buckets.toArray());
+        return owned;
+    }
+    
+    // ShardMigrator에서만 사용: 버킷 상태/위치를 바꾸고 이 인스턴스는 바로 다시 읽음 (다른 인스턴스는 다음 refresh)
+    void update(Collection<Integer> buckets, Integer shard, BucketState state) {
+        updateOn(0, buckets, shard, state);
+        refresh();
+    }
+    
+    // ShardMigrator에서만 사용: on번 샤드의 버킷 행만 바꿈 (0번 샤드의 행은 디렉터리 자체)
+    // 그 버킷 행을 잠근 쓰기 트랜잭션이 있으면 끝날 때까지 기다림
+    void updateOn(int on, Collection<Integer> buckets, Integer shard, BucketState state) {
+        if (buckets.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(buckets.size(), "?"));
+        List<Object> args = new ArrayList<>();
+        String sql;
+        if (shard != null) {
+            sql = "UPDATE shard_buckets SET shard = ?, state = ? WHERE bucket IN (" + placeholders + ")";
+            args.add(shard);
+        } else {
+            sql = "UPDATE shard_buckets SET state = ? WHERE bucket IN (" + placeholders + ")";
+        }
+        args.add(state.name());
+        args.addAll(buckets);
+        jdbcTemplates.get(on).update(sql, args.toArray());
+    }
+}
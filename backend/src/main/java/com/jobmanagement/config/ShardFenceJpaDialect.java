@@ -0,0 +1,41 @@
+package com.jobmanagement.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+// 샤드 범위(@ShardKey)에서 시작하는 쓰기 트랜잭션마다 그 샤드가 아직 사용자의 버킷을 가지고 있는지 확인
+// - 트랜잭션의 커넥션으로 자기 샤드의 shard_buckets 행을 잠가서 읽고, 이 샤드의 ACTIVE 버킷이 아니면 ShardMigrationInProgressException
+// - 잠금은 커밋/롤백까지 유지되므로 ShardMigrator가 원래 샤드의 행을 MIGRATING으로 바꾸는 UPDATE는 진행 중인 쓰기가 끝나길 기다리고,
+//   그 뒤에 시작하는 쓰기는 거절됨 (여러 청크 트랜잭션을 도는 일괄 등록/상태 변경도 청크마다 확인)
+public class ShardFenceJpaDialect extends HibernateJpaDialect {
+    
+    private final Supplier<ShardDirectory> directory;
+    
+    public ShardFenceJpaDialect(Supplier<ShardDirectory> directory) {
+        this.directory = directory;
+    }
+    
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        Integer shard = ShardRouting.current();
+        Long userId = ShardRouting.currentUser();
+        if (!definition.isReadOnly() && shard != null && userId != null) {
+            ShardDirectory shardDirectory = directory.get();
+            int bucket = shardDirectory.bucketOf(userId);
+            boolean owned = entityManager.unwrap(Session.class)
+                    .doReturningWork(connection -> shardDirectory.lockOwnedBucket(connection, shard, bucket));
+            if (!owned) {
+                throw new ShardMigrationInProgressException(userId);
+            }
+        }
+        return transactionData;
+    }
+}
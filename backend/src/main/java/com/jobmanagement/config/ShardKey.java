@@ -0,0 +1,37 @@
+package com.jobmanagement.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 샤딩 시 메서드를 실행할 샤드를 정하는 인자 (sharding.enabled=true 일 때만 의미 있음, ShardRoutingAspect 참고)
+// - USER: 사용자 ID(Long) 또는 userId 속성이 있는 DTO
+// - 그 밖: 해당 행의 ID, 소유자(user_id)를 찾아서 그 사용자의 샤드로
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+    
+    Owner value() default Owner.USER;
+    
+    enum Owner {
+        USER(null, null),
+        APPLICATION("applications", "application_id"),
+        // 상태 이력은 지원 내역이 삭제된 뒤에도 남으므로 이력 테이블에서 소유자를 찾음
+        APPLICATION_HISTORY("application_status_history", "application_id"),
+        RESUME("resumes", "resume_id"),
+        COVER_LETTER("cover_letters", "cover_letter_id");
+        
+        private final String table;
+        private final String idColumn;
+        
+        Owner(String table, String idColumn) {
+            this.table = table;
+            this.idColumn = idColumn;
+        }
+        
+        String ownerSql() {
+            return "SELECT user_id FROM " + table + " WHERE " + idColumn + " = ? LIMIT 1";
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.jobmanagement.config;
+
+// 사용자의 버킷이 다른 샤드로 옮겨지는 중이라 쓰기를 받을 수 없음 (잠시 뒤 다시 시도하면 새 샤드에서 처리)
+public class ShardMigrationInProgressException extends RuntimeException {
+    
+    public ShardMigrationInProgressException(Long userId) {
+        super("사용자 데이터를 옮기는 중입니다. 잠시 후 다시 시도하세요. (userId=" + userId + ")");
+    }
+}
@@ -0,0 +1,213 @@
+package com.jobmanagement.config;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.*;
+
+// 온라인 버킷 이동: 버킷에 속한 사용자의 모든 행을 다른 샤드로 옮김 (서비스를 멈추지 않고, 해당 버킷 사용자의 쓰기만 잠시 503)
+// 1) 디렉터리와 원래 샤드의 버킷 행을 MIGRATING으로 바꿈
+//    쓰기 트랜잭션은 원래 샤드의 버킷 행을 공유 잠금으로 읽고 시작하므로(ShardFenceJpaDialect) 이 UPDATE는 진행 중인 쓰기가 커밋될 때까지 기다리고,
+//    이후 원래 샤드에서 시작하는 쓰기 트랜잭션(오래 걸리는 일괄 등록의 다음 청크 포함)은 거절됨
+// 2) 사용자 묶음(sharding.migration-chunk-users)마다 대상 샤드에 남아 있던 행을 지우고 복사한 뒤 테이블별 행 수를 확인
+// 3) 대상 샤드, 원래 샤드, 디렉터리 순으로 버킷을 대상 샤드/ACTIVE로 바꾸고 drain 동안 대기 (원래 샤드에서 읽던 요청이 끝나도록)
+//    원래 샤드의 버킷 행은 대상 샤드를 가리키므로 디렉터리를 아직 다시 읽지 않은 인스턴스의 쓰기도 원래 샤드에서는 거절됨
+// 4) 원래 샤드의 행을 지움
+// 복사나 확인이 실패하면 대상 샤드에 복사한 행을 지우고 버킷을 원래 샤드/ACTIVE로 되돌림
+// 한 인스턴스 안에서는 한 번에 하나만 실행, 여러 인스턴스에서 동시에 실행하지 않는 것은 운영자가 보장
+@Slf4j
+public class ShardMigrator {
+    
+    // 사용자 소유 테이블 (외래 키 때문에 부모부터 복사하고 역순으로 삭제)
+    static final List<String> USER_TABLES = List.of(
+            "users",
+            "user_preferences",
+            "resumes",
+            "cover_letters",
+            "cover_letter_contents",
+            "applications",
+            "user_companies",
+            "activity_stats",
+            "application_status_counts",
+            "application_status_history",
+            "application_transition_buckets");
+    
+    private final ShardDirectory directory;
+    private final ShardRows rows = new ShardRows();
+    private final long drainMs;
+    private final int chunkUsers;
+    
+    public ShardMigrator(ShardDirectory directory, long drainMs, int chunkUsers) {
+        this.directory = directory;
+        this.drainMs = drainMs;
+        this.chunkUsers = chunkUsers;
+    }
+    
+    @Value
+    public static class MigrationResult {
+        Map<Integer, Integer> movedBuckets;  // 버킷 → 대상 샤드
+        int users;
+        Map<String, Long> rows;
+        long elapsedMs;
+    }
+    
+    @Value
+    private static class Route {
+        int source;
+        int target;
+    }
+    
+    // 샤드별 버킷 수 차이가 1 이하가 될 때까지 가장 많은 샤드에서 가장 적은 샤드로 (최대 maxBuckets개)
+    public Map<Integer, Integer> planRebalance(int maxBuckets) {
+        List<Deque<Integer>> bucketsByShard = new ArrayList<>();
+        for (int shard = 0; shard < directory.shardCount(); shard++) {
+            bucketsByShard.add(new ArrayDeque<>());
+        }
+        for (int bucket = 0; bucket < directory.bucketCount(); bucket++) {
+            bucketsByShard.get(directory.shardOfBucket(bucket)).add(bucket);
+        }
+        Map<Integer, Integer> moves = new LinkedHashMap<>();
+        while (moves.size() < maxBuckets) {
+            int largest = 0;
+            int smallest = 0;
+            for (int shard = 1; shard < bucketsByShard.size(); shard++) {
+                if (bucketsByShard.get(shard).size() > bucketsByShard.get(largest).size()) {
+                    largest = shard;
+                }
+                if (bucketsByShard.get(shard).size() < bucketsByShard.get(smallest).size()) {
+                    smallest = shard;
+                }
+            }
+            if (bucketsByShard.get(largest).size() - bucketsByShard.get(smallest).size() <= 1) {
+                break;
+            }
+            int bucket = bucketsByShard.get(largest).removeLast();
+            bucketsByShard.get(smallest).add(bucket);
+            moves.put(bucket, smallest);
+        }
+        return moves;
+    }
+    
+    public synchronized MigrationResult migrate(Map<Integer, Integer> moves) {
+        long started = System.currentTimeMillis();
+        Map<Route, Set<Integer>> bucketsByRoute = new LinkedHashMap<>();
+        Map<Integer, Integer> planned = new TreeMap<>();
+        moves.forEach((bucket, target) -> {
+            if (bucket < 0 || bucket >= directory.bucketCount()) {
+                throw new IllegalArgumentException("없는 버킷입니다: " + bucket);
+            }
+            if (target < 0 || target >= directory.shardCount()) {
+                throw new IllegalArgumentException("없는 샤드입니다: " + target);
+            }
+            int source = directory.shardOfBucket(bucket);
+            if (source != target) {
+                bucketsByRoute.computeIfAbsent(new Route(source, target), r -> new TreeSet<>()).add(bucket);
+                planned.put(bucket, target);
+            }
+        });
+        if (planned.isEmpty()) {
+            return new MigrationResult(planned, 0, Map.of(), 0);
+        }
+        
+        log.info("버킷 이동 시작: {}개 {}", planned.size(), bucketsByRoute);
+        Map<Route, List<Long>> usersByRoute = new LinkedHashMap<>();
+        Map<String, Long> copied = new LinkedHashMap<>();
+        try {
+            directory.update(planned.keySet(), null, ShardDirectory.BucketState.MIGRATING);
+            bucketsByRoute.forEach((route, buckets) ->
+                    directory.updateOn(route.getSource(), buckets, null, ShardDirectory.BucketState.MIGRATING));
+            for (Map.Entry<Route, Set<Integer>> entry : bucketsByRoute.entrySet()) {
+                Route route = entry.getKey();
+                List<Long> userIds = usersIn(route.getSource(), entry.getValue());
+                usersByRoute.put(route, userIds);
+                for (List<Long> chunk : chunks(userIds)) {
+                    copy(route, chunk).forEach((table, count) -> copied.merge(table, count, Long::sum));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("버킷 이동 실패, 원래 샤드로 되돌립니다: {}", planned.keySet(), e);
+            usersByRoute.forEach((route, userIds) -> chunks(userIds).forEach(chunk -> delete(route.getTarget(), chunk)));
+            bucketsByRoute.forEach((route, buckets) ->
+                    directory.updateOn(route.getSource(), buckets, null, ShardDirectory.BucketState.ACTIVE));
+            directory.update(planned.keySet(), null, ShardDirectory.BucketState.ACTIVE);
+            throw e;
+        }
+        
+        bucketsByRoute.forEach((route, buckets) -> {
+            directory.updateOn(route.getTarget(), buckets, route.getTarget(), ShardDirectory.BucketState.ACTIVE);
+            directory.updateOn(route.getSource(), buckets, route.getTarget(), ShardDirectory.BucketState.ACTIVE);
+            directory.update(buckets, route.getTarget(), ShardDirectory.BucketState.ACTIVE);
+        });
+        drain();
+        usersByRoute.forEach((route, userIds) -> chunks(userIds).forEach(chunk -> delete(route.getSource(), chunk)));
+        
+        int users = usersByRoute.values().stream().mapToInt(List::size).sum();
+        long elapsedMs = System.currentTimeMillis() - started;
+        log.info("버킷 이동 완료: {}개, 사용자 {}명, {}ms, {}", planned.size(), users, elapsedMs, copied);
+        return new MigrationResult(planned, users, copied, elapsedMs);
+    }
+    
+    // 버킷은 해시로 정해지므로 원래 샤드의 사용자 ID를 모두 읽어서 고름
+    private List<Long> usersIn(int shard, Set<Integer> buckets) {
+        List<Long> userIds = new ArrayList<>();
+        directory.jdbcTemplate(shard).query("SELECT user_id FROM users", rs -> {
+            long userId = rs.getLong(1);
+            if (buckets.contains(directory.bucketOf(userId))) {
+                userIds.add(userId);
+            }
+        });
+        return userIds;
+    }
+    
+    // 대상 샤드의 한 트랜잭션에서: 이전 시도에서 남은 행 삭제 → 복사 → 테이블별 행 수 확인
+    private Map<String, Long> copy(Route route, List<Long> userIds) {
+        JdbcTemplate source = directory.jdbcTemplate(route.getSource());
+        JdbcTemplate target = directory.jdbcTemplate(route.getTarget());
+        String where = "user_id IN (" + ShardRows.placeholders(userIds.size()) + ")";
+        Map<String, Long> counts = new LinkedHashMap<>();
+        directory.transactionTemplate(route.getTarget()).executeWithoutResult(status -> {
+            deleteRows(target, userIds);
+            for (String table : USER_TABLES) {
+                List<Object[]> tableRows = rows.select(source, table, where, userIds);
+                rows.insert(target, table, tableRows);
+                Long copiedCount = target.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + where,
+                        Long.class, userIds.toArray());
+                if (copiedCount == null || copiedCount != tableRows.size()) {
+                    throw new IllegalStateException("복사한 행 수가 다릅니다: " + table + " (원본 " + tableRows.size()
+                            + ", 대상 " + copiedCount + ")");
+                }
+                counts.put(table, (long) tableRows.size());
+            }
+        });
+        return counts;
+    }
+    
+    private void delete(int shard, List<Long> userIds) {
+        directory.transactionTemplate(shard).executeWithoutResult(status -> deleteRows(directory.jdbcTemplate(shard), userIds));
+    }
+    
+    private static void deleteRows(JdbcTemplate jdbcTemplate, List<Long> userIds) {
+        String where = "user_id IN (" + ShardRows.placeholders(userIds.size()) + ")";
+        for (int i = USER_TABLES.size() - 1; i >= 0; i--) {
+            jdbcTemplate.update("DELETE FROM " + USER_TABLES.get(i) + " WHERE " + where, userIds.toArray());
+        }
+    }
+    
+    private List<List<Long>> chunks(List<Long> userIds) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < userIds.size(); from += chunkUsers) {
+            chunks.add(userIds.subList(from, Math.min(from + chunkUsers, userIds.size())));
+        }
+        return chunks;
+    }
+    
+    private void drain() {
+        try {
+            Thread.sleep(drainMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("버킷 이동 대기 중 중단되었습니다.", e);
+        }
+    }
+}
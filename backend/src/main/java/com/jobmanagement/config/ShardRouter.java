@@ -0,0 +1,65 @@
+package com.jobmanagement.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+
+// 샤드별 커넥션 풀을 들고 현재 스레드의 샤드(ShardRouting)에서 커넥션을 받음
+// 샤드 범위 밖에서 받은 커넥션(참조 테이블, 기동 시 메타데이터 조회 등)은 0번 샤드
+// 샤드별 커넥션 수는 db.sharding.connections (shard, reason=scoped|default 태그)
+public class ShardRouter implements AutoCloseable {
+    
+    private final List<DataSource> shards;
+    private final MeterRegistry meterRegistry;
+    
+    public ShardRouter(List<DataSource> shards, MeterRegistry meterRegistry) {
+        this.shards = List.copyOf(shards);
+        this.meterRegistry = meterRegistry;
+    }
+    
+    public DataSource dataSource() {
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return ShardRouter.this.getConnection();
+            }
+            
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                throw new SQLFeatureNotSupportedException("샤드 DataSource는 계정 지정 커넥션을 지원하지 않습니다.");
+            }
+        };
+    }
+    
+    public List<DataSource> shards() {
+        return shards;
+    }
+    
+    private Connection getConnection() throws SQLException {
+        Integer current = ShardRouting.current();
+        int shard = current != null ? current : 0;
+        Connection connection = shards.get(shard).getConnection();
+        Counter.builder("db.sharding.connections")
+                .description("샤드별로 받은 커넥션 수")
+                .tag("shard", Integer.toString(shard))
+                .tag("reason", current != null ? "scoped" : "default")
+                .register(meterRegistry)
+                .increment();
+        return connection;
+    }
+    
+    @Override
+    public void close() throws Exception {
+        for (DataSource shard : shards) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.jobmanagement.config;
+
+// 현재 스레드의 커넥션을 어느 샤드에서 받을지 (ShardRouter에서 사용)
+// 범위 밖(회사 등 참조 테이블, 디렉터리)은 0번 샤드
+// 여러 샤드를 도는 작업은 트랜잭션 밖에서 범위를 바꾸거나 ShardDirectory.jdbcTemplate(shard)를 씀
+// (트랜잭션에 이미 묶인 커넥션은 범위를 바꿔도 그대로 쓰이므로)
+// @ShardKey로 정한 범위는 사용자도 기억해서 쓰기 트랜잭션이 시작할 때 그 사용자의 버킷을 이 샤드가 가지고 있는지 확인 (ShardFenceJpaDialect)
+public final class ShardRouting {
+    
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Long> USER = new ThreadLocal<>();
+    
+    private ShardRouting() {
+    }
+    
+    public static final class Scope implements AutoCloseable {
+        
+        private final Integer previous;
+        private final Long previousUser;
+        private boolean closed;
+        
+        private Scope(Integer previous, Long previousUser) {
+            this.previous = previous;
+            this.previousUser = previousUser;
+        }
+        
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+            if (previousUser == null) {
+                USER.remove();
+            } else {
+                USER.set(previousUser);
+            }
+        }
+    }
+    
+    // 범위는 중첩될 수 있고, 닫으면 바깥 범위의 샤드로 돌아감
+    public static Scope on(int shard) {
+        return on(shard, null);
+    }
+    
+    // userId: 이 범위에서 쓰는 사용자 (모르면 null, 버킷 확인을 하지 않음)
+    public static Scope on(int shard, Long userId) {
+        Scope scope = new Scope(CURRENT.get(), USER.get());
+        CURRENT.set(shard);
+        if (userId == null) {
+            USER.remove();
+        } else {
+            USER.set(userId);
+        }
+        return scope;
+    }
+    
+    // 범위 밖이면 null
+    public static Integer current() {
+        return CURRENT.get();
+    }
+    
+    // 범위 밖이거나 사용자를 모르는 범위면 null
+    public static Long currentUser() {
+        return USER.get();
+    }
+}
@@ -0,0 +1,147 @@
+package com.jobmanagement.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Value;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// @ShardKey 인자가 있는 메서드를 그 사용자의 샤드에서 실행 (sharding.enabled=true 일 때만 등록)
+// - 트랜잭션이 커넥션을 받기 전에 샤드를 정해야 하므로 @Transactional보다 바깥 (@RetryOnConflict와 같은 순서, 둘 사이 순서는 무관)
+// - 행 ID로 부르면 소유자를 찾는 조회를 하고 캐시 (소유자는 바뀌지 않으므로 만료 없이 크기만 제한)
+//   ID를 발급한 샤드부터 찾고 없으면 나머지 샤드 (버킷 이동으로 옮겨졌을 수 있음), 어디에도 없으면 0번 샤드에서 실행해서 기존 "찾을 수 없습니다" 처리를 따름
+// - 버킷을 옮기는 중인 사용자의 쓰기(readOnly가 아닌 메서드)는 ShardMigrationInProgressException
+//   여기서는 디렉터리만 보고 빨리 거절, 메서드 안의 쓰기 트랜잭션마다 시작할 때 샤드의 버킷 행을 잠가서 다시 확인 (ShardFenceJpaDialect)
+// - 이미 다른 샤드에서 트랜잭션이 진행 중이면 한 트랜잭션이 두 샤드에 걸치므로 예외
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ShardRoutingAspect {
+    
+    @Value
+    private static class KeyParameter {
+        int index;
+        ShardKey.Owner owner;
+    }
+    
+    @Value
+    private static class OwnerKey {
+        ShardKey.Owner owner;
+        long id;
+    }
+    
+    private final ShardDirectory directory;
+    private final MeterRegistry meterRegistry;
+    private final Cache<OwnerKey, Long> owners;
+    private final Map<Method, KeyParameter> keyParameters = new ConcurrentHashMap<>();
+    
+    public ShardRoutingAspect(ShardDirectory directory, MeterRegistry meterRegistry, long ownerCacheSize) {
+        this.directory = directory;
+        this.meterRegistry = meterRegistry;
+        this.owners = Caffeine.newBuilder().maximumSize(ownerCacheSize).build();
+    }
+    
+    @Around("execution(* *(.., @com.jobmanagement.config.ShardKey (*), ..))")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        KeyParameter key = keyParameters.computeIfAbsent(method, ShardRoutingAspect::findKeyParameter);
+        Long userId = userIdOf(key, joinPoint.getArgs()[key.getIndex()]);
+        if (directory.isMigrating(userId) && !isReadOnly(method, joinPoint.getTarget().getClass())) {
+            throw new ShardMigrationInProgressException(userId);
+        }
+        int shard = directory.shardOf(userId);
+        Integer current = ShardRouting.current();
+        if (current != null && current != shard && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("한 트랜잭션에서 여러 샤드에 접근할 수 없습니다: "
+                    + joinPoint.getSignature().toShortString() + " (shard " + current + " → " + shard + ")");
+        }
+        try (ShardRouting.Scope scope = ShardRouting.on(shard, userId)) {
+            return joinPoint.proceed();
+        } catch (CannotCreateTransactionException e) {
+            // 트랜잭션 시작 시 버킷 확인(ShardFenceJpaDialect)에서 거절된 경우 트랜잭션 매니저가 감싼 예외를 벗겨서 503으로
+            if (e.getCause() instanceof ShardMigrationInProgressException migrating) {
+                throw migrating;
+            }
+            throw e;
+        }
+    }
+    
+    private Long userIdOf(KeyParameter key, Object argument) {
+        if (argument == null) {
+            return null;
+        }
+        if (key.getOwner() != ShardKey.Owner.USER) {
+            return ownerOf(key.getOwner(), ((Number) argument).longValue());
+        }
+        if (argument instanceof Number number) {
+            return number.longValue();
+        }
+        Object userId = new BeanWrapperImpl(argument).getPropertyValue("userId");
+        return userId != null ? ((Number) userId).longValue() : null;
+    }
+    
+    private Long ownerOf(ShardKey.Owner owner, long id) {
+        OwnerKey key = new OwnerKey(owner, id);
+        Long cached = owners.getIfPresent(key);
+        if (cached != null) {
+            countLookup("cached");
+            return cached;
+        }
+        int first = directory.creationShardOf(id);
+        for (int i = 0; i < directory.shardCount(); i++) {
+            int shard = (first + i) % directory.shardCount();
+            List<Long> userIds = directory.jdbcTemplate(shard).queryForList(owner.ownerSql(), Long.class, id);
+            if (!userIds.isEmpty()) {
+                owners.put(key, userIds.get(0));
+                countLookup(i == 0 ? "found" : "scanned");
+                return userIds.get(0);
+            }
+        }
+        countLookup("missing");
+        return null;
+    }
+    
+    private void countLookup(String result) {
+        Counter.builder("db.sharding.owner.lookups")
+                .description("행 ID로 소유 사용자를 찾은 횟수 (cached: 캐시, found: ID를 발급한 샤드, scanned: 다른 샤드, missing: 없음)")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+    
+    private static boolean isReadOnly(Method method, Class<?> targetClass) {
+        Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(method, Transactional.class);
+        if (transactional == null) {
+            transactional = AnnotatedElementUtils.findMergedAnnotation(targetClass, Transactional.class);
+        }
+        return transactional != null && transactional.readOnly();
+    }
+    
+    private static KeyParameter findKeyParameter(Method method) {
+        Annotation[][] annotations = method.getParameterAnnotations();
+        for (int i = 0; i < annotations.length; i++) {
+            for (Annotation annotation : annotations[i]) {
+                if (annotation instanceof ShardKey shardKey) {
+                    return new KeyParameter(i, shardKey.value());
+                }
+            }
+        }
+        throw new IllegalStateException("@ShardKey 인자가 없습니다: " + method);
+    }
+}
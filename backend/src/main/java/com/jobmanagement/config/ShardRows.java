@@ -0,0 +1,84 @@
+package com.jobmanagement.config;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 샤드 사이에 행을 그대로 옮기는 JDBC 도우미 (ShardMigrator, ReferenceTableReplicator에서 사용)
+// 컬럼 목록은 DB 메타데이터에서 읽고 생성 컬럼(resumes.primary_user_id 등)은 제외
+final class ShardRows {
+    
+    private final Map<String, List<String>> columnsByTable = new ConcurrentHashMap<>();
+    
+    List<String> columns(JdbcTemplate jdbcTemplate, String table) {
+        return columnsByTable.computeIfAbsent(table, t -> jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            List<String> columns = readColumns(connection, t);
+            if (columns.isEmpty()) {
+                columns = readColumns(connection, t.toUpperCase());
+            }
+            if (columns.isEmpty()) {
+                throw new IllegalStateException("테이블 컬럼을 읽을 수 없습니다: " + t);
+            }
+            return List.copyOf(columns);
+        }));
+    }
+    
+    private static List<String> readColumns(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        List<String> columns = new ArrayList<>();
+        try (ResultSet rs = metaData.getColumns(connection.getCatalog(), connection.getSchema(), table, null)) {
+            while (rs.next()) {
+                if (!"YES".equalsIgnoreCase(rs.getString("IS_GENERATEDCOLUMN"))) {
+                    columns.add(rs.getString("COLUMN_NAME"));
+                }
+            }
+        }
+        return columns;
+    }
+    
+    List<Object[]> select(JdbcTemplate source, String table, String where, List<?> args) {
+        List<String> columns = columns(source, table);
+        String sql = "SELECT " + String.join(", ", columns) + " FROM " + table + " WHERE " + where;
+        return source.query(sql, (rs, rowNum) -> {
+            Object[] row = new Object[columns.size()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = rs.getObject(i + 1);
+            }
+            return row;
+        }, args.toArray());
+    }
+    
+    void insert(JdbcTemplate target, String table, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<String> columns = columns(target, table);
+        target.batchUpdate("INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + placeholders(columns.size()) + ")", rows);
+    }
+    
+    // 같은 키가 있으면 모든 컬럼을 덮어씀 (참조 테이블 복제용)
+    void upsert(JdbcTemplate target, String table, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<String> columns = columns(target, table);
+        String updates = columns.stream().map(column -> column + " = VALUES(" + column + ")").collect(Collectors.joining(", "));
+        target.batchUpdate("INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + placeholders(columns.size()) + ") ON DUPLICATE KEY UPDATE " + updates, rows);
+    }
+    
+    static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
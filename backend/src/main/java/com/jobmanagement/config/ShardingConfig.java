@@ -0,0 +1,141 @@
+package com.jobmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// 사용자 ID 기준 샤딩 (sharding.enabled=true)
+// 0번 샤드는 spring.datasource, 나머지는 sharding.shards[n].url/username/password (풀 설정은 spring.datasource.hikari를 같이 씀)
+// 사용자 소유 테이블은 사용자의 샤드에만, 회사(참조 테이블)는 0번 샤드에서 쓰고 모든 샤드에 복제
+// 끄면 기존 DataSource 하나짜리 ShardDirectory만 등록되어 여러 샤드를 도는 작업도 그대로 동작
+@Configuration
+public class ShardingConfig {
+    
+    @Bean
+    @ConditionalOnProperty(name = "sharding.enabled", havingValue = "false", matchIfMissing = true)
+    public ShardDirectory singleShardDirectory(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        return ShardDirectory.single(dataSource, jdbcTemplate);
+    }
+    
+    @Configuration
+    @ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+    static class Enabled {
+        
+        @Bean
+        public ShardRouter shardRouter(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry) {
+            if (environment.getProperty("datasource-routing.enabled", Boolean.class, false)) {
+                throw new IllegalStateException("sharding.enabled와 datasource-routing.enabled는 함께 켤 수 없습니다.");
+            }
+            Binder binder = Binder.get(environment);
+            int idStride = environment.getProperty("sharding.id-stride", Integer.class, 64);
+            boolean interleaveIds = environment.getProperty("sharding.interleave-ids", Boolean.class, true);
+            
+            List<DataSource> shards = new ArrayList<>();
+            HikariDataSource first = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(first));
+            shards.add(first);
+            for (int i = 0; environment.containsProperty("sharding.shards[" + i + "].url"); i++) {
+                String prefix = "sharding.shards[" + i + "].";
+                HikariDataSource shard = new HikariDataSource();
+                binder.bind("spring.datasource.hikari", Bindable.ofInstance(shard));
+                shard.setJdbcUrl(environment.getProperty(prefix + "url"));
+                shard.setUsername(environment.getProperty(prefix + "username", properties.determineUsername()));
+                shard.setPassword(environment.getProperty(prefix + "password", properties.determinePassword()));
+                shard.setDriverClassName(properties.determineDriverClassName());
+                shards.add(shard);
+            }
+            if (interleaveIds && shards.size() > idStride) {
+                throw new IllegalStateException("샤드 수(" + shards.size() + ")가 sharding.id-stride(" + idStride + ")보다 많습니다.");
+            }
+            for (int shard = 0; shard < shards.size(); shard++) {
+                HikariDataSource pool = (HikariDataSource) shards.get(shard);
+                pool.setPoolName("shard-" + shard);
+                pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+                // 샤드마다 AUTO_INCREMENT를 엇갈리게 발급해서 (n번 샤드는 ID % stride == n + 1) 옮겨도 ID가 겹치지 않게 함
+                // 드라이버가 접속 시점에 읽어 둔 auto_increment_increment로 배치 INSERT의 발급 ID를 계산하므로
+                // 접속 후 SET(connectionInitSql)이 아니라 접속 과정에서 설정되는 sessionVariables로 지정
+                if (interleaveIds) {
+                    pool.addDataSourceProperty("sessionVariables", "auto_increment_increment=" + idStride
+                            + ",auto_increment_offset=" + (shard + 1));
+                }
+            }
+            return new ShardRouter(shards, meterRegistry);
+        }
+        
+        @Bean
+        public DataSource dataSource(ShardRouter shardRouter) {
+            return shardRouter.dataSource();
+        }
+        
+        // 디렉터리/이동/복제는 트랜잭션에 묶이지 않은 샤드별 풀을 직접 씀 (빈이 아니므로 쿼리 메트릭 래퍼도 직접 씌움)
+        @Bean
+        public ShardDirectory shardDirectory(ShardRouter shardRouter, Environment environment,
+                                             ObjectProvider<SlowQueryLog> slowQueryLog) {
+            List<DataSource> shards = new ArrayList<>();
+            SlowQueryLog log = slowQueryLog.getIfAvailable();
+            for (DataSource shard : shardRouter.shards()) {
+                shards.add(log != null ? new QueryMetricsDataSource(shard, log) : shard);
+            }
+            boolean interleaveIds = environment.getProperty("sharding.interleave-ids", Boolean.class, true);
+            ShardDirectory directory = ShardDirectory.sharded(shards,
+                    environment.getProperty("sharding.buckets", Integer.class, 1024),
+                    interleaveIds ? environment.getProperty("sharding.id-stride", Integer.class, 64) : 0,
+                    environment.getProperty("sharding.bucket-lock", "FOR SHARE"));
+            directory.initialize(environment.getProperty("sharding.initial-placement", "first"));
+            return directory;
+        }
+        
+        // 쓰기 트랜잭션 시작 시 버킷 소유 확인 (디렉터리는 EntityManagerFactory보다 늦게 만들어질 수 있어 첫 트랜잭션에서 꺼냄)
+        @Bean
+        public static BeanPostProcessor shardFenceJpaDialectPostProcessor(ObjectProvider<ShardDirectory> shardDirectory) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                    if (bean instanceof LocalContainerEntityManagerFactoryBean factoryBean) {
+                        factoryBean.setJpaDialect(new ShardFenceJpaDialect(shardDirectory::getObject));
+                    }
+                    return bean;
+                }
+            };
+        }
+        
+        @Bean
+        public ShardRoutingAspect shardRoutingAspect(ShardDirectory shardDirectory, MeterRegistry meterRegistry,
+                                                     Environment environment) {
+            return new ShardRoutingAspect(shardDirectory, meterRegistry,
+                    environment.getProperty("sharding.owner-cache-size", Long.class, 100_000L));
+        }
+        
+        @Bean
+        public ShardMigrator shardMigrator(ShardDirectory shardDirectory, Environment environment) {
+            return new ShardMigrator(shardDirectory,
+                    environment.getProperty("sharding.migration-drain-ms", Long.class, 5000L),
+                    environment.getProperty("sharding.migration-chunk-users", Integer.class, 200));
+        }
+        
+        @Bean
+        public ShardsEndpoint shardsEndpoint(ShardDirectory shardDirectory, ShardMigrator shardMigrator) {
+            return new ShardsEndpoint(shardDirectory, shardMigrator);
+        }
+        
+        @Bean
+        public ReferenceTableReplicator referenceTableReplicator(ShardDirectory shardDirectory) {
+            return new ReferenceTableReplicator(shardDirectory);
+        }
+    }
+}
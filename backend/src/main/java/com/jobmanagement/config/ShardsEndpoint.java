@@ -0,0 +1,67 @@
+package com.jobmanagement.config;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// GET /actuator/shards: 샤드별 버킷 수, 이동 중인 버킷
+// POST /actuator/shards/rebalance {"maxBuckets": 64}: 샤드별 버킷 수가 고르게 되도록 최대 maxBuckets개 이동
+// POST /actuator/shards/move {"bucket": 17, "target": 2}: 버킷 하나를 지정한 샤드로 이동
+// 이동은 요청 안에서 끝까지 실행하고 결과(이동한 버킷, 사용자 수, 테이블별 행 수)를 반환
+// 인증 없는 쓰기 작업이라 기본 노출 목록(management.endpoints.web.exposure.include)에는 없음, 외부에 열리지 않는 관리 포트에서만 노출
+@Endpoint(id = "shards")
+public class ShardsEndpoint {
+    
+    private static final int DEFAULT_MAX_BUCKETS = 64;
+    
+    private final ShardDirectory directory;
+    private final ShardMigrator migrator;
+    
+    public ShardsEndpoint(ShardDirectory directory, ShardMigrator migrator) {
+        this.directory = directory;
+        this.migrator = migrator;
+    }
+    
+    @ReadOperation
+    public Map<String, Object> shards() {
+        int[] buckets = directory.bucketsPerShard();
+        List<Integer> migrating = new ArrayList<>();
+        for (int bucket = 0; bucket < directory.bucketCount(); bucket++) {
+            if (directory.isBucketMigrating(bucket)) {
+                migrating.add(bucket);
+            }
+        }
+        List<Map<String, Object>> shards = new ArrayList<>();
+        for (int shard = 0; shard < buckets.length; shard++) {
+            shards.add(Map.of("shard", shard, "buckets", buckets[shard]));
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("bucketCount", directory.bucketCount());
+        result.put("shards", shards);
+        result.put("migratingBuckets", migrating);
+        return result;
+    }
+    
+    @WriteOperation
+    public ShardMigrator.MigrationResult migrate(@Selector String action, @Nullable Integer bucket, @Nullable Integer target,
+                                                 @Nullable Integer maxBuckets) {
+        return switch (action) {
+            case "rebalance" -> migrator.migrate(migrator.planRebalance(maxBuckets == null ? DEFAULT_MAX_BUCKETS : maxBuckets));
+            case "move" -> {
+                if (bucket == null || target == null) {
+                    throw new InvalidEndpointRequestException("bucket과 target이 필요합니다.", "bucket and target are required");
+                }
+                yield migrator.migrate(Map.of(bucket, target));
+            }
+            default -> throw new InvalidEndpointRequestException("지원하지 않는 작업입니다: " + action, "unknown action");
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.jobmanagement.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+// GET /actuator/slowqueries?sort=total|p99|count|max&limit=50, DELETE로 초기화
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+    
+    private static final int DEFAULT_LIMIT = 50;
+    
+    private final SlowQueryLog slowQueryLog;
+    
+    public SlowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+    
+    @ReadOperation
+    public List<SlowQueryLog.QueryStats> queries(@Nullable String sort, @Nullable Integer limit) {
+        return slowQueryLog.top(sort, limit == null ? DEFAULT_LIMIT : limit);
+    }
+    
+    @DeleteOperation
+    public void reset() {
+        slowQueryLog.reset();
+    }
+}
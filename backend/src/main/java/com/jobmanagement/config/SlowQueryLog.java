@@ -0,0 +1,144 @@
+package com.jobmanagement.config;
+
+import com.jobmanagement.util.SqlFingerprint;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// SQL 지문별 실행 통계 (건수, 합계/최대 시간, p50/p99)
+// 느린 문장(slow-threshold-ms 이상)은 실행할 때마다 WARN으로 남기고, 전체 통계는 /actuator/slowqueries로 조회
+@Slf4j
+public class SlowQueryLog {
+    
+    private static final String OVERFLOW_FINGERPRINT = "(기타: 지문 수 상한 초과)";
+    private static final int MAX_CACHED_SQL = 10_000;
+    
+    private final long slowThresholdNanos;
+    private final int maxFingerprints;
+    private final Map<String, Stats> statsByFingerprint = new ConcurrentHashMap<>();
+    // Hibernate/JdbcTemplate가 만드는 SQL 문자열은 거의 고정이라 지문 계산 결과를 캐시
+    private final Map<String, String> fingerprintCache = new ConcurrentHashMap<>();
+    
+    public SlowQueryLog(long slowThresholdMs, int maxFingerprints) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.maxFingerprints = maxFingerprints;
+    }
+    
+    @Value
+    public static class QueryStats {
+        String fingerprint;
+        long count;
+        long slowCount;
+        double totalMs;
+        double avgMs;
+        double p50Ms;
+        double p99Ms;
+        double maxMs;
+    }
+    
+    public void record(String sql, long elapsedNanos) {
+        String fingerprint = fingerprint(sql);
+        Stats stats = statsByFingerprint.get(fingerprint);
+        if (stats == null) {
+            if (statsByFingerprint.size() >= maxFingerprints) {
+                fingerprint = OVERFLOW_FINGERPRINT;
+            }
+            stats = statsByFingerprint.computeIfAbsent(fingerprint, key -> new Stats());
+        }
+        stats.record(elapsedNanos);
+        
+        if (elapsedNanos >= slowThresholdNanos) {
+            stats.slowCount.increment();
+            log.warn("느린 쿼리 {}ms: {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), fingerprint);
+        }
+    }
+    
+    // sort: total(기본) | p99 | count | max
+    public List<QueryStats> top(String sort, int limit) {
+        Comparator<QueryStats> order = switch (sort == null ? "total" : sort) {
+            case "p99" -> Comparator.comparingDouble(QueryStats::getP99Ms);
+            case "count" -> Comparator.comparingLong(QueryStats::getCount);
+            case "max" -> Comparator.comparingDouble(QueryStats::getMaxMs);
+            case "total" -> Comparator.comparingDouble(QueryStats::getTotalMs);
+            default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sort);
+        };
+        return statsByFingerprint.entrySet().stream()
+                .map(entry -> entry.getValue().toQueryStats(entry.getKey()))
+                .sorted(order.reversed())
+                .limit(limit)
+                .toList();
+    }
+    
+    public void reset() {
+        statsByFingerprint.clear();
+    }
+    
+    private String fingerprint(String sql) {
+        String fingerprint = fingerprintCache.get(sql);
+        if (fingerprint == null) {
+            fingerprint = SqlFingerprint.of(sql);
+            // 리터럴이 박힌 SQL이 계속 들어오면 캐시가 커지므로 상한에서 비움
+            if (fingerprintCache.size() >= MAX_CACHED_SQL) {
+                fingerprintCache.clear();
+            }
+            fingerprintCache.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+    
+    // 로그 스케일 버킷(2배마다 4칸, 오차 약 19%) 히스토그램으로 백분위를 근사
+    private static class Stats {
+        private static final int BUCKETS = 4 * 40;
+        
+        private final LongAdder count = new LongAdder();
+        private final LongAdder slowCount = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        
+        private void record(long elapsedNanos) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            buckets.incrementAndGet(bucketOf(elapsedNanos));
+        }
+        
+        private QueryStats toQueryStats(String fingerprint) {
+            long total = count.sum();
+            double totalMs = totalNanos.sum() / 1_000_000.0;
+            return new QueryStats(fingerprint, total, slowCount.sum(), totalMs,
+                    total == 0 ? 0 : totalMs / total,
+                    percentileMs(total, 0.5), percentileMs(total, 0.99), maxNanos.get() / 1_000_000.0);
+        }
+        
+        private double percentileMs(long total, double percentile) {
+            long rank = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank && seen > 0) {
+                    return Math.min(upperBoundNanos(i), maxNanos.get()) / 1_000_000.0;
+                }
+            }
+            return maxNanos.get() / 1_000_000.0;
+        }
+        
+        private static int bucketOf(long nanos) {
+            long micros = Math.max(1, nanos / 1000);
+            int index = (int) Math.ceil(4 * Math.log(micros) / Math.log(2));
+            return Math.min(index, BUCKETS - 1);
+        }
+        
+        private static long upperBoundNanos(int bucket) {
+            return (long) (Math.pow(2, bucket / 4.0) * 1000);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.jobmanagement.controller;
+
+import com.jobmanagement.dto.ActivityStatsDto;
+import com.jobmanagement.service.ActivityStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/activity-stats")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class ActivityStatsController {
+    
+    private final ActivityStatsService activityStatsService;
+    
+    // 일/주 단위 활동 차트 (granularity=DAY|WEEK)
+    @GetMapping
+    public ResponseEntity<List<ActivityStatsDto>> getActivityStats(
+            @RequestParam Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") ActivityStatsService.Granularity granularity) {
+        List<ActivityStatsDto> stats = activityStatsService.getActivityStats(userId, from, to, granularity);
+        return ResponseEntity.ok(stats);
+    }
+}
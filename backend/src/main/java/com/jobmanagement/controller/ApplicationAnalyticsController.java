@@ -0,0 +1,49 @@
+package com.jobmanagement.controller;
+
+import com.jobmanagement.dto.ApplicationStatusHistoryDto;
+import com.jobmanagement.dto.FunnelPeriodDto;
+import com.jobmanagement.dto.TransitionDurationDto;
+import com.jobmanagement.service.ApplicationAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/applications")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class ApplicationAnalyticsController {
+    
+    private final ApplicationAnalyticsService analyticsService;
+    
+    @GetMapping("/{applicationId}/history")
+    public ResponseEntity<List<ApplicationStatusHistoryDto>> getHistory(@PathVariable Long applicationId) {
+        List<ApplicationStatusHistoryDto> history = analyticsService.getHistory(applicationId);
+        return ResponseEntity.ok(history);
+    }
+    
+    // 상태별 체류 시간 백분위 (p50/p90/p99)
+    @GetMapping("/analytics/transitions")
+    public ResponseEntity<List<TransitionDurationDto>> getTransitionDurations(
+            @RequestParam Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<TransitionDurationDto> durations = analyticsService.getTransitionDurations(userId, from, to);
+        return ResponseEntity.ok(durations);
+    }
+    
+    // 기간별 전환 퍼널 (period=DAY|WEEK|MONTH)
+    @GetMapping("/analytics/funnel")
+    public ResponseEntity<List<FunnelPeriodDto>> getFunnel(
+            @RequestParam Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "WEEK") ApplicationAnalyticsService.Period period) {
+        List<FunnelPeriodDto> funnel = analyticsService.getFunnel(userId, from, to, period);
+        return ResponseEntity.ok(funnel);
+    }
+}
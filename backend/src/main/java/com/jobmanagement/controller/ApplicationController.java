@@ -1,33 +1,105 @@
 package com.jobmanagement.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jobmanagement.dto.ApplicationBulkStatusRequestDto;
+import com.jobmanagement.dto.ApplicationBulkStatusResultDto;
 import com.jobmanagement.dto.ApplicationDto;
+import com.jobmanagement.dto.ApplicationImportResultDto;
+import com.jobmanagement.dto.ApplicationPageDto;
 import com.jobmanagement.dto.ApplicationStatsDto;
+import com.jobmanagement.service.ApplicationBulkStatusService;
+import com.jobmanagement.service.ApplicationExportService;
+import com.jobmanagement.service.ApplicationImportService;
 import com.jobmanagement.service.ApplicationService;
+import com.jobmanagement.service.ResourceWatermarks;
+import com.jobmanagement.util.MergePatch;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/applications")
 @RequiredArgsConstructor
-@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"}, exposedHeaders = {"ETag", "Last-Modified"})
 public class ApplicationController {
     
     private final ApplicationService applicationService;
+    private final ApplicationImportService applicationImportService;
+    private final ApplicationBulkStatusService applicationBulkStatusService;
+    private final ApplicationExportService applicationExportService;
+    private final ResourceWatermarks resourceWatermarks;
     
+    // 사용자의 지원 내역(연관 회사/이력서/자기소개서 포함)이 그대로면 목록을 읽지 않고 304
     @GetMapping
-    public ResponseEntity<List<ApplicationDto>> getApplicationsByUser(@RequestParam Long userId) {
+    public ResponseEntity<List<ApplicationDto>> getApplicationsByUser(@RequestParam Long userId, WebRequest webRequest) {
+        if (resourceWatermarks.applicationsByUser(userId).checkNotModified(webRequest)) {
+            return null;
+        }
         List<ApplicationDto> applications = applicationService.getApplicationsByUser(userId);
-        return ResponseEntity.ok(applications);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(applications);
+    }
+    
+    @GetMapping("/page")
+    public ResponseEntity<ApplicationPageDto> getApplicationPage(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            WebRequest webRequest) {
+        // 사용자 전체 워터마크는 행 수에 비례하는 집계라 keyset 조회보다 비쌈, 페이지를 읽은 뒤 그 행들로 ETag 계산
+        ApplicationPageDto page = applicationService.getApplicationPage(userId, cursor, size, status, from, to);
+        if (ResourceWatermarks.applicationPage(page).checkNotModified(webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(page);
+    }
+    
+    // 전체 지원 내역 내보내기 (format=ndjson|csv, 행 단위 스트리밍)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            @RequestParam Long userId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ApplicationExportService.Format exportFormat;
+        try {
+            exportFormat = ApplicationExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("지원하지 않는 형식입니다: " + format);
+        }
+        applicationExportService.checkUser(userId);
+        
+        MediaType mediaType = exportFormat == ApplicationExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+        String filename = "applications-" + userId + "." + exportFormat.name().toLowerCase();
+        StreamingResponseBody body = out -> applicationExportService.export(userId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
     }
     
     @GetMapping("/{applicationId}")
-    public ResponseEntity<ApplicationDto> getApplication(@PathVariable Long applicationId) {
+    public ResponseEntity<ApplicationDto> getApplication(@PathVariable Long applicationId, WebRequest webRequest) {
+        if (resourceWatermarks.application(applicationId).checkNotModified(webRequest)) {
+            return null;
+        }
         ApplicationDto application = applicationService.getApplication(applicationId);
-        return ResponseEntity.ok(application);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(application);
     }
     
     @GetMapping("/stats")
@@ -42,12 +114,31 @@ public class ApplicationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdApplication);
     }
     
+    // 과거 지원 내역 일괄 등록 (text/csv 또는 application/x-ndjson 본문을 스트리밍으로 처리)
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ApplicationImportResultDto> importApplications(
+            @RequestParam Long userId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        ApplicationImportResultDto result = MediaType.valueOf("text/csv").includes(contentType)
+                ? applicationImportService.importCsv(userId, body)
+                : applicationImportService.importNdjson(userId, body);
+        return ResponseEntity.ok(result);
+    }
+    
     @PutMapping("/{applicationId}")
     public ResponseEntity<ApplicationDto> updateApplication(@PathVariable Long applicationId, @RequestBody ApplicationDto applicationDto) {
         ApplicationDto updatedApplication = applicationService.updateApplication(applicationId, applicationDto);
         return ResponseEntity.ok(updatedApplication);
     }
     
+    // JSON Merge Patch: 보낸 필드만 변경 (null이면 지움), version/updatedAt을 보내면 그 값일 때만 변경 (다르면 409)
+    @PatchMapping(value = "/{applicationId}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Void> patchApplication(@PathVariable Long applicationId, @RequestBody JsonNode patch) {
+        applicationService.patchApplication(applicationId, new MergePatch(patch));
+        return ResponseEntity.noContent().build();
+    }
+    
     @PutMapping("/{applicationId}/status")
     public ResponseEntity<ApplicationDto> updateApplicationStatus(
             @PathVariable Long applicationId, 
@@ -56,6 +147,13 @@ public class ApplicationController {
         return ResponseEntity.ok(updatedApplication);
     }
     
+    @PutMapping("/bulk/status")
+    public ResponseEntity<ApplicationBulkStatusResultDto> updateApplicationStatuses(
+            @RequestBody ApplicationBulkStatusRequestDto request) {
+        ApplicationBulkStatusResultDto result = applicationBulkStatusService.updateStatuses(request);
+        return ResponseEntity.ok(result);
+    }
+    
     @DeleteMapping("/{applicationId}")
     public ResponseEntity<Void> deleteApplication(@PathVariable Long applicationId) {
         applicationService.deleteApplication(applicationId);
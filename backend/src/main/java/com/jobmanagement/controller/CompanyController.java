@@ -1,30 +1,82 @@
 package com.jobmanagement.controller;
 
 import com.jobmanagement.dto.CompanyDto;
+import com.jobmanagement.dto.CompanySuggestionDto;
+import com.jobmanagement.service.CompanyCatalog;
 import com.jobmanagement.service.CompanyService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/companies")
 @RequiredArgsConstructor
-@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"}, exposedHeaders = "ETag")
 public class CompanyController {
     
     private final CompanyService companyService;
     
+    // 스냅샷에 미리 직렬화해 둔 JSON을 그대로 전송, If-None-Match가 일치하면 304
     @GetMapping
-    public ResponseEntity<List<CompanyDto>> getAllCompanies() {
-        List<CompanyDto> companies = companyService.getAllCompanies();
-        return ResponseEntity.ok(companies);
+    public ResponseEntity<byte[]> getAllCompanies(WebRequest webRequest) {
+        CompanyCatalog.Snapshot snapshot = companyService.getCatalogSnapshot();
+        if (webRequest.checkNotModified(snapshot.getEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getJson());
     }
     
+    // Accept가 CBOR/Smile이면 미리 직렬화한 JSON 대신 스냅샷 목록을 해당 형식으로 직렬화
+    @GetMapping(produces = {"application/cbor", "application/x-jackson-smile"})
+    public ResponseEntity<List<CompanyDto>> getAllCompaniesBinary(WebRequest webRequest) {
+        CompanyCatalog.Snapshot snapshot = companyService.getCatalogSnapshot();
+        if (webRequest.checkNotModified(snapshot.getEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.getCompanies());
+    }
+    
+    // 자동완성: q=네이, ㄴㅇㅂ, 넹 ...
+    @GetMapping("/search")
+    public ResponseEntity<List<CompanySuggestionDto>> searchCompanies(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        List<CompanySuggestionDto> suggestions = companyService.searchCompanies(q, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+    
+    // 단건도 목록 스냅샷에서 나오므로 스냅샷 ETag로 검사 (스냅샷에 없는 회사는 그대로 조회)
     @GetMapping("/{companyId}")
-    public ResponseEntity<CompanyDto> getCompany(@PathVariable Long companyId) {
+    public ResponseEntity<CompanyDto> getCompany(@PathVariable Long companyId, WebRequest webRequest) {
+        CompanyCatalog.Snapshot snapshot = companyService.getCatalogSnapshot();
+        if (snapshot.getCompaniesById().containsKey(companyId) && webRequest.checkNotModified(snapshot.getEtag())) {
+            return null;
+        }
         CompanyDto company = companyService.getCompany(companyId);
-        return ResponseEntity.ok(company);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(company);
+    }
+    
+    @PostMapping
+    public ResponseEntity<CompanyDto> createCompany(@RequestBody CompanyDto companyDto) {
+        CompanyDto createdCompany = companyService.createCompany(companyDto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdCompany);
+    }
+    
+    @PutMapping("/{companyId}")
+    public ResponseEntity<CompanyDto> updateCompany(@PathVariable Long companyId, @RequestBody CompanyDto companyDto) {
+        CompanyDto updatedCompany = companyService.updateCompany(companyId, companyDto);
+        return ResponseEntity.ok(updatedCompany);
     }
 }
@@ -0,0 +1,23 @@
+package com.jobmanagement.controller;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+// 낙관적 잠금 충돌 → 409 (재시도로도 해소되지 않았거나 클라이언트가 보낸 version이 낡은 경우)
+@Slf4j
+@RestControllerAdvice
+public class ConflictExceptionHandler {
+    
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleConflict(OptimisticLockingFailureException e) {
+        log.debug("수정 충돌: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("message", "다른 요청이 먼저 수정했습니다. 최신 내용을 다시 불러온 뒤 시도하세요."));
+    }
+}
@@ -0,0 +1,116 @@
+package com.jobmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jobmanagement.dto.CoverLetterDto;
+import com.jobmanagement.dto.CoverLetterDuplicateDto;
+import com.jobmanagement.dto.CoverLetterSimilarityDto;
+import com.jobmanagement.dto.CoverLetterSummaryDto;
+import com.jobmanagement.service.CoverLetterService;
+import com.jobmanagement.service.CoverLetterSimilarityService;
+import com.jobmanagement.service.ResourceWatermarks;
+import com.jobmanagement.util.MergePatch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cover-letters")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"}, exposedHeaders = {"ETag", "Last-Modified"})
+public class CoverLetterController {
+    
+    private final CoverLetterService coverLetterService;
+    private final CoverLetterSimilarityService coverLetterSimilarityService;
+    private final ResourceWatermarks resourceWatermarks;
+    
+    // 목록에는 본문이 없음 (contentLength만), 본문은 상세 조회나 /content로
+    @GetMapping
+    public ResponseEntity<List<CoverLetterSummaryDto>> getCoverLettersByUser(
+            @RequestParam Long userId,
+            @RequestParam(defaultValue = "false") boolean templatesOnly,
+            WebRequest webRequest) {
+        if (resourceWatermarks.coverLettersByUser(userId).checkNotModified(webRequest)) {
+            return null;
+        }
+        List<CoverLetterSummaryDto> coverLetters = coverLetterService.getCoverLettersByUser(userId, templatesOnly);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(coverLetters);
+    }
+    
+    // 사용자의 자기소개서 중 서로 거의 같은 쌍 (threshold 생략 시 cover-letters.similarity.default-threshold)
+    @GetMapping("/duplicates")
+    public ResponseEntity<List<CoverLetterDuplicateDto>> getDuplicates(
+            @RequestParam Long userId,
+            @RequestParam(required = false) Double threshold,
+            @RequestParam(required = false) Integer limit) {
+        List<CoverLetterDuplicateDto> duplicates = coverLetterSimilarityService.getDuplicates(userId, threshold, limit);
+        return ResponseEntity.ok(duplicates);
+    }
+    
+    // 긴 본문(cover-letters.inline-max-chars 초과)은 content를 비워서 반환
+    @GetMapping("/{coverLetterId}")
+    public ResponseEntity<CoverLetterDto> getCoverLetter(@PathVariable Long coverLetterId, WebRequest webRequest) {
+        if (resourceWatermarks.coverLetter(coverLetterId).checkNotModified(webRequest)) {
+            return null;
+        }
+        CoverLetterDto coverLetter = coverLetterService.getCoverLetter(coverLetterId);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(coverLetter);
+    }
+    
+    // 본문만 text/plain으로 (저장된 압축을 풀면서 스트리밍)
+    @GetMapping("/{coverLetterId}/content")
+    public ResponseEntity<StreamingResponseBody> getCoverLetterContent(@PathVariable Long coverLetterId, WebRequest webRequest) {
+        if (resourceWatermarks.coverLetter(coverLetterId).checkNotModified(webRequest)) {
+            return null;
+        }
+        coverLetterService.checkCoverLetter(coverLetterId);
+        
+        StreamingResponseBody body = out -> coverLetterService.writeContent(coverLetterId, out);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .body(body);
+    }
+    
+    // 비슷한 자기소개서와 원본으로 보이는 템플릿
+    @GetMapping("/{coverLetterId}/similar")
+    public ResponseEntity<CoverLetterSimilarityDto> getSimilar(
+            @PathVariable Long coverLetterId,
+            @RequestParam(required = false) Double threshold,
+            @RequestParam(required = false) Integer limit) {
+        CoverLetterSimilarityDto similarity = coverLetterSimilarityService.getSimilar(coverLetterId, threshold, limit);
+        return ResponseEntity.ok(similarity);
+    }
+    
+    @PostMapping
+    public ResponseEntity<CoverLetterDto> createCoverLetter(@RequestBody CoverLetterDto coverLetterDto) {
+        CoverLetterDto createdCoverLetter = coverLetterService.createCoverLetter(coverLetterDto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdCoverLetter);
+    }
+    
+    @PutMapping("/{coverLetterId}")
+    public ResponseEntity<CoverLetterDto> updateCoverLetter(@PathVariable Long coverLetterId, @RequestBody CoverLetterDto coverLetterDto) {
+        CoverLetterDto updatedCoverLetter = coverLetterService.updateCoverLetter(coverLetterId, coverLetterDto);
+        return ResponseEntity.ok(updatedCoverLetter);
+    }
+    
+    // JSON Merge Patch: 보낸 필드만 변경 (content가 null이면 본문을 지움), version/updatedAt을 보내면 그 값일 때만 변경 (다르면 409)
+    @PatchMapping(value = "/{coverLetterId}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Void> patchCoverLetter(@PathVariable Long coverLetterId, @RequestBody JsonNode patch) {
+        coverLetterService.patchCoverLetter(coverLetterId, new MergePatch(patch));
+        return ResponseEntity.noContent().build();
+    }
+    
+    @DeleteMapping("/{coverLetterId}")
+    public ResponseEntity<Void> deleteCoverLetter(@PathVariable Long coverLetterId) {
+        coverLetterService.deleteCoverLetter(coverLetterId);
+        return ResponseEntity.noContent().build();
+    }
+}
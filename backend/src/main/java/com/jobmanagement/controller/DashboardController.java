@@ -0,0 +1,24 @@
+package com.jobmanagement.controller;
+
+import com.jobmanagement.dto.DashboardDto;
+import com.jobmanagement.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class DashboardController {
+    
+    private final DashboardService dashboardService;
+    
+    // 사용자 정보, 대표 이력서, 지원 통계, 최근 지원 내역을 한 번에 조회
+    @GetMapping
+    public ResponseEntity<DashboardDto> getDashboard(@RequestParam Long userId,
+                                                     @RequestParam(required = false) Integer recent) {
+        DashboardDto dashboard = dashboardService.getDashboard(userId, recent);
+        return ResponseEntity.ok(dashboard);
+    }
+}
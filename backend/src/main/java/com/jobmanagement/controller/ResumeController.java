@@ -1,32 +1,45 @@
 package com.jobmanagement.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.jobmanagement.dto.ResumeDto;
+import com.jobmanagement.service.ResourceWatermarks;
 import com.jobmanagement.service.ResumeService;
+import com.jobmanagement.util.MergePatch;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/resumes")
 @RequiredArgsConstructor
-@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"}, exposedHeaders = {"ETag", "Last-Modified"})
 public class ResumeController {
     
     private final ResumeService resumeService;
+    private final ResourceWatermarks resourceWatermarks;
     
     @GetMapping
-    public ResponseEntity<List<ResumeDto>> getResumesByUser(@RequestParam Long userId) {
+    public ResponseEntity<List<ResumeDto>> getResumesByUser(@RequestParam Long userId, WebRequest webRequest) {
+        if (resourceWatermarks.resumesByUser(userId).checkNotModified(webRequest)) {
+            return null;
+        }
         List<ResumeDto> resumes = resumeService.getResumesByUser(userId);
-        return ResponseEntity.ok(resumes);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(resumes);
     }
     
     @GetMapping("/{resumeId}")
-    public ResponseEntity<ResumeDto> getResume(@PathVariable Long resumeId) {
+    public ResponseEntity<ResumeDto> getResume(@PathVariable Long resumeId, WebRequest webRequest) {
+        if (resourceWatermarks.resume(resumeId).checkNotModified(webRequest)) {
+            return null;
+        }
         ResumeDto resume = resumeService.getResume(resumeId);
-        return ResponseEntity.ok(resume);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(resume);
     }
     
     @PostMapping
@@ -41,6 +54,13 @@ public class ResumeController {
         return ResponseEntity.ok(updatedResume);
     }
     
+    // JSON Merge Patch: 보낸 필드만 변경 (null이면 지움), version/updatedAt을 보내면 그 값일 때만 변경 (다르면 409)
+    @PatchMapping(value = "/{resumeId}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Void> patchResume(@PathVariable Long resumeId, @RequestBody JsonNode patch) {
+        resumeService.patchResume(resumeId, new MergePatch(patch));
+        return ResponseEntity.noContent().build();
+    }
+    
     @DeleteMapping("/{resumeId}")
     public ResponseEntity<Void> deleteResume(@PathVariable Long resumeId) {
         resumeService.deleteResume(resumeId);
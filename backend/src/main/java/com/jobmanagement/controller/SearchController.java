@@ -0,0 +1,29 @@
+package com.jobmanagement.controller;
+
+import com.jobmanagement.dto.SearchResultDto;
+import com.jobmanagement.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class SearchController {
+    
+    private final SearchService searchService;
+    
+    // 지원 메모/자기소개서 전문 검색 (type=APPLICATION|COVER_LETTER, 생략 시 전체)
+    @GetMapping
+    public ResponseEntity<List<SearchResultDto>> search(
+            @RequestParam Long userId,
+            @RequestParam String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Integer limit) {
+        List<SearchResultDto> results = searchService.search(userId, q, type, limit);
+        return ResponseEntity.ok(results);
+    }
+}
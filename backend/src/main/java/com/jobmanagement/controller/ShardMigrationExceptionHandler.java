@@ -0,0 +1,27 @@
+package com.jobmanagement.controller;
+
+import com.jobmanagement.config.ShardMigrationInProgressException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+// 버킷 이동 중인 사용자의 쓰기 → 503 + Retry-After (이동은 보통 몇 초 안에 끝남)
+@Slf4j
+@RestControllerAdvice
+public class ShardMigrationExceptionHandler {
+    
+    private static final String RETRY_AFTER_SECONDS = "5";
+    
+    @ExceptionHandler(ShardMigrationInProgressException.class)
+    public ResponseEntity<Map<String, String>> handleMigration(ShardMigrationInProgressException e) {
+        log.debug("버킷 이동 중 쓰기 거절: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(Map.of("message", e.getMessage()));
+    }
+}
@@ -1,23 +1,33 @@
 package com.jobmanagement.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.jobmanagement.dto.UserDto;
+import com.jobmanagement.service.ResourceWatermarks;
 import com.jobmanagement.service.UserService;
+import com.jobmanagement.util.MergePatch;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
-@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"}, exposedHeaders = {"ETag", "Last-Modified"})
 public class UserController {
     
     private final UserService userService;
+    private final ResourceWatermarks resourceWatermarks;
     
     @GetMapping("/{userId}")
-    public ResponseEntity<UserDto> getUser(@PathVariable Long userId) {
+    public ResponseEntity<UserDto> getUser(@PathVariable Long userId, WebRequest webRequest) {
+        if (resourceWatermarks.user(userId).checkNotModified(webRequest)) {
+            return null;
+        }
         UserDto user = userService.getUser(userId);
-        return ResponseEntity.ok(user);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(user);
     }
     
     @PutMapping("/{userId}")
@@ -25,4 +35,11 @@ public class UserController {
         UserDto updatedUser = userService.updateUser(userId, userDto);
         return ResponseEntity.ok(updatedUser);
     }
+    
+    // JSON Merge Patch: 보낸 필드만 변경 (null이면 지움), version/updatedAt을 보내면 그 값일 때만 변경 (다르면 409)
+    @PatchMapping(value = "/{userId}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Void> patchUser(@PathVariable Long userId, @RequestBody JsonNode patch) {
+        userService.patchUser(userId, new MergePatch(patch));
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,22 @@
+package com.jobmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityStatsDto {
+    private LocalDate periodStart;
+    // 기간 내 새로 작성/등록한 건수
+    private Long resumeCount;
+    private Long coverLetterCount;
+    private Long bookmarkCount;
+    private Long deadlineCount;
+    private Long applicationCount;
+}
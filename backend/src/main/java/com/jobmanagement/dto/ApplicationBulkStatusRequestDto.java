@@ -0,0 +1,24 @@
+package com.jobmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationBulkStatusRequestDto {
+    private Long userId;
+    private String status;
+    
+    // 대상 지정: applicationIds 또는 아래 필터 중 하나 이상
+    private List<Long> applicationIds;
+    private String fromStatus;
+    private LocalDate appliedFrom;
+    private LocalDate appliedTo;
+}
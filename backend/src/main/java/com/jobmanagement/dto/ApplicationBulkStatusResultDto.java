@@ -0,0 +1,21 @@
+package com.jobmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationBulkStatusResultDto {
+    private String status;
+    private List<Long> changedIds;
+    // 이미 목표 상태였던 지원 내역
+    private List<Long> unchangedIds;
+    // 존재하지 않거나 다른 사용자 소유, 또는 처리 시점에 fromStatus 조건과 맞지 않은 지원 내역
+    private List<Long> skippedIds;
+}
@@ -0,0 +1,36 @@
+package com.jobmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationCursor {
+    private LocalDate appliedDate;
+    private Long applicationId;
+    
+    // "2025-06-01|12" 형태를 URL-safe Base64로 인코딩 (지원일이 없으면 "|12")
+    public String encode() {
+        String raw = (appliedDate != null ? appliedDate.toString() : "") + "|" + applicationId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static ApplicationCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            String date = raw.substring(0, separator);
+            Long id = Long.valueOf(raw.substring(separator + 1));
+            return new ApplicationCursor(date.isEmpty() ? null : LocalDate.parse(date), id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new RuntimeException("유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+}
@@ -25,6 +25,8 @@ public class ApplicationDto {
     private String status;
     private LocalDate appliedDate;
     private String notes;
+    // 수정 요청에 담아 보내면 그 버전 기준으로만 수정 (낡았으면 409), 없으면 검사 생략
+    private Long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
@@ -41,6 +43,7 @@ public class ApplicationDto {
                 .status(application.getStatus().name())
                 .appliedDate(application.getAppliedDate())
                 .notes(application.getNotes())
+                .version(application.getVersion())
                 .createdAt(application.getCreatedAt())
                 .updatedAt(application.getUpdatedAt())
                 .build();
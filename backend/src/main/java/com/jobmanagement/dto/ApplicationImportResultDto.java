@@ -0,0 +1,27 @@
+package com.jobmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationImportResultDto {
+    private Long totalRows;
+    private Long importedCount;
+    private Long failedCount;
+    private List<RowError> errors;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private Long rowNumber;
+        private String message;
+    }
+}
@@ -0,0 +1,18 @@
+package com.jobmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationPageDto {
+    private List<ApplicationDto> items;
+    private String nextCursor;
+    private Boolean hasNext;
+}
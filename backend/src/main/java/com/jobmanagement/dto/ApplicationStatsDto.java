@@ -1,10 +1,14 @@
 package com.jobmanagement.dto;
 
+import com.jobmanagement.entity.Application;
+import com.jobmanagement.entity.ApplicationStatusCount;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -16,6 +20,31 @@ public class ApplicationStatsDto {
     private Long finalPassCount;
     private Long rejectedCount;
     
+    public static ApplicationStatsDto from(ApplicationStatusCount count) {
+        return ApplicationStatsDto.builder()
+                .totalApplications(count.getAppliedCount() + count.getDocumentPassCount()
+                        + count.getFinalPassCount() + count.getRejectedCount())
+                .appliedCount(count.getAppliedCount())
+                .documentPassCount(count.getDocumentPassCount())
+                .finalPassCount(count.getFinalPassCount())
+                .rejectedCount(count.getRejectedCount())
+                .build();
+    }
+    
+    public static ApplicationStatsDto from(Map<Application.ApplicationStatus, Long> counts) {
+        long applied = counts.getOrDefault(Application.ApplicationStatus.APPLIED, 0L);
+        long documentPass = counts.getOrDefault(Application.ApplicationStatus.DOCUMENT_PASS, 0L);
+        long finalPass = counts.getOrDefault(Application.ApplicationStatus.FINAL_PASS, 0L);
+        long rejected = counts.getOrDefault(Application.ApplicationStatus.REJECTED, 0L);
+        return ApplicationStatsDto.builder()
+                .totalApplications(applied + documentPass + finalPass + rejected)
+                .appliedCount(applied)
+                .documentPassCount(documentPass)
+                .finalPassCount(finalPass)
+                .rejectedCount(rejected)
+                .build();
+    }
+    
     // 통과율 계산
     public Double getDocumentPassRate() {
         if (totalApplications == 0) return 0.0;
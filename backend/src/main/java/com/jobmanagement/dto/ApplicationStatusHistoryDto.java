@@ -0,0 +1,31 @@
+package com.jobmanagement.dto;
+
+import com.jobmanagement.entity.ApplicationStatusHistory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationStatusHistoryDto {
+    private Long historyId;
+    private Long applicationId;
+    private String fromStatus;
+    private String toStatus;
+    private LocalDateTime changedAt;
+    
+    public static ApplicationStatusHistoryDto from(ApplicationStatusHistory history) {
+        return ApplicationStatusHistoryDto.builder()
+                .historyId(history.getHistoryId())
+                .applicationId(history.getApplicationId())
+                .fromStatus(history.getFromStatus() != null ? history.getFromStatus().name() : null)
+                .toStatus(history.getToStatus().name())
+                .changedAt(history.getChangedAt())
+                .build();
+    }
+}
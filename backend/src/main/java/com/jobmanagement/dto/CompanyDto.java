@@ -26,7 +26,7 @@ public class CompanyDto {
                 .companyId(company.getCompanyId())
                 .name(company.getName())
                 .industry(company.getIndustry())
-                .size(company.getSize().name())
+                .size(company.getSize() != null ? company.getSize().name() : null)
                 .location(company.getLocation())
                 .createdAt(company.getCreatedAt())
                 .updatedAt(company.getUpdatedAt())
@@ -0,0 +1,19 @@
+package com.jobmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompanySuggestionDto {
+    private Long companyId;
+    private String name;
+    private String industry;
+    private String location;
+    // 전체 사용자의 지원 건수 (정렬 기준)
+    private Long applicationCount;
+}
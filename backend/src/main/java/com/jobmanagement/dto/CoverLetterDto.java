@@ -0,0 +1,42 @@
+package com.jobmanagement.dto;
+
+import com.jobmanagement.entity.CoverLetter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoverLetterDto {
+    private Long coverLetterId;
+    private Long userId;
+    private String title;
+    // 응답: cover-letters.inline-max-chars보다 길면 비워 두고 GET /api/cover-letters/{id}/content로 따로 받음
+    // 수정 요청: 없으면 본문은 그대로
+    private String content;
+    private Integer contentLength;
+    private Boolean isTemplate;
+    // 수정 요청에 담아 보내면 그 버전 기준으로만 수정 (낡았으면 409), 없으면 검사 생략
+    private Long version;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    public static CoverLetterDto from(CoverLetter coverLetter, String content) {
+        return CoverLetterDto.builder()
+                .coverLetterId(coverLetter.getCoverLetterId())
+                .userId(coverLetter.getUser().getUserId())
+                .title(coverLetter.getTitle())
+                .content(content)
+                .contentLength(coverLetter.getContentLength())
+                .isTemplate(coverLetter.getIsTemplate())
+                .version(coverLetter.getVersion())
+                .createdAt(coverLetter.getCreatedAt())
+                .updatedAt(coverLetter.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.jobmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoverLetterDuplicateDto {
+    private Long coverLetterId;
+    private String title;
+    private Long duplicateId;
+    private String duplicateTitle;
+    private Double similarity;
+}
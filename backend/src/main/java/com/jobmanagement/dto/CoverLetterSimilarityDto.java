@@ -0,0 +1,19 @@
+package com.jobmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoverLetterSimilarityDto {
+    private Long coverLetterId;
+    // 이 자기소개서보다 먼저 만든 템플릿 중 가장 비슷한 것 (기준 이상인 템플릿이 없으면 null)
+    private SimilarCoverLetterDto sourceTemplate;
+    private List<SimilarCoverLetterDto> similar;
+}
@@ -0,0 +1,24 @@
+package com.jobmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 자기소개서 목록 항목 (본문 없음, CoverLetterRepository의 JPQL 생성자 표현식으로 바로 만듦)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoverLetterSummaryDto {
+    private Long coverLetterId;
+    private Long userId;
+    private String title;
+    private Boolean isTemplate;
+    private Integer contentLength;
+    private Long version;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.jobmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDto {
+    private UserDto user;
+    private ResumeDto primaryResume;
+    private ApplicationStatsDto stats;
+    private List<ApplicationDto> recentApplications;
+    // 시간 초과/실패로 비어 있는 섹션 (user, primaryResume, stats, recentApplications)
+    private List<String> degradedSections;
+}
@@ -0,0 +1,32 @@
+package com.jobmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FunnelPeriodDto {
+    private LocalDate periodStart;
+    // 기간 내 각 상태로 진입한 건수
+    private Long appliedCount;
+    private Long documentPassCount;
+    private Long finalPassCount;
+    private Long rejectedCount;
+    
+    // 전환율 계산
+    public Double getDocumentPassRate() {
+        if (appliedCount == 0) return 0.0;
+        return (documentPassCount / (double) appliedCount) * 100;
+    }
+    
+    public Double getFinalPassRate() {
+        if (documentPassCount == 0) return 0.0;
+        return (finalPassCount / (double) documentPassCount) * 100;
+    }
+}
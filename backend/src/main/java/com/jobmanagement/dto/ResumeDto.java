@@ -21,6 +21,8 @@ public class ResumeDto {
     private String targetCompanyType;
     private String targetLocation;
     private Boolean isPublic;
+    // 수정 요청에 담아 보내면 그 버전 기준으로만 수정 (낡았으면 409), 없으면 검사 생략
+    private Long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
@@ -34,6 +36,7 @@ public class ResumeDto {
                 .targetCompanyType(resume.getTargetCompanyType())
                 .targetLocation(resume.getTargetLocation())
                 .isPublic(resume.getIsPublic())
+                .version(resume.getVersion())
                 .createdAt(resume.getCreatedAt())
                 .updatedAt(resume.getUpdatedAt())
                 .build();
@@ -0,0 +1,21 @@
+package com.jobmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultDto {
+    private String type;  // APPLICATION, COVER_LETTER
+    private Long id;
+    private String title;
+    private String snippet;
+    private Double score;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,20 @@
+package com.jobmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarCoverLetterDto {
+    private Long coverLetterId;
+    private String title;
+    private Boolean isTemplate;
+    private Double similarity;  // 추정 Jaccard 유사도 (0~1)
+    private LocalDateTime createdAt;
+}
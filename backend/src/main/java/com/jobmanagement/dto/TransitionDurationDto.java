@@ -0,0 +1,20 @@
+package com.jobmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransitionDurationDto {
+    private String fromStatus;
+    private String toStatus;
+    private Long transitionCount;
+    // 이전 상태에 머문 시간(시간 단위), 로그 구간 히스토그램에서 보간한 근사값
+    private Double p50Hours;
+    private Double p90Hours;
+    private Double p99Hours;
+}
@@ -19,6 +19,8 @@ public class UserDto {
     private String jobCategory;
     private String profileImageUrl;
     private Boolean isMatchingEnabled;
+    // 수정 요청에 담아 보내면 그 버전 기준으로만 수정 (낡았으면 409), 없으면 검사 생략
+    private Long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
@@ -36,6 +38,7 @@ public class UserDto {
                 .jobCategory(user.getJobCategory())
                 .profileImageUrl(user.getProfileImageUrl())
                 .isMatchingEnabled(user.getIsMatchingEnabled())
+                .version(user.getVersion())
                 .createdAt(user.getCreatedAt())
                 .updatedAt(user.getUpdatedAt())
                 // 임시 하드코딩 값 (추후 DB 스키마 수정 시 변경)
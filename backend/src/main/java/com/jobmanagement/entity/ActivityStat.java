@@ -0,0 +1,56 @@
+package com.jobmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "activity_stats",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "stat_type", "date"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityStat {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stat_id")
+    private Long statId;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stat_type", nullable = false)
+    private StatType statType;
+
+    @Builder.Default
+    private Integer value = 0;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum StatType {
+        RESUME_COUNT, COVER_LETTER_COUNT, BOOKMARK_COUNT, DEADLINE_COUNT, APPLICATION_COUNT
+    }
+}
@@ -0,0 +1,38 @@
+package com.jobmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "application_status_counts")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationStatusCount {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "applied_count", nullable = false)
+    private Long appliedCount;
+
+    @Column(name = "document_pass_count", nullable = false)
+    private Long documentPassCount;
+
+    @Column(name = "final_pass_count", nullable = false)
+    private Long finalPassCount;
+
+    @Column(name = "rejected_count", nullable = false)
+    private Long rejectedCount;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
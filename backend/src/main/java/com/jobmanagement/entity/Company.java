@@ -4,7 +4,11 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,7 +16,9 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+// 2차 캐시: 회사 정보는 거의 바뀌지 않고 지원 등록/목록에서 계속 읽힘 (수정 시 Hibernate가 캐시도 갱신)
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "companies")
 @Data
 @Builder
@@ -45,9 +51,13 @@ public class Company {
     private LocalDateTime updatedAt;
 
     // 연관관계
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "company", fetch = FetchType.LAZY)
     private List<Application> applications = new ArrayList<>();
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "company", fetch = FetchType.LAZY)
     private List<UserCompany> userCompanies = new ArrayList<>();
 
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -24,6 +26,8 @@ public class CoverLetter {
     @Column(name = "cover_letter_id")
     private Long coverLetterId;
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -31,12 +35,18 @@ public class CoverLetter {
     @Column(nullable = false, length = 200)
     private String title;
 
-    @Column(columnDefinition = "TEXT")
-    private String content;
+    // 본문은 cover_letter_contents에 따로 저장 (CoverLetterContentStore), 여기에는 글자 수만
+    @Builder.Default
+    @Column(name = "content_length", nullable = false)
+    private Integer contentLength = 0;
 
     @Column(name = "is_template")
     private Boolean isTemplate = false;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -46,6 +56,8 @@ public class CoverLetter {
     private LocalDateTime updatedAt;
 
     // 연관관계
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "coverLetter", fetch = FetchType.LAZY)
     private List<Application> applications = new ArrayList<>();
 }
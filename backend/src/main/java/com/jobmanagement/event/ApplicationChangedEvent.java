@@ -0,0 +1,13 @@
+package com.jobmanagement.event;
+
+import lombok.Value;
+
+// 지원 내역 단건 생성/수정/삭제 (트랜잭션 커밋 후 인메모리 인덱스 갱신용)
+@Value
+public class ApplicationChangedEvent {
+    Long applicationId;
+    Long userId;
+    Long companyId;
+    String notes;
+    ChangeType changeType;
+}
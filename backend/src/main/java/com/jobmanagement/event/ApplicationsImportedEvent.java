@@ -0,0 +1,13 @@
+package com.jobmanagement.event;
+
+import lombok.Value;
+
+import java.util.Map;
+
+// 일괄 등록처럼 개별 행 이벤트 없이 여러 지원 내역이 한 번에 추가된 경우
+@Value
+public class ApplicationsImportedEvent {
+    Long userId;
+    int importedCount;
+    Map<Long, Long> importedCountsByCompany;  // 회사 ID → 추가된 지원 내역 수
+}
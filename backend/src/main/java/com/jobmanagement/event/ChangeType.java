@@ -0,0 +1,5 @@
+package com.jobmanagement.event;
+
+public enum ChangeType {
+    CREATED, UPDATED, DELETED
+}
@@ -0,0 +1,10 @@
+package com.jobmanagement.event;
+
+import lombok.Value;
+
+// 회사 정보가 추가/수정된 경우 (카탈로그 스냅샷 무효화용)
+@Value
+public class CompanyChangedEvent {
+    Long companyId;
+    ChangeType changeType;
+}
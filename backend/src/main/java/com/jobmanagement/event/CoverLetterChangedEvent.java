@@ -0,0 +1,13 @@
+package com.jobmanagement.event;
+
+import lombok.Value;
+
+// 자기소개서 생성/수정/삭제 (트랜잭션 커밋 후 검색 색인 갱신용, 삭제면 title/content는 null)
+@Value
+public class CoverLetterChangedEvent {
+    Long coverLetterId;
+    Long userId;
+    String title;
+    String content;
+    ChangeType changeType;
+}
@@ -0,0 +1,21 @@
+package com.jobmanagement.repository;
+
+import com.jobmanagement.entity.ActivityStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ActivityStatRepository extends JpaRepository<ActivityStat, Long> {
+    
+    // 결과: [date, statType, value]
+    @Query("SELECT a.date, a.statType, a.value FROM ActivityStat a " +
+           "WHERE a.user.userId = :userId AND a.date BETWEEN :fromDate AND :toDate")
+    List<Object[]> findValuesByUserIdAndDateBetween(@Param("userId") Long userId,
+                                                    @Param("fromDate") LocalDate fromDate,
+                                                    @Param("toDate") LocalDate toDate);
+}
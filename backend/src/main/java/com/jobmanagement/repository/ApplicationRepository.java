@@ -1,23 +1,136 @@
 package com.jobmanagement.repository;
 
 import com.jobmanagement.entity.Application;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
     List<Application> findByUserUserIdOrderByAppliedDateDesc(Long userId);
     
+    // 목록 조회용: 회사/이력서/자기소개서를 한 번에 조인해서 N+1 방지
+    @Query("SELECT a FROM Application a " +
+           "JOIN FETCH a.company " +
+           "LEFT JOIN FETCH a.resume " +
+           "LEFT JOIN FETCH a.coverLetter " +
+           "WHERE a.user.userId = :userId " +
+           "ORDER BY a.appliedDate DESC, a.applicationId DESC")
+    List<Application> findAllWithAssociationsByUserId(@Param("userId") Long userId);
+    
+    // 단건 조회/수정 후 DTO 변환용 (회사/이력서/자기소개서 지연 로딩 방지)
+    @Query("SELECT a FROM Application a " +
+           "JOIN FETCH a.company " +
+           "LEFT JOIN FETCH a.resume " +
+           "LEFT JOIN FETCH a.coverLetter " +
+           "WHERE a.applicationId = :applicationId")
+    Optional<Application> findWithAssociationsById(@Param("applicationId") Long applicationId);
+    
+    @Query("SELECT a FROM Application a JOIN FETCH a.company WHERE a.applicationId IN :ids")
+    List<Application> findAllWithCompanyByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 커서 기반 페이지 조회 (applied_date, application_id 내림차순 keyset)
+    // 조건마다 인덱스 범위를 바로 찾아가도록 상태 필터 유무, 날짜가 있는 구간/NULL 구간별로 쿼리를 나눔
+    // 날짜 구간: idx_applications_user_applied(상태 필터 시 idx_applications_user_status)를 (cursorDate, cursorId)부터 역순으로 읽음
+    // 첫 페이지는 cursorDate = 조회 상한, cursorId = Long.MAX_VALUE
+    @Query("SELECT a FROM Application a " +
+           "JOIN FETCH a.company " +
+           "LEFT JOIN FETCH a.resume " +
+           "LEFT JOIN FETCH a.coverLetter " +
+           "WHERE a.user.userId = :userId " +
+           "AND a.appliedDate >= :fromDate AND a.appliedDate <= :cursorDate " +
+           "AND (a.appliedDate < :cursorDate OR a.applicationId < :cursorId) " +
+           "ORDER BY a.appliedDate DESC, a.applicationId DESC")
+    List<Application> findDatedPageByUserId(@Param("userId") Long userId,
+                                            @Param("fromDate") LocalDate fromDate,
+                                            @Param("cursorDate") LocalDate cursorDate,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable pageable);
+    
+    @Query("SELECT a FROM Application a " +
+           "JOIN FETCH a.company " +
+           "LEFT JOIN FETCH a.resume " +
+           "LEFT JOIN FETCH a.coverLetter " +
+           "WHERE a.user.userId = :userId AND a.status = :status " +
+           "AND a.appliedDate >= :fromDate AND a.appliedDate <= :cursorDate " +
+           "AND (a.appliedDate < :cursorDate OR a.applicationId < :cursorId) " +
+           "ORDER BY a.appliedDate DESC, a.applicationId DESC")
+    List<Application> findDatedPageByUserIdAndStatus(@Param("userId") Long userId,
+                                                     @Param("status") Application.ApplicationStatus status,
+                                                     @Param("fromDate") LocalDate fromDate,
+                                                     @Param("cursorDate") LocalDate cursorDate,
+                                                     @Param("cursorId") Long cursorId,
+                                                     Pageable pageable);
+    
+    // applied_date가 NULL인 행 (MySQL 내림차순 정렬에서 마지막), 날짜 구간을 다 읽은 뒤 application_id 역순으로 이어서 조회
+    @Query("SELECT a FROM Application a " +
+           "JOIN FETCH a.company " +
+           "LEFT JOIN FETCH a.resume " +
+           "LEFT JOIN FETCH a.coverLetter " +
+           "WHERE a.user.userId = :userId AND a.appliedDate IS NULL AND a.applicationId < :cursorId " +
+           "ORDER BY a.applicationId DESC")
+    List<Application> findUndatedPageByUserId(@Param("userId") Long userId,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
+    
+    @Query("SELECT a FROM Application a " +
+           "JOIN FETCH a.company " +
+           "LEFT JOIN FETCH a.resume " +
+           "LEFT JOIN FETCH a.coverLetter " +
+           "WHERE a.user.userId = :userId AND a.status = :status " +
+           "AND a.appliedDate IS NULL AND a.applicationId < :cursorId " +
+           "ORDER BY a.applicationId DESC")
+    List<Application> findUndatedPageByUserIdAndStatus(@Param("userId") Long userId,
+                                                       @Param("status") Application.ApplicationStatus status,
+                                                       @Param("cursorId") Long cursorId,
+                                                       Pageable pageable);
+    
+    @Query("SELECT a.applicationId FROM Application a " +
+           "WHERE a.user.userId = :userId " +
+           "AND (:status IS NULL OR a.status = :status) " +
+           "AND (:fromDate IS NULL OR a.appliedDate >= :fromDate) " +
+           "AND (:toDate IS NULL OR a.appliedDate <= :toDate) " +
+           "ORDER BY a.applicationId")
+    List<Long> findIdsByFilter(@Param("userId") Long userId,
+                               @Param("status") Application.ApplicationStatus status,
+                               @Param("fromDate") LocalDate fromDate,
+                               @Param("toDate") LocalDate toDate);
+    
+    // 일괄 상태 변경 전 현재 상태를 잠그면서 조회 (결과: [application_id, status, created_at])
+    // 동시 일괄 변경 간 교착을 피하도록 항상 application_id 순서로 잠금
+    @Query(value = "SELECT application_id, status, created_at FROM applications " +
+                   "WHERE user_id = :userId AND application_id IN (:ids) " +
+                   "AND (:status IS NULL OR status = :status) " +
+                   "ORDER BY application_id FOR UPDATE", nativeQuery = true)
+    List<Object[]> findStatusesForUpdate(@Param("userId") Long userId,
+                                         @Param("ids") Collection<Long> ids,
+                                         @Param("status") String status);
+    
+    // 부분 수정(PATCH) 전에 키 컬럼만 잠그면서 조회, notes는 읽지 않음 (결과: [user_id, company_id, status, created_at])
+    @Query(value = "SELECT user_id, company_id, status, created_at FROM applications " +
+                   "WHERE application_id = :applicationId FOR UPDATE", nativeQuery = true)
+    List<Object[]> findKeysForUpdate(@Param("applicationId") Long applicationId);
+    
+    // version도 올려서 이 행을 먼저 읽어 둔 JPA 수정이 낙관적 잠금 충돌로 실패하게 함
+    @Modifying
+    @Query("UPDATE Application a SET a.status = :status, a.updatedAt = CURRENT_TIMESTAMP, a.version = a.version + 1 WHERE a.applicationId IN :ids")
+    int updateStatusByIdIn(@Param("status") Application.ApplicationStatus status, @Param("ids") Collection<Long> ids);
+    
     @Query("SELECT a FROM Application a WHERE a.user.userId = :userId AND a.status = :status")
     List<Application> findByUserIdAndStatus(@Param("userId") Long userId, @Param("status") Application.ApplicationStatus status);
     
-    @Query("SELECT COUNT(a) FROM Application a WHERE a.user.userId = :userId AND a.status = :status")
-    Long countByUserIdAndStatus(@Param("userId") Long userId, @Param("status") Application.ApplicationStatus status);
+    // 사용자별 상태 집계를 한 번의 GROUP BY로 조회 (결과: [status, count])
+    @Query("SELECT a.status, COUNT(a) FROM Application a WHERE a.user.userId = :userId GROUP BY a.status")
+    List<Object[]> countByUserIdGroupByStatus(@Param("userId") Long userId);
     
-    @Query("SELECT COUNT(a) FROM Application a WHERE a.user.userId = :userId")
-    Long countByUserId(@Param("userId") Long userId);
+    @Query("SELECT MIN(u.userId), MAX(u.userId) FROM User u")
+    List<Object[]> findUserIdRange();
 }
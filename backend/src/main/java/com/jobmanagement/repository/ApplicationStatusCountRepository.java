@@ -0,0 +1,52 @@
+package com.jobmanagement.repository;
+
+import com.jobmanagement.entity.ApplicationStatusCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ApplicationStatusCountRepository extends JpaRepository<ApplicationStatusCount, Long> {
+    
+    // 네이티브 문장은 건드리는 테이블을 알려줘서 2차 캐시(회사, 사용자)가 통째로 비워지지 않게 함
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "application_status_counts"))
+    @Query(value = "UPDATE application_status_counts SET " +
+                   "applied_count = applied_count + :applied, " +
+                   "document_pass_count = document_pass_count + :documentPass, " +
+                   "final_pass_count = final_pass_count + :finalPass, " +
+                   "rejected_count = rejected_count + :rejected " +
+                   "WHERE user_id = :userId", nativeQuery = true)
+    int addCounts(@Param("userId") Long userId,
+                  @Param("applied") long applied,
+                  @Param("documentPass") long documentPass,
+                  @Param("finalPass") long finalPass,
+                  @Param("rejected") long rejected);
+    
+    // 원본 applications 행 기준으로 user_id 구간의 카운터를 다시 계산 (없으면 생성)
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "application_status_counts"))
+    @Query(value = "INSERT INTO application_status_counts " +
+                   "(user_id, applied_count, document_pass_count, final_pass_count, rejected_count) " +
+                   "SELECT u.user_id, " +
+                   "COALESCE(SUM(a.status = 'APPLIED'), 0), " +
+                   "COALESCE(SUM(a.status = 'DOCUMENT_PASS'), 0), " +
+                   "COALESCE(SUM(a.status = 'FINAL_PASS'), 0), " +
+                   "COALESCE(SUM(a.status = 'REJECTED'), 0) " +
+                   "FROM users u LEFT JOIN applications a ON a.user_id = u.user_id " +
+                   "WHERE u.user_id BETWEEN :fromUserId AND :toUserId " +
+                   "GROUP BY u.user_id " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "applied_count = VALUES(applied_count), " +
+                   "document_pass_count = VALUES(document_pass_count), " +
+                   "final_pass_count = VALUES(final_pass_count), " +
+                   "rejected_count = VALUES(rejected_count)", nativeQuery = true)
+    int recalculate(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+}
@@ -0,0 +1,25 @@
+package com.jobmanagement.repository;
+
+import com.jobmanagement.entity.ApplicationStatusHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ApplicationStatusHistoryRepository extends JpaRepository<ApplicationStatusHistory, Long> {
+    List<ApplicationStatusHistory> findByApplicationIdOrderByChangedAtAscHistoryIdAsc(Long applicationId);
+    
+    @Query("SELECT MAX(h.changedAt) FROM ApplicationStatusHistory h WHERE h.applicationId = :applicationId")
+    Optional<LocalDateTime> findLastChangedAt(@Param("applicationId") Long applicationId);
+    
+    // 결과: [application_id, 마지막 변경 시각]
+    @Query("SELECT h.applicationId, MAX(h.changedAt) FROM ApplicationStatusHistory h " +
+           "WHERE h.applicationId IN :applicationIds GROUP BY h.applicationId")
+    List<Object[]> findLastChangedAtByApplicationIdIn(@Param("applicationIds") Collection<Long> applicationIds);
+}
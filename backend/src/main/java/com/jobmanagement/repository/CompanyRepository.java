@@ -1,12 +1,23 @@
 package com.jobmanagement.repository;
 
 import com.jobmanagement.entity.Company;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CompanyRepository extends JpaRepository<Company, Long> {
+    
+    // 회사 등록/수정 때마다 같은 이름으로 중복 확인, 결과(id)는 쿼리 캐시에 두고 엔티티는 2차 캐시에서 읽음
+    // companies 테이블이 바뀌면 Hibernate가 이 결과를 무효화함
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Company> findByName(String name);
+    
+    List<Company> findByNameIn(Collection<String> names);
 }
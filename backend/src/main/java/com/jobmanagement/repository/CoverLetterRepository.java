@@ -1,13 +1,34 @@
 package com.jobmanagement.repository;
 
+import com.jobmanagement.dto.CoverLetterSummaryDto;
 import com.jobmanagement.entity.CoverLetter;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CoverLetterRepository extends JpaRepository<CoverLetter, Long> {
-    List<CoverLetter> findByUserUserIdOrderByCreatedAtDesc(Long userId);
-    List<CoverLetter> findByUserUserIdAndIsTemplateTrue(Long userId);
+    
+    // 목록은 엔티티 대신 필요한 컬럼만 DTO로 (본문은 다른 테이블이라 애초에 읽지 않음)
+    @Query("SELECT new com.jobmanagement.dto.CoverLetterSummaryDto(c.coverLetterId, c.user.userId, c.title, c.isTemplate, " +
+           "c.contentLength, c.version, c.createdAt, c.updatedAt) " +
+           "FROM CoverLetter c WHERE c.user.userId = :userId AND (:templatesOnly = false OR c.isTemplate = true) " +
+           "ORDER BY c.createdAt DESC, c.coverLetterId DESC")
+    List<CoverLetterSummaryDto> findSummariesByUserId(@Param("userId") Long userId, @Param("templatesOnly") boolean templatesOnly);
+    
+    @Query("SELECT new com.jobmanagement.dto.CoverLetterSummaryDto(c.coverLetterId, c.user.userId, c.title, c.isTemplate, " +
+           "c.contentLength, c.version, c.createdAt, c.updatedAt) " +
+           "FROM CoverLetter c WHERE c.coverLetterId IN :coverLetterIds")
+    List<CoverLetterSummaryDto> findSummariesByIdIn(@Param("coverLetterIds") Collection<Long> coverLetterIds);
+    
+    @Query("SELECT c.coverLetterId FROM CoverLetter c WHERE c.user.userId = :userId AND c.coverLetterId IN :coverLetterIds")
+    List<Long> findIdsByUserIdAndCoverLetterIdIn(@Param("userId") Long userId, @Param("coverLetterIds") Collection<Long> coverLetterIds);
+    
+    // 부분 수정(PATCH) 후 검색 색인 갱신용 (결과: [user_id, title])
+    @Query("SELECT c.user.userId, c.title FROM CoverLetter c WHERE c.coverLetterId = :coverLetterId")
+    List<Object[]> findUserIdAndTitleById(@Param("coverLetterId") Long coverLetterId);
 }
@@ -1,9 +1,16 @@
 package com.jobmanagement.repository;
 
 import com.jobmanagement.entity.Resume;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +18,21 @@ import java.util.Optional;
 public interface ResumeRepository extends JpaRepository<Resume, Long> {
     List<Resume> findByUserUserId(Long userId);
     Optional<Resume> findByUserUserIdAndIsPrimaryTrue(Long userId);
+    
+    @Query("SELECT r.resumeId FROM Resume r WHERE r.user.userId = :userId AND r.resumeId IN :resumeIds")
+    List<Long> findIdsByUserIdAndResumeIdIn(@Param("userId") Long userId, @Param("resumeIds") Collection<Long> resumeIds);
+    
+    @Query("SELECT r.user.userId FROM Resume r WHERE r.resumeId = :resumeId")
+    Optional<Long> findUserIdById(@Param("resumeId") Long resumeId);
+    
+    // 기존 대표 해제와 새 대표 지정을 한 문장으로 처리 (해당 사용자의 이력서가 아니면 0 반환)
+    // 유일 인덱스(uk_resumes_primary_user)는 행마다 검사하므로 기존 대표 행부터 갱신되도록 is_primary 내림차순
+    // 영속성 컨텍스트를 비우므로 호출 후에는 엔티티를 다시 읽어야 함
+    // 네이티브 UPDATE는 건드리는 테이블을 알려주지 않으면 Hibernate가 2차 캐시 전체를 비움 (HINT_NATIVE_SPACES)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "resumes"))
+    @Query(value = "UPDATE resumes SET is_primary = (resume_id = :resumeId), version = version + 1 " +
+            "WHERE user_id = :userId AND (is_primary = TRUE OR resume_id = :resumeId) " +
+            "ORDER BY is_primary DESC", nativeQuery = true)
+    int switchPrimary(@Param("userId") Long userId, @Param("resumeId") Long resumeId);
 }
@@ -0,0 +1,127 @@
+package com.jobmanagement.service;
+
+import com.jobmanagement.config.ShardDirectory;
+import com.jobmanagement.entity.ActivityStat;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 활동 통계 write-behind 버퍼: (사용자, 유형, 날짜)별 증가분을 메모리에서 합친 뒤 주기적으로 일괄 upsert
+// 트랜잭션 안에서 기록하면 커밋된 경우에만 반영
+// 샤딩 시 사용자의 샤드별로 나눠 반영하고, 버킷을 옮기는 중인 사용자의 증가분은 이동이 끝날 때까지 버퍼에 둠
+// (반영하는 트랜잭션에서 버킷 행을 잠가 다시 확인하므로 디렉터리를 본 뒤 이동이 시작되어도 원래 샤드에 쓰지 않음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityStatsBuffer {
+    
+    private static final String UPSERT_SQL =
+            "INSERT INTO activity_stats (user_id, stat_type, value, date) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE value = value + VALUES(value)";
+    
+    private final ShardDirectory shardDirectory;
+    private final Map<StatKey, Long> pending = new ConcurrentHashMap<>();
+    
+    @Value("${activity-stats.flush-batch-size:500}")
+    private int batchSize;
+    
+    @lombok.Value
+    private static class StatKey {
+        Long userId;
+        ActivityStat.StatType statType;
+        LocalDate date;
+    }
+    
+    public void record(Long userId, ActivityStat.StatType statType, long delta) {
+        StatKey key = new StatKey(userId, statType, LocalDate.now());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.merge(key, delta, Long::sum);
+                }
+            });
+        } else {
+            pending.merge(key, delta, Long::sum);
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${activity-stats.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // 키별로 원자적으로 꺼내므로 flush 도중 들어온 증가분은 다음 flush로 넘어감
+        Map<Integer, List<Map.Entry<StatKey, Long>>> drainedByShard = new HashMap<>();
+        for (StatKey key : pending.keySet()) {
+            if (shardDirectory.isMigrating(key.getUserId())) {
+                continue;
+            }
+            Long delta = pending.remove(key);
+            if (delta != null && delta != 0L) {
+                drainedByShard.computeIfAbsent(shardDirectory.shardOf(key.getUserId()), shard -> new ArrayList<>())
+                        .add(Map.entry(key, delta));
+            }
+        }
+        
+        drainedByShard.forEach((shard, drained) -> {
+            for (int from = 0; from < drained.size(); from += batchSize) {
+                List<Map.Entry<StatKey, Long>> batch = drained.subList(from, Math.min(from + batchSize, drained.size()));
+                try {
+                    List<Map.Entry<StatKey, Long>> moved = shardDirectory.transactionTemplate(shard)
+                            .execute(status -> upsert(shard, batch));
+                    // 위에서 디렉터리를 본 뒤 이동이 시작된 버킷의 증가분은 버퍼에 되돌려 이동이 끝난 뒤 새 샤드에 반영
+                    moved.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), Long::sum));
+                } catch (DataAccessException e) {
+                    // 실패한 증가분은 버퍼에 되돌려 다음 주기에 재시도
+                    log.warn("활동 통계 반영 실패, {}건을 다음 주기에 재시도합니다.", batch.size(), e);
+                    batch.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), Long::sum));
+                }
+            }
+        });
+    }
+    
+    // 한 트랜잭션에서 버킷 행을 잠가 이 샤드가 가진 버킷인지 확인하고 반영, 반영하지 못한 증가분을 반환
+    private List<Map.Entry<StatKey, Long>> upsert(int shard, List<Map.Entry<StatKey, Long>> batch) {
+        Set<Integer> buckets = new HashSet<>();
+        batch.forEach(entry -> buckets.add(shardDirectory.bucketOf(entry.getKey().getUserId())));
+        Set<Integer> owned = shardDirectory.lockOwnedBuckets(shard, buckets);
+        List<Map.Entry<StatKey, Long>> writable = new ArrayList<>(batch.size());
+        List<Map.Entry<StatKey, Long>> moved = new ArrayList<>();
+        for (Map.Entry<StatKey, Long> entry : batch) {
+            (owned.contains(shardDirectory.bucketOf(entry.getKey().getUserId())) ? writable : moved).add(entry);
+        }
+        if (!writable.isEmpty()) {
+            shardDirectory.jdbcTemplate(shard).batchUpdate(UPSERT_SQL, writable.stream()
+                    .map(entry -> new Object[]{
+                            entry.getKey().getUserId(),
+                            entry.getKey().getStatType().name(),
+                            entry.getValue(),
+                            Date.valueOf(entry.getKey().getDate())
+                    })
+                    .toList());
+        }
+        return moved;
+    }
+    
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,72 @@
+package com.jobmanagement.service;
+
+import com.jobmanagement.config.ShardKey;
+import com.jobmanagement.dto.ActivityStatsDto;
+import com.jobmanagement.entity.ActivityStat;
+import com.jobmanagement.repository.ActivityStatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+// 차트용 활동 통계: activity_stats 일별 집계만 읽어서 일/주 단위로 묶음
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ActivityStatsService {
+    
+    private static final int DEFAULT_RANGE_DAYS = 30;
+    private static final int MAX_RANGE_DAYS = 731;
+    
+    public enum Granularity {
+        DAY, WEEK
+    }
+    
+    private final ActivityStatRepository activityStatRepository;
+    
+    public List<ActivityStatsDto> getActivityStats(@ShardKey Long userId, LocalDate from, LocalDate to, Granularity granularity) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new RuntimeException("조회 시작일이 종료일보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new RuntimeException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+        
+        // 값이 없는 기간도 0으로 채워서 차트 x축이 끊기지 않게 함
+        Map<LocalDate, EnumMap<ActivityStat.StatType, Long>> periods = new TreeMap<>();
+        for (LocalDate period = periodStart(start, granularity); !period.isAfter(end); period = nextPeriod(period, granularity)) {
+            periods.put(period, new EnumMap<>(ActivityStat.StatType.class));
+        }
+        for (Object[] row : activityStatRepository.findValuesByUserIdAndDateBetween(userId, start, end)) {
+            LocalDate date = (LocalDate) row[0];
+            ActivityStat.StatType statType = (ActivityStat.StatType) row[1];
+            long value = ((Number) row[2]).longValue();
+            periods.get(periodStart(date, granularity)).merge(statType, value, Long::sum);
+        }
+        
+        List<ActivityStatsDto> results = new ArrayList<>(periods.size());
+        periods.forEach((periodStart, values) -> results.add(ActivityStatsDto.builder()
+                .periodStart(periodStart)
+                .resumeCount(values.getOrDefault(ActivityStat.StatType.RESUME_COUNT, 0L))
+                .coverLetterCount(values.getOrDefault(ActivityStat.StatType.COVER_LETTER_COUNT, 0L))
+                .bookmarkCount(values.getOrDefault(ActivityStat.StatType.BOOKMARK_COUNT, 0L))
+                .deadlineCount(values.getOrDefault(ActivityStat.StatType.DEADLINE_COUNT, 0L))
+                .applicationCount(values.getOrDefault(ActivityStat.StatType.APPLICATION_COUNT, 0L))
+                .build()));
+        return results;
+    }
+    
+    private static LocalDate periodStart(LocalDate date, Granularity granularity) {
+        return granularity == Granularity.WEEK ? date.with(DayOfWeek.MONDAY) : date;
+    }
+    
+    private static LocalDate nextPeriod(LocalDate period, Granularity granularity) {
+        return granularity == Granularity.WEEK ? period.plusWeeks(1) : period.plusDays(1);
+    }
+}
@@ -0,0 +1,139 @@
+package com.jobmanagement.service;
+
+import com.jobmanagement.config.ShardKey;
+import com.jobmanagement.dto.ApplicationStatusHistoryDto;
+import com.jobmanagement.dto.FunnelPeriodDto;
+import com.jobmanagement.dto.TransitionDurationDto;
+import com.jobmanagement.entity.Application;
+import com.jobmanagement.repository.ApplicationStatusHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// 상태 전이 분석: 원본 이력 대신 일별 집계(application_transition_buckets)만 읽어서 계산
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ApplicationAnalyticsService {
+    
+    private static final String BUCKET_SQL =
+            "SELECT bucket_date, from_status, to_status, duration_bucket, transition_count " +
+            "FROM application_transition_buckets " +
+            "WHERE user_id = ? AND bucket_date BETWEEN ? AND ?";
+    private static final int DEFAULT_RANGE_DAYS = 90;
+    
+    public enum Period {
+        DAY, WEEK, MONTH
+    }
+    
+    private final ApplicationStatusHistoryRepository historyRepository;
+    private final JdbcTemplate jdbcTemplate;
+    
+    public List<ApplicationStatusHistoryDto> getHistory(@ShardKey(ShardKey.Owner.APPLICATION_HISTORY) Long applicationId) {
+        return historyRepository.findByApplicationIdOrderByChangedAtAscHistoryIdAsc(applicationId).stream()
+                .map(ApplicationStatusHistoryDto::from)
+                .collect(Collectors.toList());
+    }
+    
+    public List<TransitionDurationDto> getTransitionDurations(@ShardKey Long userId, LocalDate from, LocalDate to) {
+        // (이전 상태, 다음 상태)별 머문 시간 히스토그램 병합
+        Map<String, long[]> histograms = new TreeMap<>();
+        for (BucketRow row : loadBuckets(userId, from, to)) {
+            if (ApplicationStatusHistoryRecorder.NO_STATUS.equals(row.getFromStatus())) {
+                continue;
+            }
+            histograms.computeIfAbsent(row.getFromStatus() + ">" + row.getToStatus(), key -> new long[64])[row.getDurationBucket()] += row.getCount();
+        }
+        
+        List<TransitionDurationDto> results = new ArrayList<>();
+        histograms.forEach((pair, histogram) -> {
+            String[] statuses = pair.split(">");
+            long total = Arrays.stream(histogram).sum();
+            results.add(TransitionDurationDto.builder()
+                    .fromStatus(statuses[0])
+                    .toStatus(statuses[1])
+                    .transitionCount(total)
+                    .p50Hours(percentile(histogram, total, 0.50))
+                    .p90Hours(percentile(histogram, total, 0.90))
+                    .p99Hours(percentile(histogram, total, 0.99))
+                    .build());
+        });
+        return results;
+    }
+    
+    public List<FunnelPeriodDto> getFunnel(@ShardKey Long userId, LocalDate from, LocalDate to, Period period) {
+        Map<LocalDate, Map<String, Long>> entries = new TreeMap<>();
+        for (BucketRow row : loadBuckets(userId, from, to)) {
+            entries.computeIfAbsent(periodStart(row.getBucketDate(), period), key -> new HashMap<>())
+                    .merge(row.getToStatus(), row.getCount(), Long::sum);
+        }
+        
+        List<FunnelPeriodDto> results = new ArrayList<>();
+        entries.forEach((periodStart, counts) -> results.add(FunnelPeriodDto.builder()
+                .periodStart(periodStart)
+                .appliedCount(counts.getOrDefault(Application.ApplicationStatus.APPLIED.name(), 0L))
+                .documentPassCount(counts.getOrDefault(Application.ApplicationStatus.DOCUMENT_PASS.name(), 0L))
+                .finalPassCount(counts.getOrDefault(Application.ApplicationStatus.FINAL_PASS.name(), 0L))
+                .rejectedCount(counts.getOrDefault(Application.ApplicationStatus.REJECTED.name(), 0L))
+                .build()));
+        return results;
+    }
+    
+    private List<BucketRow> loadBuckets(Long userId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS);
+        if (start.isAfter(end)) {
+            throw new RuntimeException("조회 시작일이 종료일보다 늦습니다.");
+        }
+        return jdbcTemplate.query(BUCKET_SQL, (rs, rowNum) -> new BucketRow(
+                rs.getDate("bucket_date").toLocalDate(),
+                rs.getString("from_status"),
+                rs.getString("to_status"),
+                rs.getInt("duration_bucket"),
+                rs.getLong("transition_count")), userId, Date.valueOf(start), Date.valueOf(end));
+    }
+    
+    // 누적 건수가 p에 도달하는 구간 안에서 선형 보간
+    private static double percentile(long[] histogram, long total, double p) {
+        double rank = p * total;
+        long cumulative = 0;
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            if (histogram[bucket] == 0) {
+                continue;
+            }
+            if (cumulative + histogram[bucket] >= rank) {
+                double fraction = (rank - cumulative) / histogram[bucket];
+                double lower = ApplicationStatusHistoryRecorder.bucketLowerHours(bucket);
+                double upper = ApplicationStatusHistoryRecorder.bucketUpperHours(bucket);
+                return lower + (upper - lower) * fraction;
+            }
+            cumulative += histogram[bucket];
+        }
+        return 0.0;
+    }
+    
+    private static LocalDate periodStart(LocalDate date, Period period) {
+        return switch (period) {
+            case DAY -> date;
+            case WEEK -> date.with(DayOfWeek.MONDAY);
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+    
+    @Value
+    private static class BucketRow {
+        LocalDate bucketDate;
+        String fromStatus;
+        String toStatus;
+        int durationBucket;
+        long count;
+    }
+}
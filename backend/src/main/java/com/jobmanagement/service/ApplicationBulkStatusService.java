@@ -0,0 +1,127 @@
+package com.jobmanagement.service;
+
+import com.jobmanagement.config.ShardKey;
+import com.jobmanagement.dto.ApplicationBulkStatusRequestDto;
+import com.jobmanagement.dto.ApplicationBulkStatusResultDto;
+import com.jobmanagement.entity.Application;
+import com.jobmanagement.repository.ApplicationRepository;
+import com.jobmanagement.repository.ApplicationStatusHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 여러 지원 내역의 상태를 청크 단위 UPDATE로 한 번에 변경 (청크마다 별도 트랜잭션)
+@Service
+@RequiredArgsConstructor
+public class ApplicationBulkStatusService {
+    
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationStatsCounter statsCounter;
+    private final ApplicationStatusHistoryRepository historyRepository;
+    private final ApplicationStatusHistoryRecorder historyRecorder;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${application-bulk.chunk-size:500}")
+    private int chunkSize;
+    
+    public ApplicationBulkStatusResultDto updateStatuses(@ShardKey ApplicationBulkStatusRequestDto request) {
+        if (request.getUserId() == null) {
+            throw new RuntimeException("사용자 ID가 필요합니다.");
+        }
+        Application.ApplicationStatus target = parseStatus(request.getStatus());
+        Application.ApplicationStatus fromStatus = request.getFromStatus() != null ? parseStatus(request.getFromStatus()) : null;
+        
+        List<Long> targetIds;
+        if (request.getApplicationIds() != null && !request.getApplicationIds().isEmpty()) {
+            targetIds = new ArrayList<>(new LinkedHashSet<>(request.getApplicationIds()));
+        } else if (fromStatus != null || request.getAppliedFrom() != null || request.getAppliedTo() != null) {
+            targetIds = applicationRepository.findIdsByFilter(
+                    request.getUserId(), fromStatus, request.getAppliedFrom(), request.getAppliedTo());
+        } else {
+            throw new RuntimeException("변경할 지원 내역 ID 또는 필터 조건이 필요합니다.");
+        }
+        
+        ApplicationBulkStatusResultDto result = ApplicationBulkStatusResultDto.builder()
+                .status(target.name())
+                .changedIds(new ArrayList<>())
+                .unchangedIds(new ArrayList<>())
+                .skippedIds(new ArrayList<>())
+                .build();
+        
+        for (int from = 0; from < targetIds.size(); from += chunkSize) {
+            List<Long> chunk = targetIds.subList(from, Math.min(from + chunkSize, targetIds.size()));
+            transactionTemplate.executeWithoutResult(status ->
+                    updateChunk(request.getUserId(), chunk, fromStatus, target, result));
+        }
+        return result;
+    }
+    
+    private void updateChunk(Long userId, List<Long> ids, Application.ApplicationStatus fromStatus,
+                             Application.ApplicationStatus target, ApplicationBulkStatusResultDto result) {
+        // 현재 상태를 잠그고 읽어서 실제로 바뀌는 행과 카운터 변화량을 확정
+        List<Object[]> rows = applicationRepository.findStatusesForUpdate(
+                userId, ids, fromStatus != null ? fromStatus.name() : null);
+        
+        Set<Long> found = new HashSet<>();
+        List<Long> changed = new ArrayList<>();
+        Map<Long, Application.ApplicationStatus> previousStatuses = new HashMap<>();
+        Map<Long, LocalDateTime> createdAts = new HashMap<>();
+        Map<Application.ApplicationStatus, Long> deltas = new EnumMap<>(Application.ApplicationStatus.class);
+        for (Object[] row : rows) {
+            Long applicationId = ((Number) row[0]).longValue();
+            Application.ApplicationStatus current = Application.ApplicationStatus.valueOf((String) row[1]);
+            found.add(applicationId);
+            if (current == target) {
+                result.getUnchangedIds().add(applicationId);
+            } else {
+                changed.add(applicationId);
+                previousStatuses.put(applicationId, current);
+                if (row[2] instanceof Timestamp createdAt) {
+                    createdAts.put(applicationId, createdAt.toLocalDateTime());
+                } else if (row[2] instanceof LocalDateTime createdAt) {
+                    createdAts.put(applicationId, createdAt);
+                }
+                deltas.merge(current, -1L, Long::sum);
+                deltas.merge(target, 1L, Long::sum);
+            }
+        }
+        for (Long id : ids) {
+            if (!found.contains(id)) {
+                result.getSkippedIds().add(id);
+            }
+        }
+        
+        if (!changed.isEmpty()) {
+            applicationRepository.updateStatusByIdIn(target, changed);
+            statsCounter.apply(userId, deltas);
+            recordHistory(userId, changed, previousStatuses, createdAts, target);
+            result.getChangedIds().addAll(changed);
+        }
+    }
+    
+    private void recordHistory(Long userId, List<Long> changed, Map<Long, Application.ApplicationStatus> previousStatuses,
+                               Map<Long, LocalDateTime> createdAts, Application.ApplicationStatus target) {
+        // 각 지원 내역이 이전 상태로 들어간 시각 (이력이 없으면 생성 시각)
+        Map<Long, LocalDateTime> enteredAts = new HashMap<>(createdAts);
+        for (Object[] row : historyRepository.findLastChangedAtByApplicationIdIn(changed)) {
+            enteredAts.put((Long) row[0], (LocalDateTime) row[1]);
+        }
+        historyRecorder.record(changed.stream()
+                .map(id -> new ApplicationStatusHistoryRecorder.StatusTransition(
+                        id, userId, previousStatuses.get(id), target, enteredAts.get(id)))
+                .toList());
+    }
+    
+    private static Application.ApplicationStatus parseStatus(String status) {
+        try {
+            return Application.ApplicationStatus.valueOf(status);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new RuntimeException("유효하지 않은 상태값입니다: " + status);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.jobmanagement.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobmanagement.config.ShardKey;
+import com.jobmanagement.repository.UserRepository;
+import com.jobmanagement.util.CsvWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+// 사용자의 전체 지원 내역을 엔티티/DTO로 모으지 않고 결과 행을 읽는 즉시 출력 스트림에 기록
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ApplicationExportService {
+    
+    private static final String EXPORT_SQL =
+            "SELECT a.application_id, a.user_id, a.company_id, c.name AS company_name, " +
+            "a.resume_id, r.title AS resume_title, a.cover_letter_id, cl.title AS cover_letter_title, " +
+            "a.status, a.applied_date, a.notes, a.created_at, a.updated_at " +
+            "FROM applications a " +
+            "JOIN companies c ON c.company_id = a.company_id " +
+            "LEFT JOIN resumes r ON r.resume_id = a.resume_id " +
+            "LEFT JOIN cover_letters cl ON cl.cover_letter_id = a.cover_letter_id " +
+            "WHERE a.user_id = ? " +
+            "ORDER BY a.applied_date DESC, a.application_id DESC";
+    
+    private static final String[] COLUMNS = {
+            "applicationId", "userId", "companyId", "companyName", "resumeId", "resumeTitle",
+            "coverLetterId", "coverLetterTitle", "status", "appliedDate", "notes", "createdAt", "updatedAt"
+    };
+    
+    public enum Format {
+        NDJSON, CSV
+    }
+    
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    
+    // MySQL Connector/J는 fetchSize가 Integer.MIN_VALUE일 때 행 단위로 스트리밍
+    // (useCursorFetch=true를 켠 경우에는 양수 값으로 서버 커서 fetch 크기를 조정)
+    @Value("${application-export.fetch-size:" + Integer.MIN_VALUE + "}")
+    private int fetchSize;
+    
+    public void checkUser(@ShardKey Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+    }
+    
+    public void export(@ShardKey Long userId, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writeCsv(userId, writer);
+        } else {
+            writeNdjson(userId, writer);
+        }
+        writer.flush();
+    }
+    
+    private void writeNdjson(Long userId, Writer writer) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            streamRows(userId, rs -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeNumberField(COLUMNS[0], rs.getLong("application_id"));
+                    generator.writeNumberField(COLUMNS[1], rs.getLong("user_id"));
+                    generator.writeNumberField(COLUMNS[2], rs.getLong("company_id"));
+                    generator.writeStringField(COLUMNS[3], rs.getString("company_name"));
+                    writeNullableLong(generator, COLUMNS[4], rs, "resume_id");
+                    generator.writeStringField(COLUMNS[5], rs.getString("resume_title"));
+                    writeNullableLong(generator, COLUMNS[6], rs, "cover_letter_id");
+                    generator.writeStringField(COLUMNS[7], rs.getString("cover_letter_title"));
+                    generator.writeStringField(COLUMNS[8], rs.getString("status"));
+                    generator.writeStringField(COLUMNS[9], toDateString(rs.getDate("applied_date")));
+                    generator.writeStringField(COLUMNS[10], rs.getString("notes"));
+                    generator.writeStringField(COLUMNS[11], toDateTimeString(rs.getTimestamp("created_at")));
+                    generator.writeStringField(COLUMNS[12], toDateTimeString(rs.getTimestamp("updated_at")));
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+    
+    private void writeCsv(Long userId, Writer writer) throws IOException {
+        // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+        writer.write('\uFEFF');
+        CsvWriter csv = new CsvWriter(writer);
+        csv.writeRecord((Object[]) COLUMNS);
+        try {
+            streamRows(userId, rs -> {
+                try {
+                    csv.writeRecord(
+                            rs.getLong("application_id"),
+                            rs.getLong("user_id"),
+                            rs.getLong("company_id"),
+                            rs.getString("company_name"),
+                            rs.getObject("resume_id"),
+                            rs.getString("resume_title"),
+                            rs.getObject("cover_letter_id"),
+                            rs.getString("cover_letter_title"),
+                            rs.getString("status"),
+                            toDateString(rs.getDate("applied_date")),
+                            rs.getString("notes"),
+                            toDateTimeString(rs.getTimestamp("created_at")),
+                            toDateTimeString(rs.getTimestamp("updated_at")));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+    
+    private void streamRows(Long userId, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, userId);
+            return ps;
+        }, handler);
+    }
+    
+    private static void writeNullableLong(JsonGenerator generator, String field, ResultSet rs, String column)
+            throws IOException, SQLException {
+        long value = rs.getLong(column);
+        if (rs.wasNull()) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value);
+        }
+    }
+    
+    private static String toDateString(Date date) {
+        return date != null ? date.toLocalDate().toString() : null;
+    }
+    
+    private static String toDateTimeString(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+    }
+}
@@ -0,0 +1,390 @@
+package com.jobmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobmanagement.config.ShardKey;
+import com.jobmanagement.dto.ApplicationDto;
+import com.jobmanagement.dto.ApplicationImportResultDto;
+import com.jobmanagement.entity.ActivityStat;
+import com.jobmanagement.entity.Application;
+import com.jobmanagement.entity.Company;
+import com.jobmanagement.event.ApplicationsImportedEvent;
+import com.jobmanagement.repository.CompanyRepository;
+import com.jobmanagement.repository.CoverLetterRepository;
+import com.jobmanagement.repository.ResumeRepository;
+import com.jobmanagement.repository.UserRepository;
+import com.jobmanagement.util.CsvReader;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ArgumentTypePreparedStatementSetter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+// CSV/NDJSON 본문을 한 줄씩 읽어 청크 단위로 참조를 일괄 조회하고 JDBC 배치로 저장
+// 저장한 행은 개별 등록과 같이 최초 상태 이력(NONE → 상태)과 일별 전이 집계에 포함
+// Application 엔티티는 IDENTITY 전략이라 Hibernate 배치 INSERT가 불가능하므로 JdbcTemplate을 직접 사용
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApplicationImportService {
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO applications (user_id, company_id, resume_id, cover_letter_id, status, applied_date, notes) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] INSERT_TYPES =
+            {Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.DATE, Types.VARCHAR};
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    
+    private final UserRepository userRepository;
+    private final CompanyRepository companyRepository;
+    private final ResumeRepository resumeRepository;
+    private final CoverLetterRepository coverLetterRepository;
+    private final ApplicationStatsCounter statsCounter;
+    private final ApplicationStatusHistoryRecorder historyRecorder;
+    private final ActivityStatsBuffer activityStatsBuffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${application-import.chunk-size:500}")
+    private int chunkSize;
+    
+    public ApplicationImportResultDto importCsv(@ShardKey Long userId, InputStream body) {
+        checkUser(userId);
+        try (CsvReader csv = new CsvReader(openReader(body))) {
+            List<String> header = csv.readRecord();
+            if (header == null) {
+                return new ImportProgress().toResult();
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(normalizeColumn(header.get(i)), i);
+            }
+            
+            return run(userId, new RowSource() {
+                private long rowNumber = 0;
+                
+                @Override
+                public ImportRow next() throws IOException {
+                    List<String> record;
+                    do {
+                        record = csv.readRecord();
+                        if (record == null) {
+                            return null;
+                        }
+                        rowNumber++;
+                    } while (record.size() == 1 && record.get(0).isBlank());
+                    return parseCsvRecord(rowNumber, columns, record);
+                }
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 데이터를 읽을 수 없습니다: " + e.getMessage());
+        }
+    }
+    
+    public ApplicationImportResultDto importNdjson(@ShardKey Long userId, InputStream body) {
+        checkUser(userId);
+        try (BufferedReader reader = openReader(body)) {
+            return run(userId, new RowSource() {
+                private long rowNumber = 0;
+                
+                @Override
+                public ImportRow next() throws IOException {
+                    String line;
+                    do {
+                        line = reader.readLine();
+                        if (line == null) {
+                            return null;
+                        }
+                        rowNumber++;
+                    } while (line.isBlank());
+                    try {
+                        return new ImportRow(rowNumber, objectMapper.readValue(line, ApplicationDto.class), null);
+                    } catch (JsonProcessingException e) {
+                        return new ImportRow(rowNumber, null, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+                    }
+                }
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 데이터를 읽을 수 없습니다: " + e.getMessage());
+        }
+    }
+    
+    private ApplicationImportResultDto run(Long userId, RowSource source) throws IOException {
+        ImportProgress progress = new ImportProgress();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        
+        ImportRow row;
+        while ((row = source.next()) != null) {
+            progress.totalRows++;
+            if (row.error != null) {
+                progress.fail(row.rowNumber, row.error);
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() >= chunkSize) {
+                importChunk(userId, chunk, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(userId, chunk, progress);
+        }
+        if (progress.importedCount > 0) {
+            eventPublisher.publishEvent(new ApplicationsImportedEvent(userId, (int) progress.importedCount,
+                    Map.copyOf(progress.importedCountsByCompany)));
+        }
+        return progress.toResult();
+    }
+    
+    private void importChunk(Long userId, List<ImportRow> chunk, ImportProgress progress) {
+        // 커밋된 청크의 회사별 건수만 이벤트에 포함
+        Map<Long, Long> countsByCompany = new HashMap<>();
+        try {
+            Integer inserted = transactionTemplate.execute(status -> insertChunk(userId, chunk, progress, countsByCompany));
+            progress.importedCount += inserted != null ? inserted : 0;
+            countsByCompany.forEach((companyId, count) -> progress.importedCountsByCompany.merge(companyId, count, Long::sum));
+        } catch (DataAccessException e) {
+            log.warn("지원 내역 일괄 등록 청크 저장 실패 (userId={}, {}건)", userId, chunk.size(), e);
+            for (ImportRow row : chunk) {
+                if (row.error == null) {
+                    progress.fail(row.rowNumber, "저장 중 오류가 발생했습니다.");
+                }
+            }
+        }
+    }
+    
+    private int insertChunk(Long userId, List<ImportRow> chunk, ImportProgress progress, Map<Long, Long> countsByCompany) {
+        // 청크에 등장하는 회사/이력서/자기소개서를 한 번씩만 조회
+        Set<Long> companyIds = new HashSet<>();
+        Set<String> companyNames = new HashSet<>();
+        Set<Long> resumeIds = new HashSet<>();
+        Set<Long> coverLetterIds = new HashSet<>();
+        for (ImportRow row : chunk) {
+            ApplicationDto dto = row.application;
+            if (dto.getCompanyId() != null) {
+                companyIds.add(dto.getCompanyId());
+            } else if (dto.getCompanyName() != null) {
+                companyNames.add(dto.getCompanyName().trim());
+            }
+            if (dto.getResumeId() != null) {
+                resumeIds.add(dto.getResumeId());
+            }
+            if (dto.getCoverLetterId() != null) {
+                coverLetterIds.add(dto.getCoverLetterId());
+            }
+        }
+        
+        Set<Long> knownCompanyIds = new HashSet<>();
+        if (!companyIds.isEmpty()) {
+            companyRepository.findAllById(companyIds).forEach(company -> knownCompanyIds.add(company.getCompanyId()));
+        }
+        Map<String, Long> companyIdsByName = new HashMap<>();
+        if (!companyNames.isEmpty()) {
+            for (Company company : companyRepository.findByNameIn(companyNames)) {
+                companyIdsByName.put(company.getName(), company.getCompanyId());
+            }
+        }
+        Set<Long> ownedResumeIds = resumeIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(resumeRepository.findIdsByUserIdAndResumeIdIn(userId, resumeIds));
+        Set<Long> ownedCoverLetterIds = coverLetterIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(coverLetterRepository.findIdsByUserIdAndCoverLetterIdIn(userId, coverLetterIds));
+        
+        List<Object[]> rows = new ArrayList<>(chunk.size());
+        Map<Application.ApplicationStatus, Long> deltas = new EnumMap<>(Application.ApplicationStatus.class);
+        for (ImportRow row : chunk) {
+            ApplicationDto dto = row.application;
+            
+            Long companyId = dto.getCompanyId();
+            if (companyId != null && !knownCompanyIds.contains(companyId)) {
+                row.error = "회사를 찾을 수 없습니다: " + companyId;
+            } else if (companyId == null) {
+                companyId = dto.getCompanyName() != null ? companyIdsByName.get(dto.getCompanyName().trim()) : null;
+                if (companyId == null) {
+                    row.error = "회사를 찾을 수 없습니다: " + dto.getCompanyName();
+                }
+            }
+            if (row.error == null && dto.getResumeId() != null && !ownedResumeIds.contains(dto.getResumeId())) {
+                row.error = "이력서를 찾을 수 없습니다: " + dto.getResumeId();
+            }
+            if (row.error == null && dto.getCoverLetterId() != null && !ownedCoverLetterIds.contains(dto.getCoverLetterId())) {
+                row.error = "자기소개서를 찾을 수 없습니다: " + dto.getCoverLetterId();
+            }
+            
+            Application.ApplicationStatus status = Application.ApplicationStatus.APPLIED;
+            if (row.error == null && dto.getStatus() != null && !dto.getStatus().isBlank()) {
+                try {
+                    status = Application.ApplicationStatus.valueOf(dto.getStatus().trim());
+                } catch (IllegalArgumentException e) {
+                    row.error = "유효하지 않은 상태값입니다: " + dto.getStatus();
+                }
+            }
+            
+            if (row.error != null) {
+                progress.fail(row.rowNumber, row.error);
+                continue;
+            }
+            rows.add(new Object[]{
+                    userId,
+                    companyId,
+                    dto.getResumeId(),
+                    dto.getCoverLetterId(),
+                    status.name(),
+                    dto.getAppliedDate() != null ? Date.valueOf(dto.getAppliedDate()) : null,
+                    dto.getNotes()
+            });
+            deltas.merge(status, 1L, Long::sum);
+            countsByCompany.merge(companyId, 1L, Long::sum);
+        }
+        
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        // 배치 INSERT에서도 발급된 ID를 받아서 (행 순서대로) 최초 상태 이력을 같은 트랜잭션에 기록
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"application_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        new ArgumentTypePreparedStatementSetter(rows.get(i), INSERT_TYPES).setValues(ps);
+                    }
+                    
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keys);
+        List<Map<String, Object>> generatedIds = keys.getKeyList();
+        if (generatedIds.size() != rows.size()) {
+            throw new IllegalStateException("발급된 ID 수가 저장한 행 수와 다릅니다: " + generatedIds.size() + " / " + rows.size());
+        }
+        List<ApplicationStatusHistoryRecorder.StatusTransition> transitions = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Long applicationId = ((Number) generatedIds.get(i).values().iterator().next()).longValue();
+            transitions.add(new ApplicationStatusHistoryRecorder.StatusTransition(
+                    applicationId, userId, null, Application.ApplicationStatus.valueOf((String) rows.get(i)[4]), null));
+        }
+        historyRecorder.record(transitions);
+        statsCounter.apply(userId, deltas);
+        activityStatsBuffer.record(userId, ActivityStat.StatType.APPLICATION_COUNT, rows.size());
+        return rows.size();
+    }
+    
+    private ImportRow parseCsvRecord(long rowNumber, Map<String, Integer> columns, List<String> record) {
+        try {
+            ApplicationDto dto = ApplicationDto.builder()
+                    .companyId(parseLong(column(columns, record, "companyid")))
+                    .companyName(column(columns, record, "companyname"))
+                    .resumeId(parseLong(column(columns, record, "resumeid")))
+                    .coverLetterId(parseLong(column(columns, record, "coverletterid")))
+                    .status(column(columns, record, "status"))
+                    .appliedDate(parseDate(column(columns, record, "applieddate")))
+                    .notes(column(columns, record, "notes"))
+                    .build();
+            return new ImportRow(rowNumber, dto, null);
+        } catch (NumberFormatException e) {
+            return new ImportRow(rowNumber, null, "숫자 형식이 올바르지 않습니다: " + e.getMessage());
+        } catch (DateTimeParseException e) {
+            return new ImportRow(rowNumber, null, "날짜 형식이 올바르지 않습니다(yyyy-MM-dd): " + e.getParsedString());
+        }
+    }
+    
+    private void checkUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+    }
+    
+    private static BufferedReader openReader(InputStream body) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        // 엑셀에서 내보낸 CSV의 BOM 제거
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+        return reader;
+    }
+    
+    private static String normalizeColumn(String name) {
+        return name.replace("_", "").replace(" ", "").trim().toLowerCase(Locale.ROOT);
+    }
+    
+    private static String column(Map<String, Integer> columns, List<String> record, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index);
+        return value.isEmpty() ? null : value;
+    }
+    
+    private static Long parseLong(String value) {
+        return value != null ? Long.valueOf(value.trim()) : null;
+    }
+    
+    private static LocalDate parseDate(String value) {
+        return value != null ? LocalDate.parse(value.trim()) : null;
+    }
+    
+    private interface RowSource {
+        ImportRow next() throws IOException;
+    }
+    
+    @AllArgsConstructor
+    private static class ImportRow {
+        private final long rowNumber;
+        private final ApplicationDto application;
+        private String error;
+    }
+    
+    private static class ImportProgress {
+        private long totalRows;
+        private long importedCount;
+        private long failedCount;
+        private final List<ApplicationImportResultDto.RowError> errors = new ArrayList<>();
+        private final Map<Long, Long> importedCountsByCompany = new HashMap<>();
+        
+        void fail(long rowNumber, String message) {
+            failedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ApplicationImportResultDto.RowError(rowNumber, message));
+            }
+        }
+        
+        ApplicationImportResultDto toResult() {
+            errors.sort(Comparator.comparing(ApplicationImportResultDto.RowError::getRowNumber));
+            return ApplicationImportResultDto.builder()
+                    .totalRows(totalRows)
+                    .importedCount(importedCount)
+                    .failedCount(failedCount)
+                    .errors(errors)
+                    .build();
+        }
+    }
+}
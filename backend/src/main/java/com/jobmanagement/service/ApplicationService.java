@@ -1,13 +1,27 @@
 package com.jobmanagement.service;
 
+import com.jobmanagement.config.RetryOnConflict;
+import com.jobmanagement.config.ShardKey;
+import com.jobmanagement.dto.ApplicationCursor;
 import com.jobmanagement.dto.ApplicationDto;
+import com.jobmanagement.dto.ApplicationPageDto;
 import com.jobmanagement.dto.ApplicationStatsDto;
 import com.jobmanagement.entity.*;
+import com.jobmanagement.event.ApplicationChangedEvent;
+import com.jobmanagement.event.ChangeType;
 import com.jobmanagement.repository.*;
+import com.jobmanagement.util.MergePatch;
+import com.jobmanagement.util.VersionCheck;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -16,43 +30,105 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ApplicationService {
     
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    // 날짜 범위를 지정하지 않았을 때 쓰는 경계 (MySQL DATE 범위), 조건을 항상 인덱스 범위로 두기 위함
+    private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+    
     private final ApplicationRepository applicationRepository;
     private final UserRepository userRepository;
     private final CompanyRepository companyRepository;
     private final ResumeRepository resumeRepository;
     private final CoverLetterRepository coverLetterRepository;
+    private final ApplicationStatusCountRepository statusCountRepository;
+    private final ApplicationStatsCounter statsCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApplicationStatusHistoryRepository historyRepository;
+    private final ApplicationStatusHistoryRecorder historyRecorder;
+    private final ActivityStatsBuffer activityStatsBuffer;
+    private final ColumnPatcher columnPatcher;
     
-    public List<ApplicationDto> getApplicationsByUser(Long userId) {
-        List<Application> applications = applicationRepository.findByUserUserIdOrderByAppliedDateDesc(userId);
+    public List<ApplicationDto> getApplicationsByUser(@ShardKey Long userId) {
+        List<Application> applications = applicationRepository.findAllWithAssociationsByUserId(userId);
         return applications.stream()
                 .map(ApplicationDto::from)
                 .collect(Collectors.toList());
     }
     
-    public ApplicationDto getApplication(Long applicationId) {
-        Application application = applicationRepository.findById(applicationId)
+    public ApplicationPageDto getApplicationPage(@ShardKey Long userId, String cursor, Integer size, String status,
+                                                 LocalDate fromDate, LocalDate toDate) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        ApplicationCursor after = cursor != null && !cursor.isBlank() ? ApplicationCursor.decode(cursor) : null;
+        
+        Application.ApplicationStatus statusFilter = null;
+        if (status != null && !status.isBlank()) {
+            try {
+                statusFilter = Application.ApplicationStatus.valueOf(status);
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("유효하지 않은 상태값입니다: " + status);
+            }
+        }
+        
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        // 날짜가 있는 구간을 먼저 읽고, 모자라면 applied_date가 NULL인 구간을 이어서 읽음 (두 구간에 걸친 페이지만 쿼리 2번)
+        List<Application> applications = new ArrayList<>();
+        if (after == null || after.getAppliedDate() != null) {
+            LocalDate upper = toDate != null ? toDate : MAX_DATE;
+            LocalDate cursorDate = upper;
+            long cursorId = Long.MAX_VALUE;
+            if (after != null && !after.getAppliedDate().isAfter(upper)) {
+                cursorDate = after.getAppliedDate();
+                cursorId = after.getApplicationId();
+            }
+            LocalDate lower = fromDate != null ? fromDate : MIN_DATE;
+            PageRequest limit = PageRequest.of(0, pageSize + 1);
+            applications.addAll(statusFilter != null
+                    ? applicationRepository.findDatedPageByUserIdAndStatus(userId, statusFilter, lower, cursorDate, cursorId, limit)
+                    : applicationRepository.findDatedPageByUserId(userId, lower, cursorDate, cursorId, limit));
+        }
+        // 날짜 범위를 지정하면 NULL 구간은 범위 밖
+        if (applications.size() <= pageSize && fromDate == null && toDate == null) {
+            long cursorId = after != null && after.getAppliedDate() == null ? after.getApplicationId() : Long.MAX_VALUE;
+            PageRequest limit = PageRequest.of(0, pageSize + 1 - applications.size());
+            applications.addAll(statusFilter != null
+                    ? applicationRepository.findUndatedPageByUserIdAndStatus(userId, statusFilter, cursorId, limit)
+                    : applicationRepository.findUndatedPageByUserId(userId, cursorId, limit));
+        }
+        
+        boolean hasNext = applications.size() > pageSize;
+        List<Application> page = hasNext ? applications.subList(0, pageSize) : applications;
+        
+        String nextCursor = null;
+        if (hasNext) {
+            Application last = page.get(page.size() - 1);
+            nextCursor = new ApplicationCursor(last.getAppliedDate(), last.getApplicationId()).encode();
+        }
+        
+        return ApplicationPageDto.builder()
+                .items(page.stream()
+                        .map(ApplicationDto::from)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+    
+    public ApplicationDto getApplication(@ShardKey(ShardKey.Owner.APPLICATION) Long applicationId) {
+        Application application = applicationRepository.findWithAssociationsById(applicationId)
                 .orElseThrow(() -> new RuntimeException("지원 내역을 찾을 수 없습니다."));
         return ApplicationDto.from(application);
     }
     
-    public ApplicationStatsDto getApplicationStats(Long userId) {
-        Long total = applicationRepository.countByUserId(userId);
-        Long applied = applicationRepository.countByUserIdAndStatus(userId, Application.ApplicationStatus.APPLIED);
-        Long documentPass = applicationRepository.countByUserIdAndStatus(userId, Application.ApplicationStatus.DOCUMENT_PASS);
-        Long finalPass = applicationRepository.countByUserIdAndStatus(userId, Application.ApplicationStatus.FINAL_PASS);
-        Long rejected = applicationRepository.countByUserIdAndStatus(userId, Application.ApplicationStatus.REJECTED);
-        
-        return ApplicationStatsDto.builder()
-                .totalApplications(total != null ? total : 0L)
-                .appliedCount(applied != null ? applied : 0L)
-                .documentPassCount(documentPass != null ? documentPass : 0L)
-                .finalPassCount(finalPass != null ? finalPass : 0L)
-                .rejectedCount(rejected != null ? rejected : 0L)
-                .build();
+    public ApplicationStatsDto getApplicationStats(@ShardKey Long userId) {
+        // 카운터 행이 있으면 단건 조회, 없으면 GROUP BY 한 번으로 집계
+        return statusCountRepository.findById(userId)
+                .map(ApplicationStatsDto::from)
+                .orElseGet(() -> ApplicationStatsDto.from(statsCounter.countFromSource(userId)));
     }
     
     @Transactional
-    public ApplicationDto createApplication(ApplicationDto applicationDto) {
+    public ApplicationDto createApplication(@ShardKey ApplicationDto applicationDto) {
         User user = userRepository.findById(applicationDto.getUserId())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
@@ -91,13 +167,20 @@ public class ApplicationService {
         }
         
         Application savedApplication = applicationRepository.save(builder.build());
+        statsCounter.increment(user.getUserId(), savedApplication.getStatus());
+        historyRecorder.record(new ApplicationStatusHistoryRecorder.StatusTransition(
+                savedApplication.getApplicationId(), user.getUserId(), null, savedApplication.getStatus(), null));
+        activityStatsBuffer.record(user.getUserId(), ActivityStat.StatType.APPLICATION_COUNT, 1);
+        publishChanged(savedApplication, ChangeType.CREATED);
         return ApplicationDto.from(savedApplication);
     }
     
     @Transactional
-    public ApplicationDto updateApplication(Long applicationId, ApplicationDto applicationDto) {
-        Application application = applicationRepository.findById(applicationId)
+    @RetryOnConflict
+    public ApplicationDto updateApplication(@ShardKey(ShardKey.Owner.APPLICATION) Long applicationId, ApplicationDto applicationDto) {
+        Application application = applicationRepository.findWithAssociationsById(applicationId)
                 .orElseThrow(() -> new RuntimeException("지원 내역을 찾을 수 없습니다."));
+        VersionCheck.require("지원 내역", applicationDto.getVersion(), application.getVersion());
         
         if (applicationDto.getAppliedDate() != null) {
             application.setAppliedDate(applicationDto.getAppliedDate());
@@ -107,36 +190,120 @@ public class ApplicationService {
         }
         if (applicationDto.getStatus() != null) {
             try {
-                application.setStatus(Application.ApplicationStatus.valueOf(applicationDto.getStatus()));
+                changeStatus(application, Application.ApplicationStatus.valueOf(applicationDto.getStatus()));
             } catch (IllegalArgumentException e) {
                 // 유효하지 않은 상태는 무시
             }
         }
         
-        Application savedApplication = applicationRepository.save(application);
+        // 증가한 version을 응답에 담도록 커밋 전에 flush (UPDATE 문 수는 같음)
+        Application savedApplication = applicationRepository.saveAndFlush(application);
+        publishChanged(savedApplication, ChangeType.UPDATED);
         return ApplicationDto.from(savedApplication);
     }
     
     @Transactional
-    public ApplicationDto updateApplicationStatus(Long applicationId, String status) {
-        Application application = applicationRepository.findById(applicationId)
+    @RetryOnConflict
+    public ApplicationDto updateApplicationStatus(@ShardKey(ShardKey.Owner.APPLICATION) Long applicationId, String status) {
+        Application application = applicationRepository.findWithAssociationsById(applicationId)
                 .orElseThrow(() -> new RuntimeException("지원 내역을 찾을 수 없습니다."));
         
+        Application.ApplicationStatus newStatus;
         try {
-            application.setStatus(Application.ApplicationStatus.valueOf(status));
+            newStatus = Application.ApplicationStatus.valueOf(status);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("유효하지 않은 상태값입니다: " + status);
         }
+        changeStatus(application, newStatus);
         
-        Application savedApplication = applicationRepository.save(application);
+        // 증가한 version을 응답에 담도록 커밋 전에 flush (UPDATE 문 수는 같음)
+        Application savedApplication = applicationRepository.saveAndFlush(application);
+        publishChanged(savedApplication, ChangeType.UPDATED);
         return ApplicationDto.from(savedApplication);
     }
     
+    // JSON Merge Patch: 보낸 필드의 컬럼만 UPDATE 한 번으로 변경 (notes를 보내지 않으면 notes 컬럼은 읽지도 쓰지도 않음)
+    // 상태 카운터/이력이나 검색 인덱스를 갱신해야 할 때만 키 컬럼을 잠그고 읽음
     @Transactional
-    public void deleteApplication(Long applicationId) {
-        if (!applicationRepository.existsById(applicationId)) {
-            throw new RuntimeException("지원 내역을 찾을 수 없습니다.");
+    public void patchApplication(@ShardKey(ShardKey.Owner.APPLICATION) Long applicationId, MergePatch patch) {
+        patch.requireOnly("status", "appliedDate", "notes", "version", "updatedAt");
+        ColumnPatcher.Update update = new ColumnPatcher.Update("applications", "application_id", applicationId)
+                .expectVersion(patch.longValue("version"))
+                .expectUpdatedAt(patch.dateTime("updatedAt"));
+        Application.ApplicationStatus newStatus = null;
+        if (patch.has("status")) {
+            newStatus = patch.requiredEnum("status", Application.ApplicationStatus.class);
+            update.set("status", newStatus.name());
         }
-        applicationRepository.deleteById(applicationId);
+        if (patch.has("appliedDate")) {
+            update.set("applied_date", patch.date("appliedDate"));
+        }
+        if (patch.has("notes")) {
+            update.set("notes", patch.text("notes"));
+        }
+        
+        Object[] keys = null;
+        if (newStatus != null || patch.has("notes")) {
+            keys = applicationRepository.findKeysForUpdate(applicationId).stream().findFirst()
+                    .orElseThrow(() -> new RuntimeException("지원 내역을 찾을 수 없습니다."));
+        }
+        columnPatcher.apply(update, "지원 내역을 찾을 수 없습니다.");
+        if (keys == null) {
+            return;
+        }
+        
+        Long userId = ((Number) keys[0]).longValue();
+        Long companyId = ((Number) keys[1]).longValue();
+        Application.ApplicationStatus oldStatus = Application.ApplicationStatus.valueOf((String) keys[2]);
+        if (newStatus != null && newStatus != oldStatus) {
+            LocalDateTime createdAt = keys[3] instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) keys[3];
+            recordTransition(applicationId, userId, createdAt, oldStatus, newStatus);
+        }
+        if (patch.has("notes")) {
+            eventPublisher.publishEvent(new ApplicationChangedEvent(
+                    applicationId, userId, companyId, patch.text("notes"), ChangeType.UPDATED));
+        }
+    }
+    
+    @Transactional
+    @RetryOnConflict
+    public void deleteApplication(@ShardKey(ShardKey.Owner.APPLICATION) Long applicationId) {
+        Application application = applicationRepository.findById(applicationId)
+                .orElseThrow(() -> new RuntimeException("지원 내역을 찾을 수 없습니다."));
+        // 카운터 행이 없을 때 원본에서 다시 세므로 삭제를 먼저 반영
+        applicationRepository.delete(application);
+        applicationRepository.flush();
+        statsCounter.decrement(application.getUser().getUserId(), application.getStatus());
+        publishChanged(application, ChangeType.DELETED);
+    }
+    
+    // 상태가 실제로 바뀔 때만 카운터와 이력을 함께 갱신
+    private void changeStatus(Application application, Application.ApplicationStatus newStatus) {
+        Application.ApplicationStatus oldStatus = application.getStatus();
+        if (oldStatus == newStatus) {
+            return;
+        }
+        application.setStatus(newStatus);
+        recordTransition(application.getApplicationId(), application.getUser().getUserId(),
+                application.getCreatedAt(), oldStatus, newStatus);
+    }
+    
+    // 상태 변경이 이미 반영된 뒤에 호출 (카운터 행이 없으면 새 상태 기준으로 다시 셈)
+    private void recordTransition(Long applicationId, Long userId, LocalDateTime createdAt,
+                                  Application.ApplicationStatus oldStatus, Application.ApplicationStatus newStatus) {
+        statsCounter.transition(userId, oldStatus, newStatus);
+        
+        LocalDateTime enteredAt = historyRepository.findLastChangedAt(applicationId).orElse(createdAt);
+        historyRecorder.record(new ApplicationStatusHistoryRecorder.StatusTransition(
+                applicationId, userId, oldStatus, newStatus, enteredAt));
+    }
+    
+    private void publishChanged(Application application, ChangeType changeType) {
+        eventPublisher.publishEvent(new ApplicationChangedEvent(
+                application.getApplicationId(),
+                application.getUser().getUserId(),
+                application.getCompany().getCompanyId(),
+                application.getNotes(),
+                changeType));
     }
 }
@@ -0,0 +1,71 @@
+package com.jobmanagement.service;
+
+import com.jobmanagement.entity.Application;
+import com.jobmanagement.repository.ApplicationRepository;
+import com.jobmanagement.repository.ApplicationStatusCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 사용자별 상태 카운터(application_status_counts)를 지원 내역 변경과 같은 트랜잭션에서 증감
+// 호출 전에 applications 변경(INSERT/UPDATE/DELETE)을 먼저 해야 함: 카운터 행이 없으면 변경 후 원본으로 다시 세고 증감분은 버림
+@Component
+@RequiredArgsConstructor
+public class ApplicationStatsCounter {
+    
+    private final ApplicationStatusCountRepository statusCountRepository;
+    private final ApplicationRepository applicationRepository;
+    
+    public void increment(Long userId, Application.ApplicationStatus status) {
+        Map<Application.ApplicationStatus, Long> deltas = new EnumMap<>(Application.ApplicationStatus.class);
+        deltas.put(status, 1L);
+        apply(userId, deltas);
+    }
+    
+    public void decrement(Long userId, Application.ApplicationStatus status) {
+        Map<Application.ApplicationStatus, Long> deltas = new EnumMap<>(Application.ApplicationStatus.class);
+        deltas.put(status, -1L);
+        apply(userId, deltas);
+    }
+    
+    public void transition(Long userId, Application.ApplicationStatus from, Application.ApplicationStatus to) {
+        if (from == to) {
+            return;
+        }
+        Map<Application.ApplicationStatus, Long> deltas = new EnumMap<>(Application.ApplicationStatus.class);
+        deltas.put(from, -1L);
+        deltas.put(to, 1L);
+        apply(userId, deltas);
+    }
+    
+    public void apply(Long userId, Map<Application.ApplicationStatus, Long> deltas) {
+        if (deltas.values().stream().allMatch(delta -> delta == 0L)) {
+            return;
+        }
+        int updated = statusCountRepository.addCounts(
+                userId,
+                deltas.getOrDefault(Application.ApplicationStatus.APPLIED, 0L),
+                deltas.getOrDefault(Application.ApplicationStatus.DOCUMENT_PASS, 0L),
+                deltas.getOrDefault(Application.ApplicationStatus.FINAL_PASS, 0L),
+                deltas.getOrDefault(Application.ApplicationStatus.REJECTED, 0L));
+        
+        if (updated == 0) {
+            // 카운터 행이 아직 없으면 현재 트랜잭션에서 보이는 (이미 변경된) 원본 행 기준으로 생성, 증감분은 이미 반영돼 있음
+            applicationRepository.flush();
+            statusCountRepository.recalculate(userId, userId);
+        }
+    }
+    
+    // 카운터 행이 없는 사용자를 위한 GROUP BY 한 번짜리 집계
+    public Map<Application.ApplicationStatus, Long> countFromSource(Long userId) {
+        Map<Application.ApplicationStatus, Long> counts = new EnumMap<>(Application.ApplicationStatus.class);
+        List<Object[]> rows = applicationRepository.countByUserIdGroupByStatus(userId);
+        for (Object[] row : rows) {
+            counts.put((Application.ApplicationStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+}
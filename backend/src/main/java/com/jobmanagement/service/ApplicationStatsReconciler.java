@@ -0,0 +1,53 @@
+package com.jobmanagement.service;
+
+import com.jobmanagement.config.ShardDirectory;
+import com.jobmanagement.config.ShardRouting;
+import com.jobmanagement.repository.ApplicationRepository;
+import com.jobmanagement.repository.ApplicationStatusCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 증분 카운터가 원본 applications 행과 어긋난 경우를 주기적으로 바로잡음
+// 사용자 ID 구간 단위로 나눠 실행해서 한 번에 잠그는 행 수를 제한
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplicationStatsReconciler {
+    
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationStatusCountRepository statusCountRepository;
+    private final ShardDirectory shardDirectory;
+    
+    @Value("${application-stats.reconcile-batch-size:1000}")
+    private long batchSize;
+    
+    @Scheduled(cron = "${application-stats.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        // 샤딩 시 샤드마다 그 샤드의 사용자 ID 구간으로 실행 (구간마다 새 트랜잭션이므로 범위 안에서 그 샤드 커넥션을 받음)
+        for (int shard = 0; shard < shardDirectory.shardCount(); shard++) {
+            try (ShardRouting.Scope scope = ShardRouting.on(shard)) {
+                reconcileShard(shard);
+            }
+        }
+    }
+    
+    private void reconcileShard(int shard) {
+        List<Object[]> range = applicationRepository.findUserIdRange();
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            return;
+        }
+        long minUserId = (Long) range.get(0)[0];
+        long maxUserId = (Long) range.get(0)[1];
+        
+        long affected = 0;
+        for (long from = minUserId; from <= maxUserId; from += batchSize) {
+            affected += statusCountRepository.recalculate(from, Math.min(from + batchSize - 1, maxUserId));
+        }
+        log.info("지원 현황 통계 재계산 완료: shard {}, userId {}~{}, 영향 행 수 {}", shard, minUserId, maxUserId, affected);
+    }
+}
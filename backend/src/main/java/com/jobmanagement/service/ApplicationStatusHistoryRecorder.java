@@ -0,0 +1,112 @@
+package com.jobmanagement.service;
+
+import com.jobmanagement.entity.Application;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 상태 변경마다 이력 행을 추가하고, 같은 트랜잭션에서 일별 전이 집계(application_transition_buckets)를 증가
+@Component
+@RequiredArgsConstructor
+public class ApplicationStatusHistoryRecorder {
+    
+    public static final String NO_STATUS = "NONE";
+    
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO application_status_history (application_id, user_id, from_status, to_status, changed_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+    private static final String UPSERT_BUCKET_SQL =
+            "INSERT INTO application_transition_buckets " +
+            "(user_id, bucket_date, from_status, to_status, duration_bucket, transition_count) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE transition_count = transition_count + VALUES(transition_count)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Value
+    public static class StatusTransition {
+        Long applicationId;
+        Long userId;
+        Application.ApplicationStatus fromStatus;  // 최초 등록이면 null
+        Application.ApplicationStatus toStatus;
+        LocalDateTime enteredFromStatusAt;          // 이전 상태로 들어간 시각
+    }
+    
+    @Value
+    private static class BucketKey {
+        Long userId;
+        LocalDate bucketDate;
+        String fromStatus;
+        String toStatus;
+        int durationBucket;
+    }
+    
+    public void record(StatusTransition transition) {
+        record(List.of(transition));
+    }
+    
+    public void record(List<StatusTransition> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp changedAt = Timestamp.valueOf(now);
+        
+        List<Object[]> historyRows = new ArrayList<>(transitions.size());
+        Map<BucketKey, Integer> buckets = new LinkedHashMap<>();
+        for (StatusTransition transition : transitions) {
+            historyRows.add(new Object[]{
+                    transition.getApplicationId(),
+                    transition.getUserId(),
+                    transition.getFromStatus() != null ? transition.getFromStatus().name() : null,
+                    transition.getToStatus().name(),
+                    changedAt
+            });
+            
+            int durationBucket = transition.getFromStatus() == null || transition.getEnteredFromStatusAt() == null
+                    ? 0
+                    : durationBucket(Duration.between(transition.getEnteredFromStatusAt(), now));
+            BucketKey key = new BucketKey(
+                    transition.getUserId(),
+                    now.toLocalDate(),
+                    transition.getFromStatus() != null ? transition.getFromStatus().name() : NO_STATUS,
+                    transition.getToStatus().name(),
+                    durationBucket);
+            buckets.merge(key, 1, Integer::sum);
+        }
+        
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, historyRows);
+        jdbcTemplate.batchUpdate(UPSERT_BUCKET_SQL, buckets.entrySet().stream()
+                .map(entry -> new Object[]{
+                        entry.getKey().getUserId(),
+                        Date.valueOf(entry.getKey().getBucketDate()),
+                        entry.getKey().getFromStatus(),
+                        entry.getKey().getToStatus(),
+                        entry.getKey().getDurationBucket(),
+                        entry.getValue()
+                })
+                .toList());
+    }
+    
+    // 머문 시간(h)을 floor(log2(h + 1)) 구간으로 변환: 0 -> [0,1)h, 1 -> [1,3)h, 2 -> [3,7)h ...
+    public static int durationBucket(Duration duration) {
+        long hours = Math.max(0, duration.toHours());
+        return 63 - Long.numberOfLeadingZeros(hours + 1);
+    }
+    
+    public static double bucketLowerHours(int bucket) {
+        return (1L << bucket) - 1;
+    }
+    
+    public static double bucketUpperHours(int bucket) {
+        return (1L << (bucket + 1)) - 1;
+    }
+}
@@ -0,0 +1,148 @@
+package com.jobmanagement.service;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 부분 수정(PATCH): 엔티티를 읽지 않고 보낸 컬럼만 UPDATE 한 번으로 변경
+// JPA로 저장하면 바뀌지 않은 컬럼(notes 같은 TEXT 포함)까지 모두 다시 쓰게 됨
+// version은 항상 1 올리고, 기대 version/updated_at이 있으면 WHERE 조건으로 걸어서 다르면 409
+// Hibernate를 거치지 않으므로 2차 캐시 대상 엔티티는 cachedAs로 알려줘서 직접 비움
+@Component
+@RequiredArgsConstructor
+public class ColumnPatcher {
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    
+    // 테이블/컬럼 이름은 코드 상수만 받음 (요청 값은 항상 바인딩 파라미터)
+    public static class Update {
+        
+        private final String table;
+        private final String idColumn;
+        private final Object id;
+        private final Map<String, Object> values = new LinkedHashMap<>();
+        private Long expectedVersion;
+        private LocalDateTime expectedUpdatedAt;
+        private Class<?> cachedEntity;
+        
+        public Update(String table, String idColumn, Object id) {
+            this.table = table;
+            this.idColumn = idColumn;
+            this.id = id;
+        }
+        
+        public Update set(String column, Object value) {
+            if (value instanceof LocalDate date) {
+                value = Date.valueOf(date);
+            } else if (value instanceof LocalDateTime dateTime) {
+                value = Timestamp.valueOf(dateTime);
+            }
+            values.put(column, value);
+            return this;
+        }
+        
+        public Update expectVersion(Long version) {
+            this.expectedVersion = version;
+            return this;
+        }
+        
+        public Update expectUpdatedAt(LocalDateTime updatedAt) {
+            this.expectedUpdatedAt = updatedAt;
+            return this;
+        }
+        
+        public Update cachedAs(Class<?> entityClass) {
+            this.cachedEntity = entityClass;
+            return this;
+        }
+        
+        public boolean isEmpty() {
+            return values.isEmpty();
+        }
+        
+        private boolean isConditional() {
+            return expectedVersion != null || expectedUpdatedAt != null;
+        }
+        
+        private String where(List<Object> args) {
+            StringBuilder where = new StringBuilder(" WHERE ").append(idColumn).append(" = ?");
+            args.add(id);
+            if (expectedVersion != null) {
+                where.append(" AND version = ?");
+                args.add(expectedVersion);
+            }
+            if (expectedUpdatedAt != null) {
+                where.append(" AND updated_at = ?");
+                args.add(Timestamp.valueOf(expectedUpdatedAt));
+            }
+            return where.toString();
+        }
+    }
+    
+    // 변경할 컬럼이 없으면 대상 존재와 조건만 확인
+    public void apply(Update update, String notFoundMessage) {
+        List<Object> args = new ArrayList<>();
+        int matched;
+        if (update.isEmpty()) {
+            String sql = "SELECT COUNT(*) FROM " + update.table + update.where(args);
+            matched = jdbcTemplate.queryForObject(sql, Integer.class, args.toArray());
+        } else {
+            StringBuilder sql = new StringBuilder("UPDATE ").append(update.table).append(" SET ");
+            update.values.forEach((column, value) -> {
+                sql.append(column).append(" = ?, ");
+                args.add(value);
+            });
+            sql.append("version = version + 1, updated_at = CURRENT_TIMESTAMP").append(update.where(args));
+            matched = jdbcTemplate.update(sql.toString(), args.toArray());
+            if (matched > 0) {
+                evict(update);
+            }
+        }
+        if (matched > 0) {
+            return;
+        }
+        // 실패했을 때만 원인 구분용으로 한 번 더 조회
+        if (update.isConditional() && exists(update)) {
+            throw new OptimisticLockingFailureException("다른 요청이 먼저 수정했습니다: " + update.table + " " + update.id);
+        }
+        throw new RuntimeException(notFoundMessage);
+    }
+    
+    // 지금 비우고, 커밋 전에 다른 요청이 예전 값을 다시 캐시에 넣었을 수 있으므로 트랜잭션이 끝난 뒤 한 번 더 비움
+    private void evict(Update update) {
+        if (update.cachedEntity == null) {
+            return;
+        }
+        Cache cache = entityManagerFactory.getCache();
+        cache.evict(update.cachedEntity, update.id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evict(update.cachedEntity, update.id);
+                }
+            });
+        }
+    }
+    
+    private boolean exists(Update update) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + update.table + " WHERE " + update.idColumn + " = ?", Integer.class, update.id);
+        return count != null && count > 0;
+    }
+}
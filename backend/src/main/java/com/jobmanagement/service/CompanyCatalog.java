@@ -0,0 +1,108 @@
+package com.jobmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobmanagement.dto.CompanyDto;
+import com.jobmanagement.event.CompanyChangedEvent;
+import com.jobmanagement.repository.CompanyRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 회사 목록 스냅샷: 처음 조회할 때 읽어서 직렬화된 JSON과 ETag까지 함께 보관
+// 회사 정보가 바뀌면 커밋 후 무효화되고 다음 조회에서 다시 읽음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompanyCatalog {
+    
+    private final CompanyRepository companyRepository;
+    private final ObjectMapper objectMapper;
+    
+    // 무효화될 때마다 증가, 로딩 도중 무효화된 스냅샷은 저장하지 않음
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+    
+    @Getter
+    public static class Snapshot {
+        private final long version;
+        private final List<CompanyDto> companies;
+        private final Map<Long, CompanyDto> companiesById;
+        private final byte[] json;
+        private final String etag;
+        
+        private Snapshot(long version, List<CompanyDto> companies, byte[] json) {
+            this.version = version;
+            this.companies = List.copyOf(companies);
+            this.companiesById = companies.stream()
+                    .collect(Collectors.toUnmodifiableMap(CompanyDto::getCompanyId, Function.identity()));
+            this.json = json;
+            // 약한 ETag: 응답 압축(gzip)이나 CBOR/Smile로 바뀐 표현도 같은 내용으로 취급 (강한 ETag면 Tomcat이 압축하지 않음)
+            this.etag = "W/\"" + sha256(json) + "\"";
+        }
+    }
+    
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current == null) {
+                current = load();
+            }
+            return current;
+        }
+    }
+    
+    public void invalidate() {
+        version.incrementAndGet();
+        snapshot = null;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        invalidate();
+    }
+    
+    private Snapshot load() {
+        long loadingVersion = version.get();
+        List<CompanyDto> companies = companyRepository.findAll().stream()
+                .map(CompanyDto::from)
+                .collect(Collectors.toList());
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(companies);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("회사 목록 직렬화 실패", e);
+        }
+        
+        Snapshot loaded = new Snapshot(loadingVersion, companies, json);
+        if (version.get() == loadingVersion) {
+            snapshot = loaded;
+            log.debug("회사 카탈로그 로딩: version={}, {}건, {} bytes", loadingVersion, companies.size(), json.length);
+        }
+        return loaded;
+    }
+    
+    private static String sha256(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.jobmanagement.service;
 
 import com.jobmanagement.dto.CompanyDto;
+import com.jobmanagement.dto.CompanySuggestionDto;
 import com.jobmanagement.entity.Company;
+import com.jobmanagement.event.ChangeType;
+import com.jobmanagement.event.CompanyChangedEvent;
 import com.jobmanagement.repository.CompanyRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -15,18 +20,102 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CompanyService {
     
+    private static final int DEFAULT_SUGGESTION_LIMIT = 10;
+    private static final int MAX_SUGGESTION_LIMIT = 50;
+    
     private final CompanyRepository companyRepository;
+    private final CompanyCatalog companyCatalog;
+    private final CompanyTypeaheadIndex typeaheadIndex;
+    private final ApplicationEventPublisher eventPublisher;
     
+    // 스냅샷이 있으면 DB 커넥션 없이 응답하도록 트랜잭션을 열지 않음
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<CompanyDto> getAllCompanies() {
-        List<Company> companies = companyRepository.findAll();
-        return companies.stream()
-                .map(CompanyDto::from)
+        return companyCatalog.getSnapshot().getCompanies();
+    }
+    
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CompanyCatalog.Snapshot getCatalogSnapshot() {
+        return companyCatalog.getSnapshot();
+    }
+    
+    // 회사명 자동완성 (초성/입력 중인 글자 포함)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<CompanySuggestionDto> searchCompanies(String query, Integer limit) {
+        int size = limit == null ? DEFAULT_SUGGESTION_LIMIT : Math.max(1, Math.min(limit, MAX_SUGGESTION_LIMIT));
+        return typeaheadIndex.suggest(query, size).stream()
+                .map(suggestion -> CompanySuggestionDto.builder()
+                        .companyId(suggestion.getCompany().getCompanyId())
+                        .name(suggestion.getCompany().getName())
+                        .industry(suggestion.getCompany().getIndustry())
+                        .location(suggestion.getCompany().getLocation())
+                        .applicationCount(suggestion.getApplicationCount())
+                        .build())
                 .collect(Collectors.toList());
     }
     
     public CompanyDto getCompany(Long companyId) {
+        CompanyDto cached = companyCatalog.getSnapshot().getCompaniesById().get(companyId);
+        if (cached != null) {
+            return cached;
+        }
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new RuntimeException("회사를 찾을 수 없습니다."));
         return CompanyDto.from(company);
     }
+    
+    @Transactional
+    public CompanyDto createCompany(CompanyDto companyDto) {
+        if (companyDto.getName() == null || companyDto.getName().isBlank()) {
+            throw new RuntimeException("회사명을 입력해주세요.");
+        }
+        if (companyRepository.findByName(companyDto.getName()).isPresent()) {
+            throw new RuntimeException("이미 등록된 회사입니다.");
+        }
+        
+        Company company = Company.builder()
+                .name(companyDto.getName())
+                .industry(companyDto.getIndustry())
+                .size(companyDto.getSize() != null ? parseSize(companyDto.getSize()) : Company.CompanySize.MEDIUM)
+                .location(companyDto.getLocation())
+                .build();
+        
+        Company savedCompany = companyRepository.save(company);
+        eventPublisher.publishEvent(new CompanyChangedEvent(savedCompany.getCompanyId(), ChangeType.CREATED));
+        return CompanyDto.from(savedCompany);
+    }
+    
+    @Transactional
+    public CompanyDto updateCompany(Long companyId, CompanyDto companyDto) {
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new RuntimeException("회사를 찾을 수 없습니다."));
+        
+        if (companyDto.getName() != null && !companyDto.getName().equals(company.getName())) {
+            if (companyRepository.findByName(companyDto.getName()).isPresent()) {
+                throw new RuntimeException("이미 등록된 회사입니다.");
+            }
+            company.setName(companyDto.getName());
+        }
+        if (companyDto.getIndustry() != null) {
+            company.setIndustry(companyDto.getIndustry());
+        }
+        if (companyDto.getSize() != null) {
+            company.setSize(parseSize(companyDto.getSize()));
+        }
+        if (companyDto.getLocation() != null) {
+            company.setLocation(companyDto.getLocation());
+        }
+        
+        Company savedCompany = companyRepository.saveAndFlush(company);
+        eventPublisher.publishEvent(new CompanyChangedEvent(savedCompany.getCompanyId(), ChangeType.UPDATED));
+        return CompanyDto.from(savedCompany);
+    }
+    
+    private static Company.CompanySize parseSize(String size) {
+        try {
+            return Company.CompanySize.valueOf(size);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("회사 규모가 올바르지 않습니다: " + size);
+        }
+    }
 }
@@ -0,0 +1,294 @@
+package com.jobmanagement.service;
+
+import com.jobmanagement.config.ShardDirectory;
+import com.jobmanagement.dto.CompanyDto;
+import com.jobmanagement.event.ApplicationChangedEvent;
+import com.jobmanagement.event.ApplicationsImportedEvent;
+import com.jobmanagement.event.ChangeType;
+import com.jobmanagement.util.HangulJamo;
+import com.jobmanagement.util.TextTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 회사명 자동완성 색인
+// - 초성 키(네이버 → ㄴㅇㅂ)의 unigram/bigram 색인으로 후보를 좁힌 뒤 글자 단위로 검증
+// - 완성된 글자, 초성만 입력한 글자(ㄴㅇㅂ), 입력 중인 마지막 글자(넹 → 네이버)를 모두 허용
+// - 모음이 섞인 자모 입력(ㄴㅔㅇㅣ)은 자모 분해 문자열에서 찾음
+// 회사 카탈로그 스냅샷이 바뀌면 다음 조회에서 다시 만들고, 지원 건수가 많은 회사를 먼저 보여줌
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompanyTypeaheadIndex {
+    
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_PREFIX = 1;
+    private static final int RANK_WORD_START = 2;
+    private static final int RANK_INFIX = 3;
+    private static final int[] NO_POSTINGS = new int[0];
+    
+    private final CompanyCatalog companyCatalog;
+    private final ShardDirectory shardDirectory;
+    
+    private volatile Index index;
+    private volatile Map<Long, Long> applicationCounts = new ConcurrentHashMap<>();
+    
+    @Value
+    public static class Suggestion {
+        CompanyDto company;
+        long applicationCount;
+    }
+    
+    public List<Suggestion> suggest(String query, int limit) {
+        String normalized = query == null ? "" : TextTokenizer.normalize(query).strip();
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        Index current = currentIndex();
+        Map<Long, Long> counts = applicationCounts;
+        
+        List<Match> matches = hasVowelJamo(normalized)
+                ? current.findByJamo(HangulJamo.decompose(normalized))
+                : current.findByChosung(normalized);
+        
+        return matches.stream()
+                .sorted(Comparator.comparingInt(Match::getRank)
+                        .thenComparing(Comparator.comparingLong((Match match) -> countOf(counts, match)).reversed())
+                        .thenComparingInt(match -> match.getEntry().getName().length())
+                        .thenComparing(match -> match.getEntry().getName()))
+                .limit(limit)
+                .map(match -> new Suggestion(match.getEntry().getCompany(), countOf(counts, match)))
+                .toList();
+    }
+    
+    // 전체 재집계: 이벤트로 놓친 변경(회사 변경, 대량 삭제 등)을 주기적으로 바로잡음 (샤딩 시 샤드별 건수를 합침)
+    @Scheduled(fixedDelayString = "${company-typeahead.popularity-refresh-ms:600000}")
+    public void refreshApplicationCounts() {
+        Map<Long, Long> counts = new ConcurrentHashMap<>();
+        for (int shard = 0; shard < shardDirectory.shardCount(); shard++) {
+            shardDirectory.jdbcTemplate(shard).query("SELECT company_id, COUNT(*) AS cnt FROM applications GROUP BY company_id",
+                    rs -> {
+                        counts.merge(rs.getLong("company_id"), rs.getLong("cnt"), Long::sum);
+                    });
+        }
+        applicationCounts = counts;
+    }
+    
+    @TransactionalEventListener
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        if (event.getChangeType() == ChangeType.CREATED) {
+            applicationCounts.merge(event.getCompanyId(), 1L, Long::sum);
+        } else if (event.getChangeType() == ChangeType.DELETED) {
+            applicationCounts.merge(event.getCompanyId(), -1L, Long::sum);
+        }
+    }
+    
+    // 일괄 등록은 회사별로 추가된 건수만 더함 (업로드 요청 스레드에서 실행되므로 전체 재집계는 주기 작업에 맡김)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationsImported(ApplicationsImportedEvent event) {
+        event.getImportedCountsByCompany().forEach((companyId, count) -> applicationCounts.merge(companyId, count, Long::sum));
+    }
+    
+    private Index currentIndex() {
+        CompanyCatalog.Snapshot snapshot = companyCatalog.getSnapshot();
+        Index current = index;
+        if (current != null && current.snapshot == snapshot) {
+            return current;
+        }
+        synchronized (this) {
+            current = index;
+            if (current == null || current.snapshot != snapshot) {
+                long started = System.nanoTime();
+                current = new Index(snapshot);
+                index = current;
+                log.debug("회사 자동완성 색인 생성: {}건, {}µs", snapshot.getCompanies().size(), (System.nanoTime() - started) / 1000);
+            }
+            return current;
+        }
+    }
+    
+    private static long countOf(Map<Long, Long> counts, Match match) {
+        return counts.getOrDefault(match.getEntry().getCompany().getCompanyId(), 0L);
+    }
+    
+    private static boolean hasVowelJamo(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (HangulJamo.isVowel(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Value
+    private static class Entry {
+        CompanyDto company;
+        String name;
+        String chosungKey;
+        String jamo;
+    }
+    
+    @Value
+    private static class Match {
+        Entry entry;
+        int rank;
+    }
+    
+    private static class Index {
+        private final CompanyCatalog.Snapshot snapshot;
+        private final Entry[] entries;
+        // 초성 키 글자/글자쌍 → 엔트리 번호(오름차순)
+        private final Map<Character, int[]> unigrams;
+        private final Map<Integer, int[]> bigrams;
+        
+        private Index(CompanyCatalog.Snapshot snapshot) {
+            this.snapshot = snapshot;
+            List<CompanyDto> companies = snapshot.getCompanies();
+            this.entries = new Entry[companies.size()];
+            Map<Character, List<Integer>> unigramLists = new HashMap<>();
+            Map<Integer, List<Integer>> bigramLists = new HashMap<>();
+            
+            for (int id = 0; id < entries.length; id++) {
+                CompanyDto company = companies.get(id);
+                String name = TextTokenizer.normalize(company.getName());
+                String chosungKey = HangulJamo.chosungOf(name);
+                entries[id] = new Entry(company, name, chosungKey, HangulJamo.decompose(name));
+                
+                Set<Character> seenUnigrams = new HashSet<>();
+                Set<Integer> seenBigrams = new HashSet<>();
+                for (int i = 0; i < chosungKey.length(); i++) {
+                    char c = chosungKey.charAt(i);
+                    if (seenUnigrams.add(c)) {
+                        unigramLists.computeIfAbsent(c, key -> new ArrayList<>()).add(id);
+                    }
+                    if (i + 1 < chosungKey.length()) {
+                        int gram = bigram(c, chosungKey.charAt(i + 1));
+                        if (seenBigrams.add(gram)) {
+                            bigramLists.computeIfAbsent(gram, key -> new ArrayList<>()).add(id);
+                        }
+                    }
+                }
+            }
+            this.unigrams = toArrays(unigramLists);
+            this.bigrams = toArrays(bigramLists);
+        }
+        
+        private List<Match> findByChosung(String query) {
+            String key = HangulJamo.chosungOf(query);
+            List<Match> matches = new ArrayList<>();
+            for (int id : candidates(key)) {
+                Entry entry = entries[id];
+                int best = -1;
+                for (int start = entry.getChosungKey().indexOf(key); start >= 0;
+                     start = entry.getChosungKey().indexOf(key, start + 1)) {
+                    if (!matchesAt(query, entry, start)) {
+                        continue;
+                    }
+                    int rank = rank(query, entry.getName(), start);
+                    best = best < 0 ? rank : Math.min(best, rank);
+                    if (best <= RANK_PREFIX) {
+                        break;
+                    }
+                }
+                if (best >= 0) {
+                    matches.add(new Match(entry, best));
+                }
+            }
+            return matches;
+        }
+        
+        // 자모 입력은 초성 키를 만들 수 없어서 전체를 훑음 (회사 수가 적어 충분히 빠름)
+        private List<Match> findByJamo(String jamoQuery) {
+            List<Match> matches = new ArrayList<>();
+            for (Entry entry : entries) {
+                int start = entry.getJamo().indexOf(jamoQuery);
+                if (start >= 0) {
+                    matches.add(new Match(entry, start == 0 ? RANK_PREFIX : RANK_INFIX));
+                }
+            }
+            return matches;
+        }
+        
+        // 초성 키의 모든 글자쌍 포스팅 교집합
+        private int[] candidates(String key) {
+            if (key.length() == 1) {
+                return unigrams.getOrDefault(key.charAt(0), NO_POSTINGS);
+            }
+            int[] result = null;
+            for (int i = 0; i + 1 < key.length(); i++) {
+                int[] postings = bigrams.getOrDefault(bigram(key.charAt(i), key.charAt(i + 1)), NO_POSTINGS);
+                result = result == null ? postings : intersect(result, postings);
+                if (result.length == 0) {
+                    break;
+                }
+            }
+            return result;
+        }
+        
+        // 글자마다 완전 일치 또는 초성 일치, 마지막 글자는 입력 중인 음절도 허용
+        private static boolean matchesAt(String query, Entry entry, int start) {
+            String name = entry.getName();
+            for (int i = 0; i < query.length(); i++) {
+                char q = query.charAt(i);
+                int position = start + i;
+                if (position >= name.length()) {
+                    return false;
+                }
+                char c = name.charAt(position);
+                if (q == c) {
+                    continue;
+                }
+                if (HangulJamo.isConsonant(q) && HangulJamo.chosung(c) == q) {
+                    continue;
+                }
+                if (i == query.length() - 1 && HangulJamo.isSyllable(q)) {
+                    // 넹 → 네이: 받침이 다음 글자의 초성일 수 있으므로 두 글자까지 분해해서 비교
+                    String tail = HangulJamo.decompose(name.substring(position, Math.min(position + 2, name.length())));
+                    return tail.startsWith(HangulJamo.decompose(String.valueOf(q)));
+                }
+                return false;
+            }
+            return true;
+        }
+        
+        private static int rank(String query, String name, int start) {
+            if (start == 0) {
+                return query.length() == name.length() && query.equals(name) ? RANK_EXACT : RANK_PREFIX;
+            }
+            return Character.isLetterOrDigit(name.charAt(start - 1)) ? RANK_INFIX : RANK_WORD_START;
+        }
+        
+        private static int bigram(char first, char second) {
+            return (first << 16) | second;
+        }
+        
+        private static <K> Map<K, int[]> toArrays(Map<K, List<Integer>> lists) {
+            Map<K, int[]> arrays = new HashMap<>(lists.size() * 2);
+            lists.forEach((key, ids) -> arrays.put(key, ids.stream().mapToInt(Integer::intValue).toArray()));
+            return arrays;
+        }
+        
+        private static int[] intersect(int[] left, int[] right) {
+            int[] result = new int[Math.min(left.length, right.length)];
+            int size = 0;
+            for (int i = 0, j = 0; i < left.length && j < right.length; ) {
+                if (left[i] == right[j]) {
+                    result[size++] = left[i];
+                    i++;
+                    j++;
+                } else if (left[i] < right[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.jobmanagement.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// 자기소개서 본문 저장소 (cover_letter_contents)
+// cover-letters.compress-min-bytes 이상인 본문은 GZIP으로 압축해서 저장하고 (줄어들 때만) 읽을 때 풀어서 돌려줌
+// 본문이 비어 있으면 행을 두지 않음
+// 압축 효과는 cover_letters.content.bytes 메트릭 (kind=raw|stored)
+@Component
+public class CoverLetterContentStore {
+    
+    public enum Encoding {
+        PLAIN, GZIP
+    }
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final int compressMinBytes;
+    private final Counter rawBytes;
+    private final Counter storedBytes;
+    
+    public CoverLetterContentStore(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                                   @Value("${cover-letters.compress-min-bytes:512}") int compressMinBytes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.compressMinBytes = compressMinBytes;
+        this.rawBytes = Counter.builder("cover_letters.content.bytes").tag("kind", "raw").register(meterRegistry);
+        this.storedBytes = Counter.builder("cover_letters.content.bytes").tag("kind", "stored").register(meterRegistry);
+    }
+    
+    // 문장 하나 (있으면 덮어쓰고, 비어 있으면 삭제)
+    public void save(Long coverLetterId, Long userId, String content) {
+        if (content == null || content.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM cover_letter_contents WHERE cover_letter_id = ?", coverLetterId);
+            return;
+        }
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        Encoding encoding = Encoding.PLAIN;
+        byte[] data = raw;
+        if (raw.length >= compressMinBytes) {
+            byte[] compressed = gzip(raw);
+            if (compressed.length < raw.length) {
+                encoding = Encoding.GZIP;
+                data = compressed;
+            }
+        }
+        jdbcTemplate.update("INSERT INTO cover_letter_contents (cover_letter_id, user_id, encoding, data) VALUES (?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE encoding = VALUES(encoding), data = VALUES(data)",
+                coverLetterId, userId, encoding.name(), data);
+        rawBytes.increment(raw.length);
+        storedBytes.increment(data.length);
+    }
+    
+    // 본문이 없으면 null
+    public String load(Long coverLetterId) {
+        return jdbcTemplate.query("SELECT encoding, data FROM cover_letter_contents WHERE cover_letter_id = ?",
+                rs -> rs.next() ? decode(rs.getString("encoding"), rs.getBytes("data")) : null, coverLetterId);
+    }
+    
+    // 여러 건을 한 번에 (본문이 없는 ID는 결과에 없음)
+    public Map<Long, String> loadAll(Collection<Long> coverLetterIds) {
+        Map<Long, String> contents = new HashMap<>();
+        if (coverLetterIds.isEmpty()) {
+            return contents;
+        }
+        jdbcTemplate.query("SELECT cover_letter_id, encoding, data FROM cover_letter_contents WHERE cover_letter_id IN ("
+                        + String.join(", ", Collections.nCopies(coverLetterIds.size(), "?")) + ")",
+                rs -> {
+                    contents.put(rs.getLong("cover_letter_id"), decode(rs.getString("encoding"), rs.getBytes("data")));
+                }, coverLetterIds.toArray());
+        return contents;
+    }
+    
+    // 문자열로 만들지 않고 압축을 풀면서 UTF-8 바이트를 그대로 출력 (본문이 없으면 아무것도 쓰지 않음)
+    public void write(Long coverLetterId, OutputStream out) throws IOException {
+        try {
+            jdbcTemplate.query("SELECT encoding, data FROM cover_letter_contents WHERE cover_letter_id = ?", rs -> {
+                try (InputStream data = open(rs.getString("encoding"), rs.getBinaryStream("data"))) {
+                    data.transferTo(out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, coverLetterId);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+    
+    public static String decode(String encoding, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try (InputStream in = open(encoding, new ByteArrayInputStream(data))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("자기소개서 본문을 읽을 수 없습니다.", e);
+        }
+    }
+    
+    private static InputStream open(String encoding, InputStream data) throws IOException {
+        return Encoding.valueOf(encoding) == Encoding.GZIP ? new GZIPInputStream(data) : data;
+    }
+    
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(raw.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
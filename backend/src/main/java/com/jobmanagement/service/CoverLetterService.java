@@ -0,0 +1,182 @@
+package com.jobmanagement.service;
+
+import com.jobmanagement.config.RetryOnConflict;
+import com.jobmanagement.config.ShardKey;
+import com.jobmanagement.dto.CoverLetterDto;
+import com.jobmanagement.dto.CoverLetterSummaryDto;
+import com.jobmanagement.entity.ActivityStat;
+import com.jobmanagement.entity.CoverLetter;
+import com.jobmanagement.entity.User;
+import com.jobmanagement.event.ChangeType;
+import com.jobmanagement.event.CoverLetterChangedEvent;
+import com.jobmanagement.repository.CoverLetterRepository;
+import com.jobmanagement.repository.UserRepository;
+import com.jobmanagement.util.MergePatch;
+import com.jobmanagement.util.VersionCheck;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 자기소개서: 목록은 본문 없이, 본문은 한 건씩 CoverLetterContentStore에서 (압축 저장, 긴 본문은 스트리밍)
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CoverLetterService {
+    
+    private final CoverLetterRepository coverLetterRepository;
+    private final CoverLetterContentStore contentStore;
+    private final UserRepository userRepository;
+    private final ActivityStatsBuffer activityStatsBuffer;
+    private final ColumnPatcher columnPatcher;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    // 이보다 긴 본문은 상세 응답에 넣지 않고 /content로 스트리밍
+    @Value("${cover-letters.inline-max-chars:8192}")
+    private int inlineMaxChars;
+    
+    public List<CoverLetterSummaryDto> getCoverLettersByUser(@ShardKey Long userId, boolean templatesOnly) {
+        return coverLetterRepository.findSummariesByUserId(userId, templatesOnly);
+    }
+    
+    public CoverLetterDto getCoverLetter(@ShardKey(ShardKey.Owner.COVER_LETTER) Long coverLetterId) {
+        CoverLetter coverLetter = coverLetterRepository.findById(coverLetterId)
+                .orElseThrow(() -> new RuntimeException("자기소개서를 찾을 수 없습니다."));
+        int contentLength = coverLetter.getContentLength();
+        String content = contentLength == 0 || contentLength > inlineMaxChars ? null : contentStore.load(coverLetterId);
+        return CoverLetterDto.from(coverLetter, content);
+    }
+    
+    // 스트리밍 응답을 시작하기 전에 확인 (응답 헤더가 나간 뒤에는 404를 보낼 수 없음)
+    public void checkCoverLetter(@ShardKey(ShardKey.Owner.COVER_LETTER) Long coverLetterId) {
+        if (!coverLetterRepository.existsById(coverLetterId)) {
+            throw new RuntimeException("자기소개서를 찾을 수 없습니다.");
+        }
+    }
+    
+    public void writeContent(@ShardKey(ShardKey.Owner.COVER_LETTER) Long coverLetterId, OutputStream out) throws IOException {
+        contentStore.write(coverLetterId, out);
+        out.flush();
+    }
+    
+    @Transactional
+    public CoverLetterDto createCoverLetter(@ShardKey CoverLetterDto coverLetterDto) {
+        User user = userRepository.findById(coverLetterDto.getUserId())
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        String content = coverLetterDto.getContent();
+        
+        CoverLetter coverLetter = CoverLetter.builder()
+                .user(user)
+                .title(coverLetterDto.getTitle())
+                .contentLength(content != null ? content.length() : 0)
+                .isTemplate(coverLetterDto.getIsTemplate() != null ? coverLetterDto.getIsTemplate() : false)
+                .build();
+        
+        CoverLetter savedCoverLetter = coverLetterRepository.save(coverLetter);
+        contentStore.save(savedCoverLetter.getCoverLetterId(), user.getUserId(), content);
+        activityStatsBuffer.record(user.getUserId(), ActivityStat.StatType.COVER_LETTER_COUNT, 1);
+        publishChanged(savedCoverLetter, content, ChangeType.CREATED);
+        return CoverLetterDto.from(savedCoverLetter, inline(content));
+    }
+    
+    @Transactional
+    @RetryOnConflict
+    public CoverLetterDto updateCoverLetter(@ShardKey(ShardKey.Owner.COVER_LETTER) Long coverLetterId, CoverLetterDto coverLetterDto) {
+        CoverLetter coverLetter = coverLetterRepository.findById(coverLetterId)
+                .orElseThrow(() -> new RuntimeException("자기소개서를 찾을 수 없습니다."));
+        VersionCheck.require("자기소개서", coverLetterDto.getVersion(), coverLetter.getVersion());
+        
+        if (coverLetterDto.getTitle() != null) {
+            coverLetter.setTitle(coverLetterDto.getTitle());
+        }
+        if (coverLetterDto.getIsTemplate() != null) {
+            coverLetter.setIsTemplate(coverLetterDto.getIsTemplate());
+        }
+        String content = coverLetterDto.getContent();
+        if (content != null) {
+            contentStore.save(coverLetterId, coverLetter.getUser().getUserId(), content);
+            coverLetter.setContentLength(content.length());
+            // 글자 수가 같아도 본문이 바뀌었으므로 version/updated_at을 올림 (조건부 GET의 ETag가 바뀌도록)
+            coverLetter.setUpdatedAt(LocalDateTime.now());
+        }
+        
+        // 증가한 version을 응답에 담도록 커밋 전에 flush
+        CoverLetter savedCoverLetter = coverLetterRepository.saveAndFlush(coverLetter);
+        if (content != null) {
+            publishChanged(savedCoverLetter, content, ChangeType.UPDATED);
+        } else if (coverLetterDto.getTitle() != null) {
+            // 제목만 바뀌어도 색인은 제목 + 본문이므로 기존 본문을 읽어서 다시 만듦
+            publishChanged(savedCoverLetter, contentStore.load(coverLetterId), ChangeType.UPDATED);
+        }
+        return CoverLetterDto.from(savedCoverLetter, inline(content));
+    }
+    
+    // JSON Merge Patch: 보낸 필드의 컬럼만 UPDATE 한 번으로 변경, 본문을 보내면 본문 행과 content_length도 함께 변경
+    @Transactional
+    public void patchCoverLetter(@ShardKey(ShardKey.Owner.COVER_LETTER) Long coverLetterId, MergePatch patch) {
+        patch.requireOnly("title", "isTemplate", "content", "version", "updatedAt");
+        ColumnPatcher.Update update = new ColumnPatcher.Update("cover_letters", "cover_letter_id", coverLetterId)
+                .expectVersion(patch.longValue("version"))
+                .expectUpdatedAt(patch.dateTime("updatedAt"));
+        if (patch.has("title")) {
+            update.set("title", patch.requiredText("title"));
+        }
+        if (patch.has("isTemplate")) {
+            update.set("is_template", patch.requiredBoolean("isTemplate"));
+        }
+        String content = patch.text("content");
+        if (patch.has("content")) {
+            update.set("content_length", content != null ? content.length() : 0);
+        }
+        
+        // 본문 행 저장과 검색 색인 갱신에 소유자/제목이 필요할 때만 읽음
+        Object[] keys = null;
+        if (patch.has("title") || patch.has("content")) {
+            keys = coverLetterRepository.findUserIdAndTitleById(coverLetterId).stream().findFirst()
+                    .orElseThrow(() -> new RuntimeException("자기소개서를 찾을 수 없습니다."));
+        }
+        columnPatcher.apply(update, "자기소개서를 찾을 수 없습니다.");
+        if (keys == null) {
+            return;
+        }
+        
+        Long userId = ((Number) keys[0]).longValue();
+        String title = patch.has("title") ? patch.requiredText("title") : (String) keys[1];
+        if (patch.has("content")) {
+            contentStore.save(coverLetterId, userId, content);
+        } else {
+            content = contentStore.load(coverLetterId);
+        }
+        eventPublisher.publishEvent(new CoverLetterChangedEvent(coverLetterId, userId, title, content, ChangeType.UPDATED));
+    }
+    
+    // 본문 행은 외래 키(ON DELETE CASCADE)로, 연결된 지원 내역의 cover_letter_id는 ON DELETE SET NULL로 정리됨
+    @Transactional
+    @RetryOnConflict
+    public void deleteCoverLetter(@ShardKey(ShardKey.Owner.COVER_LETTER) Long coverLetterId) {
+        CoverLetter coverLetter = coverLetterRepository.findById(coverLetterId)
+                .orElseThrow(() -> new RuntimeException("자기소개서를 찾을 수 없습니다."));
+        coverLetterRepository.delete(coverLetter);
+        publishChanged(coverLetter, null, ChangeType.DELETED);
+    }
+    
+    // 응답에는 상세 조회와 같은 기준으로 짧은 본문만 담음
+    private String inline(String content) {
+        return content != null && content.length() <= inlineMaxChars ? content : null;
+    }
+    
+    private void publishChanged(CoverLetter coverLetter, String content, ChangeType changeType) {
+        eventPublisher.publishEvent(new CoverLetterChangedEvent(
+                coverLetter.getCoverLetterId(),
+                coverLetter.getUser().getUserId(),
+                changeType == ChangeType.DELETED ? null : coverLetter.getTitle(),
+                content,
+                changeType));
+    }
+}
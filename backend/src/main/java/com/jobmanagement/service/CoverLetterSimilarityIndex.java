@@ -0,0 +1,199 @@
+package com.jobmanagement.service;
+
+import com.jobmanagement.util.MinHash;
+import lombok.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// 사용자별 자기소개서 근사 중복 색인 (MinHash + LSH 밴딩)
+// 서명을 bands개 구간(구간당 rows개 값)으로 나눠 구간 값이 모두 같은 문서끼리 같은 버킷에 넣고,
+// 버킷을 하나라도 공유하는 문서만 후보로 골라 서명 일치 비율을 계산 (사용자의 모든 자기소개서와 비교하지 않음)
+// 후보가 될 확률은 유사도 s일 때 1 - (1 - s^rows)^bands, 기본값(32 x 4)에서 s = 0.5면 약 87%, 0.7이면 거의 100%
+// 전체 재구축 중 들어온 변경은 새 색인에도 다시 적용한 뒤 교체 (SearchIndex와 같은 방식)
+@Component
+public class CoverLetterSimilarityIndex {
+    
+    @Value
+    public static class Match {
+        Long coverLetterId;
+        double similarity;
+    }
+    
+    @Value
+    public static class Pair {
+        Long first;
+        Long second;
+        double similarity;
+    }
+    
+    private final int bands;
+    private final int rows;
+    private final MinHash minHash;
+    private volatile Map<Long, UserIndex> users = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private List<Consumer<Map<Long, UserIndex>>> pendingDuringRebuild;
+    
+    public CoverLetterSimilarityIndex(Environment environment) {
+        this.bands = environment.getProperty("cover-letters.similarity.bands", Integer.class, 32);
+        this.rows = environment.getProperty("cover-letters.similarity.rows", Integer.class, 4);
+        this.minHash = new MinHash(bands * rows);
+    }
+    
+    // 토큰이 없으면(본문이 비었으면) 색인에서 뺌
+    public void put(Long userId, Long coverLetterId, List<String> tokens) {
+        int[] signature = minHash.signature(tokens);
+        if (signature == null) {
+            remove(userId, coverLetterId);
+            return;
+        }
+        mutate(index -> index.computeIfAbsent(userId, u -> new UserIndex()).put(coverLetterId, signature));
+    }
+    
+    public void remove(Long userId, Long coverLetterId) {
+        mutate(index -> {
+            UserIndex userIndex = index.get(userId);
+            if (userIndex != null) {
+                userIndex.remove(coverLetterId);
+            }
+        });
+    }
+    
+    public void rebuild(Consumer<Builder> loader) {
+        synchronized (writeLock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        Map<Long, UserIndex> fresh = new ConcurrentHashMap<>();
+        try {
+            loader.accept((userId, coverLetterId, tokens) -> {
+                int[] signature = minHash.signature(tokens);
+                if (signature != null) {
+                    fresh.computeIfAbsent(userId, u -> new UserIndex()).put(coverLetterId, signature);
+                }
+            });
+        } finally {
+            synchronized (writeLock) {
+                pendingDuringRebuild.forEach(change -> change.accept(fresh));
+                pendingDuringRebuild = null;
+                users = fresh;
+            }
+        }
+    }
+    
+    // 유사도가 threshold 이상인 같은 사용자의 자기소개서 (높은 순, 자기 자신 제외)
+    public List<Match> similar(Long userId, Long coverLetterId, double threshold) {
+        UserIndex userIndex = users.get(userId);
+        return userIndex != null ? userIndex.similar(coverLetterId, threshold) : List.of();
+    }
+    
+    // 유사도가 threshold 이상인 쌍 (높은 순)
+    public List<Pair> duplicates(Long userId, double threshold, int limit) {
+        UserIndex userIndex = users.get(userId);
+        return userIndex != null ? userIndex.duplicates(threshold, limit) : List.of();
+    }
+    
+    private void mutate(Consumer<Map<Long, UserIndex>> change) {
+        synchronized (writeLock) {
+            change.accept(users);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        }
+    }
+    
+    public interface Builder {
+        void add(Long userId, Long coverLetterId, List<String> tokens);
+    }
+    
+    private class UserIndex {
+        private final Map<Long, int[]> signatures = new HashMap<>();
+        private final Map<Long, Set<Long>> buckets = new HashMap<>();
+        
+        synchronized void put(Long coverLetterId, int[] signature) {
+            remove(coverLetterId);
+            signatures.put(coverLetterId, signature);
+            for (int band = 0; band < bands; band++) {
+                buckets.computeIfAbsent(bucketKey(signature, band), k -> new HashSet<>()).add(coverLetterId);
+            }
+        }
+        
+        synchronized void remove(Long coverLetterId) {
+            int[] signature = signatures.remove(coverLetterId);
+            if (signature == null) {
+                return;
+            }
+            for (int band = 0; band < bands; band++) {
+                long key = bucketKey(signature, band);
+                Set<Long> bucket = buckets.get(key);
+                if (bucket != null) {
+                    bucket.remove(coverLetterId);
+                    if (bucket.isEmpty()) {
+                        buckets.remove(key);
+                    }
+                }
+            }
+        }
+        
+        synchronized List<Match> similar(Long coverLetterId, double threshold) {
+            int[] signature = signatures.get(coverLetterId);
+            if (signature == null) {
+                return List.of();
+            }
+            Set<Long> candidates = new HashSet<>();
+            for (int band = 0; band < bands; band++) {
+                candidates.addAll(buckets.getOrDefault(bucketKey(signature, band), Set.of()));
+            }
+            candidates.remove(coverLetterId);
+            List<Match> matches = new ArrayList<>();
+            for (Long candidate : candidates) {
+                double similarity = MinHash.similarity(signature, signatures.get(candidate));
+                if (similarity >= threshold) {
+                    matches.add(new Match(candidate, similarity));
+                }
+            }
+            matches.sort(Comparator.comparingDouble(Match::getSimilarity).reversed().thenComparing(Match::getCoverLetterId));
+            return matches;
+        }
+        
+        // 같은 버킷에 들어간 쌍만 비교 (여러 버킷을 공유하는 쌍은 한 번만)
+        synchronized List<Pair> duplicates(double threshold, int limit) {
+            Set<List<Long>> compared = new HashSet<>();
+            List<Pair> pairs = new ArrayList<>();
+            for (Set<Long> bucket : buckets.values()) {
+                if (bucket.size() < 2) {
+                    continue;
+                }
+                Long[] ids = bucket.toArray(new Long[0]);
+                Arrays.sort(ids);
+                for (int i = 0; i < ids.length; i++) {
+                    for (int j = i + 1; j < ids.length; j++) {
+                        if (!compared.add(List.of(ids[i], ids[j]))) {
+                            continue;
+                        }
+                        double similarity = MinHash.similarity(signatures.get(ids[i]), signatures.get(ids[j]));
+                        if (similarity >= threshold) {
+                            pairs.add(new Pair(ids[i], ids[j], similarity));
+                        }
+                    }
+                }
+            }
+            return pairs.stream()
+                    .sorted(Comparator.comparingDouble(Pair::getSimilarity).reversed()
+                            .thenComparing(Pair::getFirst).thenComparing(Pair::getSecond))
+                    .limit(limit)
+                    .toList();
+        }
+        
+        // 구간 번호와 구간 값으로 만든 키 (다른 구간끼리 우연히 겹쳐도 후보만 늘 뿐 결과는 서명으로 다시 확인)
+        private long bucketKey(int[] signature, int band) {
+            long key = band;
+            for (int i = band * rows; i < (band + 1) * rows; i++) {
+                key = MinHash.mix(key * 31 + signature[i]);
+            }
+            return key;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.jobmanagement.service;
+
+import com.jobmanagement.config.ShardDirectory;
+import com.jobmanagement.config.ShardKey;
+import com.jobmanagement.dto.CoverLetterDuplicateDto;
+import com.jobmanagement.dto.CoverLetterSimilarityDto;
+import com.jobmanagement.dto.CoverLetterSummaryDto;
+import com.jobmanagement.dto.SimilarCoverLetterDto;
+import com.jobmanagement.event.ChangeType;
+import com.jobmanagement.event.CoverLetterChangedEvent;
+import com.jobmanagement.repository.CoverLetterRepository;
+import com.jobmanagement.util.TextTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 자기소개서 근사 중복 탐지: 본문의 MinHash 서명을 인메모리 LSH 색인(CoverLetterSimilarityIndex)에 두고
+// 쓰기마다 그 자기소개서만 다시 계산, 조회는 색인에서 후보를 고른 뒤 제목 등은 ID로만 조회
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CoverLetterSimilarityService {
+    
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+    
+    private final CoverLetterSimilarityIndex similarityIndex;
+    private final CoverLetterRepository coverLetterRepository;
+    private final ShardDirectory shardDirectory;
+    
+    @Value("${cover-letters.similarity.default-threshold:0.5}")
+    private double defaultThreshold;
+    
+    @Value("${search.rebuild-fetch-size:" + Integer.MIN_VALUE + "}")
+    private int rebuildFetchSize;
+    
+    // 기준 이상으로 비슷한 같은 사용자의 자기소개서와, 그중 이 자기소개서의 원본으로 보이는 템플릿
+    public CoverLetterSimilarityDto getSimilar(@ShardKey(ShardKey.Owner.COVER_LETTER) Long coverLetterId,
+                                               Double threshold, Integer limit) {
+        double minSimilarity = threshold(threshold);
+        CoverLetterSummaryDto coverLetter = coverLetterRepository.findSummariesByIdIn(List.of(coverLetterId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("자기소개서를 찾을 수 없습니다."));
+        
+        List<CoverLetterSimilarityIndex.Match> matches =
+                similarityIndex.similar(coverLetter.getUserId(), coverLetterId, minSimilarity);
+        if (matches.isEmpty()) {
+            return new CoverLetterSimilarityDto(coverLetterId, null, List.of());
+        }
+        // 템플릿은 잘린 목록 밖에 있을 수 있어서 기준 이상인 전체에서 고름 (한 사용자의 자기소개서 수만큼이 최대)
+        Map<Long, CoverLetterSummaryDto> summaries = summaries(matches.stream()
+                .map(CoverLetterSimilarityIndex.Match::getCoverLetterId).toList());
+        List<SimilarCoverLetterDto> similar = matches.stream()
+                .filter(match -> summaries.containsKey(match.getCoverLetterId()))
+                .map(match -> toDto(summaries.get(match.getCoverLetterId()), match.getSimilarity()))
+                .toList();
+        SimilarCoverLetterDto sourceTemplate = similar.stream()
+                .filter(candidate -> Boolean.TRUE.equals(candidate.getIsTemplate()))
+                .filter(candidate -> !candidate.getCreatedAt().isAfter(coverLetter.getCreatedAt()))
+                .findFirst()
+                .orElse(null);
+        return new CoverLetterSimilarityDto(coverLetterId, sourceTemplate, similar.stream().limit(limit(limit)).toList());
+    }
+    
+    // 사용자의 자기소개서 중 서로 비슷한 쌍 (높은 순)
+    public List<CoverLetterDuplicateDto> getDuplicates(@ShardKey Long userId, Double threshold, Integer limit) {
+        List<CoverLetterSimilarityIndex.Pair> pairs = similarityIndex.duplicates(userId, threshold(threshold), limit(limit));
+        if (pairs.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, CoverLetterSummaryDto> summaries = summaries(pairs.stream()
+                .flatMap(pair -> Stream.of(pair.getFirst(), pair.getSecond()))
+                .distinct()
+                .toList());
+        return pairs.stream()
+                .filter(pair -> summaries.containsKey(pair.getFirst()) && summaries.containsKey(pair.getSecond()))
+                .map(pair -> CoverLetterDuplicateDto.builder()
+                        .coverLetterId(pair.getFirst())
+                        .title(summaries.get(pair.getFirst()).getTitle())
+                        .duplicateId(pair.getSecond())
+                        .duplicateTitle(summaries.get(pair.getSecond()).getTitle())
+                        .similarity(pair.getSimilarity())
+                        .build())
+                .toList();
+    }
+    
+    @TransactionalEventListener
+    public void onCoverLetterChanged(CoverLetterChangedEvent event) {
+        // 제목만 바뀌어도 이벤트가 오지만 서명은 본문으로만 만듦 (같은 본문이면 같은 서명)
+        if (event.getChangeType() == ChangeType.DELETED) {
+            similarityIndex.remove(event.getUserId(), event.getCoverLetterId());
+        } else {
+            similarityIndex.put(event.getUserId(), event.getCoverLetterId(), TextTokenizer.tokenize(event.getContent()));
+        }
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        long started = System.currentTimeMillis();
+        similarityIndex.rebuild(builder -> {
+            for (int shard = 0; shard < shardDirectory.shardCount(); shard++) {
+                JdbcTemplate source = shardDirectory.jdbcTemplate(shard);
+                source.query(connection -> {
+                    PreparedStatement ps = connection.prepareStatement(
+                            "SELECT cover_letter_id, user_id, encoding, data FROM cover_letter_contents",
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(rebuildFetchSize);
+                    return ps;
+                }, rs -> {
+                    String content = CoverLetterContentStore.decode(rs.getString("encoding"), rs.getBytes("data"));
+                    builder.add(rs.getLong("user_id"), rs.getLong("cover_letter_id"), TextTokenizer.tokenize(content));
+                });
+            }
+        });
+        log.info("자기소개서 유사도 색인 재구축 완료 ({}ms)", System.currentTimeMillis() - started);
+    }
+    
+    private Map<Long, CoverLetterSummaryDto> summaries(Collection<Long> coverLetterIds) {
+        return coverLetterRepository.findSummariesByIdIn(coverLetterIds).stream()
+                .collect(Collectors.toMap(CoverLetterSummaryDto::getCoverLetterId, Function.identity()));
+    }
+    
+    private static SimilarCoverLetterDto toDto(CoverLetterSummaryDto summary, double similarity) {
+        return SimilarCoverLetterDto.builder()
+                .coverLetterId(summary.getCoverLetterId())
+                .title(summary.getTitle())
+                .isTemplate(summary.getIsTemplate())
+                .similarity(similarity)
+                .createdAt(summary.getCreatedAt())
+                .build();
+    }
+    
+    private double threshold(Double threshold) {
+        if (threshold == null) {
+            return defaultThreshold;
+        }
+        if (threshold <= 0 || threshold > 1) {
+            throw new RuntimeException("유사도 기준은 0보다 크고 1 이하여야 합니다: " + threshold);
+        }
+        return threshold;
+    }
+    
+    private static int limit(Integer limit) {
+        return limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
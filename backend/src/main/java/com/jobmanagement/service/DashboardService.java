@@ -0,0 +1,186 @@
+package com.jobmanagement.service;
+
+import com.jobmanagement.config.ReadWriteRouting;
+import com.jobmanagement.config.ShardDirectory;
+import com.jobmanagement.config.ShardRouting;
+import com.jobmanagement.dto.*;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 홈 화면 대시보드: 서로 독립적인 조회를 전용 스레드 풀에서 동시에 실행
+// 섹션별로 시간 제한을 두고, 시간 초과/거절/실패한 섹션은 비워서 degradedSections로 알려줌
+// 각 섹션은 시간 제한(초 단위)이 걸린 읽기 트랜잭션 안에서 기존 서비스 메서드를 호출 (DB 쿼리도 그 시간에 끊김)
+// 시간을 넘긴 섹션은 응답에서 빼는 것과 함께 작업을 취소(인터럽트)해서 스레드와 커넥션을 다음 요청에 돌려줌
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+    
+    private static final int DEFAULT_RECENT_SIZE = 5;
+    private static final int MAX_RECENT_SIZE = 20;
+    
+    private final UserService userService;
+    private final ResumeService resumeService;
+    private final ApplicationService applicationService;
+    private final ShardDirectory shardDirectory;
+    private final PlatformTransactionManager transactionManager;
+    private final Environment environment;
+    
+    @Value("${dashboard.section-timeout-ms:1000}")
+    private long sectionTimeoutMs;
+    
+    // 애플리케이션 공용 TaskExecutor를 대체하지 않도록 빈으로 등록하지 않고 직접 관리
+    private Executor executor;
+    private TransactionTemplate sectionTransaction;
+    
+    @PostConstruct
+    void startExecutor() {
+        sectionTransaction = new TransactionTemplate(transactionManager);
+        sectionTransaction.setReadOnly(true);
+        // Hibernate는 남은 시간을 초 단위로 내림해서 0이면 바로 만료 처리하므로 1초를 더 둠 (1초면 첫 쿼리부터 실패)
+        sectionTransaction.setTimeout((int) TimeUnit.MILLISECONDS.toSeconds(sectionTimeoutMs + 999) + 1);
+        
+        // 가상 스레드 모드에서는 섹션마다 가상 스레드 (DB 동시성은 DB 벌크헤드가 제한)
+        if (Threading.VIRTUAL.isActive(environment)) {
+            executor = new VirtualThreadTaskExecutor("dashboard-");
+            return;
+        }
+        // 섹션 하나가 커넥션 하나를 쓰므로 스레드 수는 커넥션 풀 크기까지만 (더 있어도 커넥션을 기다릴 뿐)
+        // 큐는 시간 안에 처리할 수 있을 만큼만 두고 넘치면 바로 거절
+        int dbPoolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        int poolSize = environment.getProperty("dashboard.executor.pool-size", Integer.class, dbPoolSize);
+        int queueCapacity = environment.getProperty("dashboard.executor.queue-capacity", Integer.class, poolSize * 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    @PreDestroy
+    void shutdownExecutor() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+    
+    public DashboardDto getDashboard(Long userId, Integer recentSize) {
+        int size = recentSize == null ? DEFAULT_RECENT_SIZE : Math.max(1, Math.min(recentSize, MAX_RECENT_SIZE));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMs);
+        
+        Future<UserDto> user = submit(userId, () -> userService.getUser(userId));
+        Future<ResumeDto> primaryResume = submit(userId, () -> resumeService.getPrimaryResume(userId));
+        Future<ApplicationStatsDto> stats = submit(userId, () -> applicationService.getApplicationStats(userId));
+        Future<List<ApplicationDto>> recentApplications = submit(userId,
+                () -> applicationService.getApplicationPage(userId, null, size, null, null, null).getItems());
+        
+        try {
+            // 사용자 조회가 도메인 오류(없는 사용자 등)로 실패하면 부분 응답 대신 기존 조회와 같은 오류
+            Throwable userFailure = failureOf(user, deadline);
+            if (userFailure instanceof RuntimeException
+                    && !(userFailure instanceof RejectedExecutionException)
+                    && !(userFailure instanceof DataAccessException)
+                    && !(userFailure instanceof TransactionException)) {
+                throw (RuntimeException) userFailure;
+            }
+            
+            List<String> degradedSections = new ArrayList<>();
+            return DashboardDto.builder()
+                    .user(await("user", user, deadline, userId, degradedSections))
+                    .primaryResume(await("primaryResume", primaryResume, deadline, userId, degradedSections))
+                    .stats(await("stats", stats, deadline, userId, degradedSections))
+                    .recentApplications(await("recentApplications", recentApplications, deadline, userId, degradedSections))
+                    .degradedSections(degradedSections)
+                    .build();
+        } finally {
+            // 끝난 섹션에는 영향 없음, 아직 대기 중이거나 실행 중인 섹션만 취소
+            for (Future<?> section : List.of(user, primaryResume, stats, recentApplications)) {
+                section.cancel(true);
+            }
+        }
+    }
+    
+    private <T> Future<T> submit(Long userId, Supplier<T> supplier) {
+        // 주 DB 고정(read-your-writes)은 요청 스레드의 스레드 로컬이라 작업 스레드에서 다시 걸어줌
+        // (안 걸면 방금 쓴 사용자의 섹션이 복제본에서 읽힘)
+        boolean pinned = ReadWriteRouting.isPinnedToPrimary();
+        // 섹션 트랜잭션이 커넥션을 받기 전에 사용자의 샤드를 정해 둠 (안쪽 @ShardKey 메서드는 같은 샤드라 그대로 진행)
+        Integer shard = shardDirectory.isSharded() ? shardDirectory.shardOf(userId) : null;
+        FutureTask<T> task = new FutureTask<>(() -> {
+            try (ReadWriteRouting.Pin pin = pinned ? ReadWriteRouting.pinToPrimary() : null;
+                 ShardRouting.Scope scope = shard != null ? ShardRouting.on(shard) : null) {
+                return sectionTransaction.execute(status -> supplier.get());
+            }
+        });
+        try {
+            executor.execute(task);
+            return task;
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    private static <T> T await(String section, Future<T> future, long deadline, Long userId, List<String> degradedSections) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("대시보드 섹션 시간 초과: section={}, userId={}", section, userId);
+        } catch (CancellationException e) {
+            log.warn("대시보드 섹션 취소: section={}, userId={}", section, userId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            log.warn("대시보드 섹션 대기 중 인터럽트: section={}, userId={}", section, userId);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RejectedExecutionException) {
+                log.warn("대시보드 섹션 거절(스레드 풀 포화): section={}, userId={}", section, userId);
+            } else if (cause instanceof TransactionTimedOutException || cause instanceof QueryTimeoutException) {
+                log.warn("대시보드 섹션 쿼리 시간 초과: section={}, userId={}", section, userId);
+            } else {
+                log.warn("대시보드 섹션 조회 실패: section={}, userId={}", section, userId, cause);
+            }
+        }
+        degradedSections.add(section);
+        return null;
+    }
+    
+    // 시간 안에 끝나지 않았으면 null (await에서 시간 초과로 처리)
+    private static Throwable failureOf(Future<?> future, long deadline) {
+        try {
+            future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (TimeoutException | CancellationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.jobmanagement.service;
+
+import com.jobmanagement.config.ShardKey;
+import com.jobmanagement.dto.ApplicationDto;
+import com.jobmanagement.dto.ApplicationPageDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+// 조건부 GET용 워터마크: 본문을 만들기 전에 version/updated_at만 읽어서 ETag를 계산
+// 일치하면 엔티티 조회, DTO 변환, 직렬화 없이 304
+// 워터마크는 항상 본문보다 먼저 읽음 (사이에 바뀌면 낡은 ETag에 새 본문이 나가서 다음 요청이 200이 될 뿐, 낡은 304는 나가지 않음)
+// 읽기/쓰기 분리 시 본문과 같은 DB(복제본)에서 읽도록 readOnly 트랜잭션 (주 DB의 새 ETag에 복제본의 낡은 본문이 붙지 않게)
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ResourceWatermarks {
+    
+    // 응답 DTO에 회사명/이력서 제목/자기소개서 제목이 들어가므로 연관 행의 변경도 포함
+    private static final String APPLICATION_SQL =
+            "SELECT a.version, a.updated_at, c.updated_at, r.version, r.updated_at, cl.version, cl.updated_at " +
+            "FROM applications a " +
+            "JOIN companies c ON c.company_id = a.company_id " +
+            "LEFT JOIN resumes r ON r.resume_id = a.resume_id " +
+            "LEFT JOIN cover_letters cl ON cl.cover_letter_id = a.cover_letter_id " +
+            "WHERE a.application_id = ?";
+    // 목록: 행 수(삭제), 최대 ID(추가), version 합(수정), 최대 updated_at(버전 없는 회사 수정)
+    private static final String APPLICATIONS_BY_USER_SQL =
+            "SELECT COUNT(*), MAX(a.application_id), SUM(a.version), MAX(a.updated_at), MAX(c.updated_at), " +
+            "SUM(r.version), MAX(r.updated_at), SUM(cl.version), MAX(cl.updated_at) " +
+            "FROM applications a " +
+            "JOIN companies c ON c.company_id = a.company_id " +
+            "LEFT JOIN resumes r ON r.resume_id = a.resume_id " +
+            "LEFT JOIN cover_letters cl ON cl.cover_letter_id = a.cover_letter_id " +
+            "WHERE a.user_id = ?";
+    private static final String RESUME_SQL = "SELECT version, updated_at FROM resumes WHERE resume_id = ?";
+    private static final String RESUMES_BY_USER_SQL =
+            "SELECT COUNT(*), MAX(resume_id), SUM(version), MAX(updated_at) FROM resumes WHERE user_id = ?";
+    // 본문을 바꾸면 cover_letters의 version도 오르므로 본문 응답(/content)도 같은 워터마크 사용
+    private static final String COVER_LETTER_SQL = "SELECT version, updated_at FROM cover_letters WHERE cover_letter_id = ?";
+    private static final String COVER_LETTERS_BY_USER_SQL =
+            "SELECT COUNT(*), MAX(cover_letter_id), SUM(version), MAX(updated_at) FROM cover_letters WHERE user_id = ?";
+    private static final String USER_SQL = "SELECT version, updated_at FROM users WHERE user_id = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public static class Watermark {
+        
+        // 대상이 없으면 항상 200 경로로 보내서 기존 "찾을 수 없습니다" 처리를 따름
+        private static final Watermark NONE = new Watermark(null, -1);
+        
+        private final String etag;
+        private final long lastModified;
+        
+        private Watermark(String etag, long lastModified) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+        
+        // If-None-Match(없으면 If-Modified-Since)가 일치하면 304를 설정하고 true, ETag/Last-Modified 헤더도 여기서 붙음
+        public boolean checkNotModified(WebRequest webRequest) {
+            if (etag == null) {
+                return false;
+            }
+            return lastModified >= 0
+                    ? webRequest.checkNotModified(etag, lastModified)
+                    : webRequest.checkNotModified(etag);
+        }
+    }
+    
+    public Watermark application(@ShardKey(ShardKey.Owner.APPLICATION) Long applicationId) {
+        return query(APPLICATION_SQL, true, applicationId);
+    }
+    
+    public Watermark applicationsByUser(@ShardKey Long userId) {
+        return query(APPLICATIONS_BY_USER_SQL, false, userId);
+    }
+    
+    // 페이지 조회(/page)용: 사용자 전체 행을 집계하지 않고 이미 읽은 페이지 행으로 계산 (추가 쿼리 없음)
+    // 페이지 행의 id/version, 응답에 들어가는 연관 행 이름, 다음 커서가 같으면 같은 본문
+    // 본문 조회는 그대로 하고 직렬화와 전송만 줄임
+    public static Watermark applicationPage(ApplicationPageDto page) {
+        StringBuilder content = new StringBuilder();
+        for (ApplicationDto item : page.getItems()) {
+            content.append(item.getApplicationId()).append(':').append(item.getVersion())
+                    .append(':').append(item.getCompanyName())
+                    .append(':').append(item.getResumeId()).append(':').append(item.getResumeTitle())
+                    .append(':').append(item.getCoverLetterId()).append(':').append(item.getCoverLetterTitle())
+                    .append('\n');
+        }
+        content.append(page.getNextCursor());
+        String hash = DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+        return new Watermark("W/\"" + page.getItems().size() + "-" + hash + "\"", -1);
+    }
+    
+    public Watermark resume(@ShardKey(ShardKey.Owner.RESUME) Long resumeId) {
+        return query(RESUME_SQL, true, resumeId);
+    }
+    
+    public Watermark resumesByUser(@ShardKey Long userId) {
+        return query(RESUMES_BY_USER_SQL, false, userId);
+    }
+    
+    public Watermark coverLetter(@ShardKey(ShardKey.Owner.COVER_LETTER) Long coverLetterId) {
+        return query(COVER_LETTER_SQL, true, coverLetterId);
+    }
+    
+    public Watermark coverLettersByUser(@ShardKey Long userId) {
+        return query(COVER_LETTERS_BY_USER_SQL, false, userId);
+    }
+    
+    public Watermark user(@ShardKey Long userId) {
+        return query(USER_SQL, true, userId);
+    }
+    
+    // 목록은 삭제해도 최대 updated_at이 그대로라 Last-Modified를 쓰지 않고 ETag만 사용
+    private Watermark query(String sql, boolean withLastModified, Object id) {
+        Watermark watermark = jdbcTemplate.query(sql, rs -> rs.next() ? toWatermark(rs, withLastModified) : null, id);
+        return watermark != null ? watermark : Watermark.NONE;
+    }
+    
+    private static Watermark toWatermark(ResultSet rs, boolean withLastModified) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        StringBuilder etag = new StringBuilder("W/\"");
+        long lastModified = 0;
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (i > 1) {
+                etag.append('-');
+            }
+            if (metaData.getColumnType(i) == Types.TIMESTAMP) {
+                Timestamp timestamp = rs.getTimestamp(i);
+                long millis = timestamp != null ? timestamp.getTime() : 0;
+                lastModified = Math.max(lastModified, millis);
+                etag.append(Long.toString(millis, 36));
+            } else {
+                long value = rs.getLong(i);
+                etag.append(rs.wasNull() ? "" : Long.toString(value, 36));
+            }
+        }
+        return new Watermark(etag.append('"').toString(), withLastModified ? lastModified : -1);
+    }
+}
@@ -1,10 +1,15 @@
 package com.jobmanagement.service;
 
+import com.jobmanagement.config.RetryOnConflict;
+import com.jobmanagement.config.ShardKey;
 import com.jobmanagement.dto.ResumeDto;
+import com.jobmanagement.entity.ActivityStat;
 import com.jobmanagement.entity.Resume;
 import com.jobmanagement.entity.User;
 import com.jobmanagement.repository.ResumeRepository;
 import com.jobmanagement.repository.UserRepository;
+import com.jobmanagement.util.MergePatch;
+import com.jobmanagement.util.VersionCheck;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,67 +24,68 @@ public class ResumeService {
     
     private final ResumeRepository resumeRepository;
     private final UserRepository userRepository;
+    private final ActivityStatsBuffer activityStatsBuffer;
+    private final ColumnPatcher columnPatcher;
     
-    public List<ResumeDto> getResumesByUser(Long userId) {
+    public List<ResumeDto> getResumesByUser(@ShardKey Long userId) {
         List<Resume> resumes = resumeRepository.findByUserUserId(userId);
         return resumes.stream()
                 .map(ResumeDto::from)
                 .collect(Collectors.toList());
     }
     
-    public ResumeDto getResume(Long resumeId) {
+    // 대표 이력서가 없으면 null
+    public ResumeDto getPrimaryResume(@ShardKey Long userId) {
+        return resumeRepository.findByUserUserIdAndIsPrimaryTrue(userId)
+                .map(ResumeDto::from)
+                .orElse(null);
+    }
+    
+    public ResumeDto getResume(@ShardKey(ShardKey.Owner.RESUME) Long resumeId) {
         Resume resume = resumeRepository.findById(resumeId)
                 .orElseThrow(() -> new RuntimeException("이력서를 찾을 수 없습니다."));
         return ResumeDto.from(resume);
     }
     
     @Transactional
-    public ResumeDto createResume(ResumeDto resumeDto) {
+    public ResumeDto createResume(@ShardKey ResumeDto resumeDto) {
         User user = userRepository.findById(resumeDto.getUserId())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
+        // 대표 이력서로 만들 때도 일단 대표가 아닌 상태로 넣고, 지정은 switchPrimary 한 문장으로 처리
         Resume resume = Resume.builder()
                 .user(user)
                 .title(resumeDto.getTitle())
-                .isPrimary(resumeDto.getIsPrimary() != null ? resumeDto.getIsPrimary() : false)
+                .isPrimary(false)
                 .jobCategory(resumeDto.getJobCategory())
                 .targetCompanyType(resumeDto.getTargetCompanyType())
                 .targetLocation(resumeDto.getTargetLocation())
                 .isPublic(resumeDto.getIsPublic() != null ? resumeDto.getIsPublic() : false)
                 .build();
         
-        // 만약 primary로 설정한다면 기존 primary 해제
-        if (resume.getIsPrimary()) {
-            resumeRepository.findByUserUserIdAndIsPrimaryTrue(user.getUserId())
-                    .ifPresent(existing -> {
-                        existing.setIsPrimary(false);
-                        resumeRepository.save(existing);
-                    });
-        }
-        
         Resume savedResume = resumeRepository.save(resume);
+        if (Boolean.TRUE.equals(resumeDto.getIsPrimary())) {
+            savedResume = switchPrimary(user.getUserId(), savedResume.getResumeId());
+        }
+        activityStatsBuffer.record(user.getUserId(), ActivityStat.StatType.RESUME_COUNT, 1);
         return ResumeDto.from(savedResume);
     }
     
     @Transactional
-    public ResumeDto updateResume(Long resumeId, ResumeDto resumeDto) {
+    @RetryOnConflict
+    public ResumeDto updateResume(@ShardKey(ShardKey.Owner.RESUME) Long resumeId, ResumeDto resumeDto) {
         Resume resume = resumeRepository.findById(resumeId)
                 .orElseThrow(() -> new RuntimeException("이력서를 찾을 수 없습니다."));
+        VersionCheck.require("이력서", resumeDto.getVersion(), resume.getVersion());
         
+        // 대표 해제는 필드 수정으로, 대표 지정은 다른 필드를 반영한 뒤 switchPrimary로
+        boolean makePrimary = Boolean.TRUE.equals(resumeDto.getIsPrimary()) && !Boolean.TRUE.equals(resume.getIsPrimary());
+        if (Boolean.FALSE.equals(resumeDto.getIsPrimary())) {
+            resume.setIsPrimary(false);
+        }
         if (resumeDto.getTitle() != null) {
             resume.setTitle(resumeDto.getTitle());
         }
-        if (resumeDto.getIsPrimary() != null) {
-            // primary 설정 시 기존 primary 해제
-            if (resumeDto.getIsPrimary() && !resume.getIsPrimary()) {
-                resumeRepository.findByUserUserIdAndIsPrimaryTrue(resume.getUser().getUserId())
-                        .ifPresent(existing -> {
-                            existing.setIsPrimary(false);
-                            resumeRepository.save(existing);
-                        });
-            }
-            resume.setIsPrimary(resumeDto.getIsPrimary());
-        }
         if (resumeDto.getJobCategory() != null) {
             resume.setJobCategory(resumeDto.getJobCategory());
         }
@@ -93,15 +99,66 @@ public class ResumeService {
             resume.setIsPublic(resumeDto.getIsPublic());
         }
         
-        Resume savedResume = resumeRepository.save(resume);
+        if (makePrimary) {
+            return ResumeDto.from(switchPrimary(resume.getUser().getUserId(), resumeId));
+        }
+        // 증가한 version을 응답에 담도록 커밋 전에 flush
+        Resume savedResume = resumeRepository.saveAndFlush(resume);
         return ResumeDto.from(savedResume);
     }
     
+    // JSON Merge Patch: 보낸 필드의 컬럼만 UPDATE 한 번으로 변경, 대표 지정만 switchPrimary로 따로 처리
+    @Transactional
+    public void patchResume(@ShardKey(ShardKey.Owner.RESUME) Long resumeId, MergePatch patch) {
+        patch.requireOnly("title", "isPrimary", "jobCategory", "targetCompanyType", "targetLocation", "isPublic",
+                "version", "updatedAt");
+        ColumnPatcher.Update update = new ColumnPatcher.Update("resumes", "resume_id", resumeId)
+                .expectVersion(patch.longValue("version"))
+                .expectUpdatedAt(patch.dateTime("updatedAt"));
+        if (patch.has("title")) {
+            update.set("title", patch.requiredText("title"));
+        }
+        if (patch.has("jobCategory")) {
+            update.set("job_category", patch.text("jobCategory"));
+        }
+        if (patch.has("targetCompanyType")) {
+            update.set("target_company_type", patch.text("targetCompanyType"));
+        }
+        if (patch.has("targetLocation")) {
+            update.set("target_location", patch.text("targetLocation"));
+        }
+        if (patch.has("isPublic")) {
+            update.set("is_public", patch.requiredBoolean("isPublic"));
+        }
+        boolean makePrimary = false;
+        if (patch.has("isPrimary")) {
+            makePrimary = patch.requiredBoolean("isPrimary");
+            if (!makePrimary) {
+                update.set("is_primary", false);
+            }
+        }
+        
+        columnPatcher.apply(update, "이력서를 찾을 수 없습니다.");
+        if (makePrimary) {
+            Long userId = resumeRepository.findUserIdById(resumeId)
+                    .orElseThrow(() -> new RuntimeException("이력서를 찾을 수 없습니다."));
+            resumeRepository.switchPrimary(userId, resumeId);
+        }
+    }
+    
     @Transactional
-    public void deleteResume(Long resumeId) {
+    @RetryOnConflict
+    public void deleteResume(@ShardKey(ShardKey.Owner.RESUME) Long resumeId) {
         if (!resumeRepository.existsById(resumeId)) {
             throw new RuntimeException("이력서를 찾을 수 없습니다.");
         }
         resumeRepository.deleteById(resumeId);
     }
+    
+    // 기존 대표 해제 + 새 대표 지정 (UPDATE 한 번), 벌크 갱신이 영속성 컨텍스트를 비우므로 다시 읽어서 반환
+    private Resume switchPrimary(Long userId, Long resumeId) {
+        resumeRepository.switchPrimary(userId, resumeId);
+        return resumeRepository.findById(resumeId)
+                .orElseThrow(() -> new RuntimeException("이력서를 찾을 수 없습니다."));
+    }
 }
@@ -0,0 +1,178 @@
+package com.jobmanagement.service;
+
+import com.jobmanagement.util.TextTokenizer;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// 사용자별 인메모리 역색인 (용어 -> 문서별 출현 횟수)
+// 전체 재구축 중 들어온 변경은 새 색인에도 다시 적용한 뒤 교체
+@Component
+public class SearchIndex {
+    
+    public enum DocType {
+        APPLICATION, COVER_LETTER
+    }
+    
+    @Value
+    public static class DocKey {
+        DocType type;
+        Long id;
+    }
+    
+    @Value
+    public static class Hit {
+        DocKey key;
+        double score;
+    }
+    
+    private volatile Map<Long, UserIndex> users = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private List<Consumer<Map<Long, UserIndex>>> pendingDuringRebuild;
+    
+    public void put(Long userId, DocType type, Long id, List<String> tokens) {
+        DocKey key = new DocKey(type, id);
+        mutate(index -> index.computeIfAbsent(userId, u -> new UserIndex()).put(key, tokens));
+    }
+    
+    public void remove(Long userId, DocType type, Long id) {
+        DocKey key = new DocKey(type, id);
+        mutate(index -> {
+            UserIndex userIndex = index.get(userId);
+            if (userIndex != null) {
+                userIndex.remove(key);
+            }
+        });
+    }
+    
+    // 한 사용자의 특정 유형 문서를 통째로 교체 (일괄 등록 후 재색인)
+    public void replaceAll(Long userId, DocType type, Map<Long, List<String>> documents) {
+        mutate(index -> {
+            UserIndex userIndex = index.computeIfAbsent(userId, u -> new UserIndex());
+            userIndex.removeType(type);
+            documents.forEach((id, tokens) -> userIndex.put(new DocKey(type, id), tokens));
+        });
+    }
+    
+    public void rebuild(Consumer<Builder> loader) {
+        synchronized (writeLock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        Map<Long, UserIndex> fresh = new ConcurrentHashMap<>();
+        try {
+            loader.accept((userId, type, id, tokens) ->
+                    fresh.computeIfAbsent(userId, u -> new UserIndex()).put(new DocKey(type, id), tokens));
+        } finally {
+            synchronized (writeLock) {
+                pendingDuringRebuild.forEach(change -> change.accept(fresh));
+                pendingDuringRebuild = null;
+                users = fresh;
+            }
+        }
+    }
+    
+    public List<Hit> search(Long userId, List<String> terms, DocType type, int limit) {
+        UserIndex userIndex = users.get(userId);
+        if (userIndex == null || terms.isEmpty()) {
+            return List.of();
+        }
+        return userIndex.search(new LinkedHashSet<>(terms), type, limit);
+    }
+    
+    private void mutate(Consumer<Map<Long, UserIndex>> change) {
+        synchronized (writeLock) {
+            change.accept(users);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        }
+    }
+    
+    public interface Builder {
+        void add(Long userId, DocType type, Long id, List<String> tokens);
+    }
+    
+    private static class UserIndex {
+        private final NavigableMap<String, Map<DocKey, Integer>> postings = new TreeMap<>();
+        private final Map<DocKey, Map<String, Integer>> documents = new HashMap<>();
+        
+        synchronized void put(DocKey key, List<String> tokens) {
+            remove(key);
+            if (tokens.isEmpty()) {
+                return;
+            }
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (String token : tokens) {
+                frequencies.merge(token, 1, Integer::sum);
+            }
+            frequencies.forEach((term, count) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(key, count));
+            documents.put(key, frequencies);
+        }
+        
+        synchronized void remove(DocKey key) {
+            Map<String, Integer> frequencies = documents.remove(key);
+            if (frequencies == null) {
+                return;
+            }
+            for (String term : frequencies.keySet()) {
+                Map<DocKey, Integer> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(key);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+        
+        synchronized void removeType(DocType type) {
+            new ArrayList<>(documents.keySet()).stream()
+                    .filter(key -> key.getType() == type)
+                    .forEach(this::remove);
+        }
+        
+        synchronized List<Hit> search(Set<String> terms, DocType type, int limit) {
+            Map<DocKey, Double> scores = null;
+            for (String term : terms) {
+                Map<DocKey, Double> termScores = new HashMap<>();
+                for (Map.Entry<String, Map<DocKey, Integer>> entry : matchingPostings(term)) {
+                    double idf = Math.log(1.0 + (double) documents.size() / entry.getValue().size());
+                    entry.getValue().forEach((key, count) -> {
+                        if (type == null || key.getType() == type) {
+                            termScores.merge(key, count * idf, Double::sum);
+                        }
+                    });
+                }
+                // 모든 검색어를 포함하는 문서만 남김 (AND)
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    for (Map.Entry<DocKey, Double> entry : scores.entrySet()) {
+                        entry.setValue(entry.getValue() + termScores.get(entry.getKey()));
+                    }
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<DocKey, Double>comparingByValue().reversed())
+                    .limit(limit)
+                    .map(entry -> new Hit(entry.getKey(), entry.getValue()))
+                    .toList();
+        }
+        
+        // 한 글자 한글 검색어는 해당 음절로 시작하는 bigram 전체와 매칭
+        private Collection<Map.Entry<String, Map<DocKey, Integer>>> matchingPostings(String term) {
+            if (term.length() == 1 && TextTokenizer.isHangulSyllable(term.charAt(0))) {
+                return postings.subMap(term, true, term + Character.MAX_VALUE, false).entrySet();
+            }
+            Map<DocKey, Integer> posting = postings.get(term);
+            return posting != null ? List.of(Map.entry(term, posting)) : List.of();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.jobmanagement.service;
+
+import com.jobmanagement.config.ShardDirectory;
+import com.jobmanagement.config.ShardKey;
+import com.jobmanagement.dto.SearchResultDto;
+import com.jobmanagement.entity.Application;
+import com.jobmanagement.entity.CoverLetter;
+import com.jobmanagement.event.ApplicationChangedEvent;
+import com.jobmanagement.event.ApplicationsImportedEvent;
+import com.jobmanagement.event.ChangeType;
+import com.jobmanagement.event.CoverLetterChangedEvent;
+import com.jobmanagement.repository.ApplicationRepository;
+import com.jobmanagement.repository.CoverLetterRepository;
+import com.jobmanagement.util.TextTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 지원 메모/자기소개서 전문 검색: 인메모리 역색인으로 후보를 찾고 ID로만 원본을 조회 (LIKE 스캔 없음)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchService {
+    
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+    private static final int SNIPPET_RADIUS = 40;
+    
+    private final SearchIndex searchIndex;
+    private final ApplicationRepository applicationRepository;
+    private final CoverLetterRepository coverLetterRepository;
+    private final CoverLetterContentStore coverLetterContentStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardDirectory shardDirectory;
+    
+    @Value("${search.rebuild-fetch-size:" + Integer.MIN_VALUE + "}")
+    private int rebuildFetchSize;
+    
+    public List<SearchResultDto> search(@ShardKey Long userId, String query, String type, Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        SearchIndex.DocType docType = null;
+        if (type != null && !type.isBlank()) {
+            try {
+                docType = SearchIndex.DocType.valueOf(type);
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("유효하지 않은 검색 대상입니다: " + type);
+            }
+        }
+        
+        List<String> terms = TextTokenizer.tokenize(query);
+        // bigram 일치만으로는 띄어진 위치의 오탐이 있을 수 있어 원문 확인 후 제외되는 만큼 여유 있게 조회
+        List<SearchIndex.Hit> hits = searchIndex.search(userId, terms, docType, size * 2);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<SearchIndex.DocType, List<Long>> idsByType = hits.stream()
+                .collect(Collectors.groupingBy(hit -> hit.getKey().getType(),
+                        Collectors.mapping(hit -> hit.getKey().getId(), Collectors.toList())));
+        Map<Long, Application> applications = idsByType.containsKey(SearchIndex.DocType.APPLICATION)
+                ? applicationRepository.findAllWithCompanyByIdIn(idsByType.get(SearchIndex.DocType.APPLICATION)).stream()
+                        .collect(Collectors.toMap(Application::getApplicationId, Function.identity()))
+                : Map.of();
+        Map<Long, CoverLetter> coverLetters = idsByType.containsKey(SearchIndex.DocType.COVER_LETTER)
+                ? coverLetterRepository.findAllById(idsByType.get(SearchIndex.DocType.COVER_LETTER)).stream()
+                        .collect(Collectors.toMap(CoverLetter::getCoverLetterId, Function.identity()))
+                : Map.of();
+        Map<Long, String> coverLetterContents = coverLetters.isEmpty()
+                ? Map.of()
+                : coverLetterContentStore.loadAll(coverLetters.keySet());
+        
+        List<String> words = Arrays.stream(TextTokenizer.normalize(query).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .toList();
+        
+        List<SearchResultDto> results = new ArrayList<>();
+        for (SearchIndex.Hit hit : hits) {
+            SearchResultDto result = hit.getKey().getType() == SearchIndex.DocType.APPLICATION
+                    ? toResult(applications.get(hit.getKey().getId()), userId, words)
+                    : toResult(coverLetters.get(hit.getKey().getId()), coverLetterContents.get(hit.getKey().getId()), userId, words);
+            if (result != null) {
+                result.setScore(hit.getScore());
+                results.add(result);
+                if (results.size() == size) {
+                    break;
+                }
+            }
+        }
+        return results;
+    }
+    
+    private SearchResultDto toResult(Application application, Long userId, List<String> words) {
+        if (application == null || !userId.equals(application.getUser().getUserId())) {
+            return null;
+        }
+        String snippet = snippet(application.getNotes(), words);
+        if (snippet == null) {
+            return null;
+        }
+        return SearchResultDto.builder()
+                .type(SearchIndex.DocType.APPLICATION.name())
+                .id(application.getApplicationId())
+                .title(application.getCompany().getName())
+                .snippet(snippet)
+                .updatedAt(application.getUpdatedAt())
+                .build();
+    }
+    
+    private SearchResultDto toResult(CoverLetter coverLetter, String content, Long userId, List<String> words) {
+        if (coverLetter == null || !userId.equals(coverLetter.getUser().getUserId())) {
+            return null;
+        }
+        String snippet = snippet(coverLetterText(coverLetter.getTitle(), content), words);
+        if (snippet == null) {
+            return null;
+        }
+        return SearchResultDto.builder()
+                .type(SearchIndex.DocType.COVER_LETTER.name())
+                .id(coverLetter.getCoverLetterId())
+                .title(coverLetter.getTitle())
+                .snippet(snippet)
+                .updatedAt(coverLetter.getUpdatedAt())
+                .build();
+    }
+    
+    // 모든 검색어가 원문에 실제로 있는지 확인하고 첫 검색어 주변을 잘라서 반환 (없으면 null)
+    private static String snippet(String text, List<String> words) {
+        if (text == null) {
+            return null;
+        }
+        String normalized = TextTokenizer.normalize(text);
+        int first = -1;
+        for (String word : words) {
+            int index = normalized.indexOf(word);
+            if (index < 0) {
+                return null;
+            }
+            if (first < 0) {
+                first = index;
+            }
+        }
+        int start = Math.min(text.length(), Math.max(0, first - SNIPPET_RADIUS));
+        int end = Math.min(text.length(), start + SNIPPET_RADIUS * 3);
+        return (start > 0 ? "…" : "") + text.substring(start, end) + (end < text.length() ? "…" : "");
+    }
+    
+    private static String coverLetterText(String title, String content) {
+        return content != null ? title + "\n" + content : title;
+    }
+    
+    @TransactionalEventListener
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        if (event.getChangeType() == ChangeType.DELETED || event.getNotes() == null) {
+            searchIndex.remove(event.getUserId(), SearchIndex.DocType.APPLICATION, event.getApplicationId());
+        } else {
+            searchIndex.put(event.getUserId(), SearchIndex.DocType.APPLICATION, event.getApplicationId(),
+                    TextTokenizer.tokenize(event.getNotes()));
+        }
+    }
+    
+    @TransactionalEventListener
+    public void onCoverLetterChanged(CoverLetterChangedEvent event) {
+        if (event.getChangeType() == ChangeType.DELETED) {
+            searchIndex.remove(event.getUserId(), SearchIndex.DocType.COVER_LETTER, event.getCoverLetterId());
+        } else {
+            searchIndex.put(event.getUserId(), SearchIndex.DocType.COVER_LETTER, event.getCoverLetterId(),
+                    TextTokenizer.tokenize(coverLetterText(event.getTitle(), event.getContent())));
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationsImported(ApplicationsImportedEvent event) {
+        Map<Long, List<String>> documents = new HashMap<>();
+        jdbcTemplate.query("SELECT application_id, notes FROM applications WHERE user_id = ? AND notes IS NOT NULL",
+                rs -> {
+                    documents.put(rs.getLong("application_id"), TextTokenizer.tokenize(rs.getString("notes")));
+                }, event.getUserId());
+        searchIndex.replaceAll(event.getUserId(), SearchIndex.DocType.APPLICATION, documents);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        long started = System.currentTimeMillis();
+        // 샤딩 시 모든 샤드의 문서를 한 색인에 모음 (색인은 사용자 ID로 나뉘므로 버킷 이동 후에도 그대로 유효)
+        searchIndex.rebuild(builder -> {
+            for (int shard = 0; shard < shardDirectory.shardCount(); shard++) {
+                JdbcTemplate source = shardDirectory.jdbcTemplate(shard);
+                streamQuery(source, "SELECT application_id, user_id, notes FROM applications WHERE notes IS NOT NULL", rs ->
+                        builder.add(rs.getLong("user_id"), SearchIndex.DocType.APPLICATION, rs.getLong("application_id"),
+                                TextTokenizer.tokenize(rs.getString("notes"))));
+                streamQuery(source, "SELECT cl.cover_letter_id, cl.user_id, cl.title, c.encoding, c.data FROM cover_letters cl " +
+                        "LEFT JOIN cover_letter_contents c ON c.cover_letter_id = cl.cover_letter_id", rs -> {
+                    String content = CoverLetterContentStore.decode(rs.getString("encoding"), rs.getBytes("data"));
+                    builder.add(rs.getLong("user_id"), SearchIndex.DocType.COVER_LETTER, rs.getLong("cover_letter_id"),
+                            TextTokenizer.tokenize(coverLetterText(rs.getString("title"), content)));
+                });
+            }
+        });
+        log.info("검색 색인 재구축 완료 ({}ms)", System.currentTimeMillis() - started);
+    }
+    
+    private void streamQuery(JdbcTemplate source, String sql, RowCallbackHandler handler) {
+        source.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(rebuildFetchSize);
+            return ps;
+        }, handler);
+    }
+}
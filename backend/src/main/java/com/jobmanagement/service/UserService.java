@@ -1,8 +1,12 @@
 package com.jobmanagement.service;
 
+import com.jobmanagement.config.RetryOnConflict;
+import com.jobmanagement.config.ShardKey;
 import com.jobmanagement.dto.UserDto;
 import com.jobmanagement.entity.User;
 import com.jobmanagement.repository.UserRepository;
+import com.jobmanagement.util.MergePatch;
+import com.jobmanagement.util.VersionCheck;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,17 +17,20 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
     
     private final UserRepository userRepository;
+    private final ColumnPatcher columnPatcher;
     
-    public UserDto getUser(Long userId) {
+    public UserDto getUser(@ShardKey Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         return UserDto.from(user);
     }
     
     @Transactional
-    public UserDto updateUser(Long userId, UserDto userDto) {
+    @RetryOnConflict
+    public UserDto updateUser(@ShardKey Long userId, UserDto userDto) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        VersionCheck.require("사용자", userDto.getVersion(), user.getVersion());
         
         // 업데이트 가능한 필드만 수정
         if (userDto.getName() != null) {
@@ -46,7 +53,35 @@ public class UserService {
             user.setIsMatchingEnabled(userDto.getIsMatchingEnabled());
         }
         
-        User savedUser = userRepository.save(user);
+        // 증가한 version을 응답에 담도록 커밋 전에 flush
+        User savedUser = userRepository.saveAndFlush(user);
         return UserDto.from(savedUser);
     }
+    
+    // JSON Merge Patch: 보낸 필드의 컬럼만 UPDATE 한 번으로 변경
+    @Transactional
+    public void patchUser(@ShardKey Long userId, MergePatch patch) {
+        patch.requireOnly("name", "careerLevel", "jobCategory", "profileImageUrl", "isMatchingEnabled",
+                "version", "updatedAt");
+        ColumnPatcher.Update update = new ColumnPatcher.Update("users", "user_id", userId)
+                .cachedAs(User.class)
+                .expectVersion(patch.longValue("version"))
+                .expectUpdatedAt(patch.dateTime("updatedAt"));
+        if (patch.has("name")) {
+            update.set("name", patch.requiredText("name"));
+        }
+        if (patch.has("careerLevel")) {
+            update.set("career_level", patch.requiredEnum("careerLevel", User.CareerLevel.class).name());
+        }
+        if (patch.has("jobCategory")) {
+            update.set("job_category", patch.text("jobCategory"));
+        }
+        if (patch.has("profileImageUrl")) {
+            update.set("profile_image_url", patch.text("profileImageUrl"));
+        }
+        if (patch.has("isMatchingEnabled")) {
+            update.set("is_matching_enabled", patch.requiredBoolean("isMatchingEnabled"));
+        }
+        columnPatcher.apply(update, "사용자를 찾을 수 없습니다.");
+    }
 }
@@ -0,0 +1,44 @@
+package com.jobmanagement.util;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+// RFC 4180 형식으로 한 레코드씩 쓰는 CSV 라이터 (쉼표/따옴표/줄바꿈이 있는 필드만 따옴표 처리)
+public class CsvWriter implements Flushable {
+    
+    private final Writer writer;
+    
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+    
+    public void writeRecord(Object... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (fields[i] != null) {
+                writeField(fields[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+    
+    private void writeField(String value) throws IOException {
+        boolean needsQuote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+    
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+}
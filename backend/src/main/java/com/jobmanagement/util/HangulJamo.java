@@ -0,0 +1,86 @@
+package com.jobmanagement.util;
+
+// 한글 음절을 호환 자모(ㄱ, ㅏ ...)로 분해
+// 겹받침/이중모음은 입력 순서대로 풀어서(ㄺ → ㄹㄱ, ㅘ → ㅗㅏ) 타이핑 도중의 글자와 앞부분이 일치하도록 함
+public final class HangulJamo {
+    
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int JUNGSUNG_COUNT = 21;
+    private static final int JONGSUNG_COUNT = 28;
+    
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final String[] JUNGSUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSUNG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    // 호환 자모 중 겹자음/이중모음 (단독으로 입력된 경우)
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_DECOMPOSED = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+    
+    private HangulJamo() {
+    }
+    
+    public static boolean isSyllable(char c) {
+        return TextTokenizer.isHangulSyllable(c);
+    }
+    
+    // 초성으로 쓰일 수 있는 자음 (ㄱ ~ ㅎ)
+    public static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+    
+    public static boolean isVowel(char c) {
+        return c >= 'ㅏ' && c <= 'ㅣ';
+    }
+    
+    // 음절이면 초성, 아니면 그대로
+    public static char chosung(char c) {
+        if (!isSyllable(c)) {
+            return c;
+        }
+        return CHOSUNG[(c - SYLLABLE_BASE) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)];
+    }
+    
+    public static String chosungOf(String text) {
+        char[] chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = chosung(text.charAt(i));
+        }
+        return new String(chars);
+    }
+    
+    public static void decompose(char c, StringBuilder out) {
+        if (isSyllable(c)) {
+            int index = c - SYLLABLE_BASE;
+            out.append(CHOSUNG[index / (JUNGSUNG_COUNT * JONGSUNG_COUNT)]);
+            out.append(JUNGSUNG[(index % (JUNGSUNG_COUNT * JONGSUNG_COUNT)) / JONGSUNG_COUNT]);
+            out.append(JONGSUNG[index % JONGSUNG_COUNT]);
+            return;
+        }
+        int compound = COMPOUND_JAMO.indexOf(c);
+        if (compound >= 0) {
+            out.append(COMPOUND_DECOMPOSED[compound]);
+        } else {
+            out.append(c);
+        }
+    }
+    
+    public static String decompose(String text) {
+        StringBuilder out = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            decompose(text.charAt(i), out);
+        }
+        return out.toString();
+    }
+}
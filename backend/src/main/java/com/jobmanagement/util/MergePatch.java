@@ -0,0 +1,113 @@
+package com.jobmanagement.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.Set;
+
+// JSON Merge Patch(RFC 7396) 본문: 필드가 없으면 그대로 두고, null이면 지우고, 값이 있으면 그 값으로 바꿈
+// 리소스가 모두 평평한 구조라 중첩 객체는 다루지 않음
+public final class MergePatch {
+    
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+    
+    private final JsonNode body;
+    
+    public MergePatch(JsonNode body) {
+        if (body == null || !body.isObject()) {
+            throw new RuntimeException("수정 내용은 JSON 객체여야 합니다.");
+        }
+        this.body = body;
+    }
+    
+    // 허용하지 않은 필드가 있으면 거부 (오타로 아무것도 바뀌지 않는 경우를 막음)
+    public MergePatch requireOnly(String... fields) {
+        Set<String> allowed = Set.of(fields);
+        for (Iterator<String> names = body.fieldNames(); names.hasNext(); ) {
+            String name = names.next();
+            if (!allowed.contains(name)) {
+                throw new RuntimeException("수정할 수 없는 필드입니다: " + name);
+            }
+        }
+        return this;
+    }
+    
+    public boolean has(String field) {
+        return body.has(field);
+    }
+    
+    public String text(String field) {
+        JsonNode node = body.get(field);
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        if (!node.isTextual()) {
+            throw invalid(field);
+        }
+        return node.asText();
+    }
+    
+    public String requiredText(String field) {
+        return required(field, text(field));
+    }
+    
+    public Boolean requiredBoolean(String field) {
+        JsonNode node = body.get(field);
+        if (node != null && !node.isNull() && !node.isBoolean()) {
+            throw invalid(field);
+        }
+        return required(field, node == null || node.isNull() ? null : node.asBoolean());
+    }
+    
+    public Long longValue(String field) {
+        JsonNode node = body.get(field);
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        if (!node.canConvertToLong() || !node.isIntegralNumber()) {
+            throw invalid(field);
+        }
+        return node.asLong();
+    }
+    
+    public LocalDate date(String field) {
+        String value = text(field);
+        try {
+            return value != null ? LocalDate.parse(value) : null;
+        } catch (DateTimeParseException e) {
+            throw invalid(field);
+        }
+    }
+    
+    public LocalDateTime dateTime(String field) {
+        String value = text(field);
+        try {
+            return value != null ? LocalDateTime.parse(value) : null;
+        } catch (DateTimeParseException e) {
+            throw invalid(field);
+        }
+    }
+    
+    public <E extends Enum<E>> E requiredEnum(String field, Class<E> type) {
+        String value = requiredText(field);
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            throw invalid(field);
+        }
+    }
+    
+    private static <T> T required(String field, T value) {
+        if (value == null) {
+            throw new RuntimeException("비울 수 없는 필드입니다: " + field);
+        }
+        return value;
+    }
+    
+    private RuntimeException invalid(String field) {
+        return new RuntimeException("유효하지 않은 값입니다: " + field + "=" + body.get(field));
+    }
+}
@@ -0,0 +1,76 @@
+package com.jobmanagement.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// MinHash 서명: 토큰(TextTokenizer) 3개씩 이어 붙인 shingle 집합의 Jaccard 유사도를 서명 위치 일치 비율로 추정
+// 해시 함수 i는 shingle 해시에 고정 시드 i를 섞은 값 (시드가 고정이라 재기동해도 같은 문서는 같은 서명)
+public final class MinHash {
+    
+    private static final int SHINGLE_SIZE = 3;
+    private static final long SEED = 0x5DEECE66DL;
+    
+    private final long[] seeds;
+    
+    public MinHash(int numHashes) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        this.seeds = new long[numHashes];
+        for (int i = 0; i < numHashes; i++) {
+            seeds[i] = random.nextLong();
+        }
+    }
+    
+    public int size() {
+        return seeds.length;
+    }
+    
+    // 토큰이 없으면 null (비교 대상에서 제외)
+    public int[] signature(List<String> tokens) {
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(1, tokens.size() - SHINGLE_SIZE + 1);
+        for (int start = 0; start < shingles; start++) {
+            long shingle = shingleHash(tokens, start, Math.min(tokens.size(), start + SHINGLE_SIZE));
+            for (int i = 0; i < seeds.length; i++) {
+                int value = (int) (mix(shingle ^ seeds[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+    
+    public static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / a.length;
+    }
+    
+    private static long shingleHash(List<String> tokens, int from, int to) {
+        long hash = 1125899906842597L;
+        for (int i = from; i < to; i++) {
+            String token = tokens.get(i);
+            for (int j = 0; j < token.length(); j++) {
+                hash = 31 * hash + token.charAt(j);
+            }
+            hash = 31 * hash + ' ';
+        }
+        return hash;
+    }
+    
+    // splitmix64 마무리 단계 (비슷한 입력도 고르게 흩어지도록)
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
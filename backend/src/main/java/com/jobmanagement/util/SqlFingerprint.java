@@ -0,0 +1,35 @@
+package com.jobmanagement.util;
+
+import java.util.regex.Pattern;
+
+// SQL 지문: 리터럴/IN 목록/VALUES 행 수를 지워서 같은 모양의 쿼리를 하나로 묶음
+// SELECT * FROM users WHERE user_id = 42 AND name IN ('a', 'b') → select * from users where user_id = ? and name in (?)
+public final class SqlFingerprint {
+    
+    private static final int MAX_LENGTH = 2000;
+    
+    private static final Pattern BLOCK_COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern LINE_COMMENT = Pattern.compile("--[^\\n]*");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|''|\\\\.)*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern VALUES_ROWS = Pattern.compile("\\bvalues\\s*(\\([^()]*\\))(?:\\s*,\\s*\\([^()]*\\))+");
+    
+    private SqlFingerprint() {
+    }
+    
+    public static String of(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String text = BLOCK_COMMENT.matcher(sql).replaceAll(" ");
+        text = LINE_COMMENT.matcher(text).replaceAll(" ");
+        text = STRING_LITERAL.matcher(text).replaceAll("?");
+        text = NUMBER_LITERAL.matcher(text).replaceAll("?");
+        text = WHITESPACE.matcher(text).replaceAll(" ").strip().toLowerCase();
+        text = IN_LIST.matcher(text).replaceAll("in (?)");
+        text = VALUES_ROWS.matcher(text).replaceAll("values $1");
+        return text.length() > MAX_LENGTH ? text.substring(0, MAX_LENGTH) + "…" : text;
+    }
+}
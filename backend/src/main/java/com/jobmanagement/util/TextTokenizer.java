@@ -0,0 +1,57 @@
+package com.jobmanagement.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 검색용 토크나이저: 한글은 음절 bigram(한 글자 단어는 unigram), 영문/숫자는 소문자 단어 단위
+public final class TextTokenizer {
+    
+    private TextTokenizer() {
+    }
+    
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+    
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = normalize(text);
+        
+        int runStart = -1;
+        boolean hangulRun = false;
+        for (int i = 0; i <= normalized.length(); i++) {
+            char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+            boolean hangul = isHangulSyllable(c);
+            boolean word = !hangul && Character.isLetterOrDigit(c);
+            
+            if (runStart >= 0 && (hangulRun ? !hangul : !word)) {
+                emit(normalized, runStart, i, hangulRun, tokens);
+                runStart = -1;
+            }
+            if (runStart < 0 && (hangul || word)) {
+                runStart = i;
+                hangulRun = hangul;
+            }
+        }
+        return tokens;
+    }
+    
+    public static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+    
+    private static void emit(String text, int start, int end, boolean hangul, List<String> tokens) {
+        if (!hangul || end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+}
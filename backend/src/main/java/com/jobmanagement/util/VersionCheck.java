@@ -0,0 +1,18 @@
+package com.jobmanagement.util;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+
+// 클라이언트가 읽었던 version과 현재 version 비교 (요청에 version이 없으면 통과)
+// 다시 읽어도 해소되지 않는 충돌이라 ObjectOptimisticLockingFailureException이 아닌 상위 타입으로 던져서 @RetryOnConflict 대상에서 빠짐
+public final class VersionCheck {
+    
+    private VersionCheck() {
+    }
+    
+    public static void require(String target, Long expected, Long current) {
+        if (expected != null && !expected.equals(current)) {
+            throw new OptimisticLockingFailureException(
+                    target + " 버전이 맞지 않습니다. (요청 " + expected + ", 현재 " + current + ")");
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.jobmanagement.config;
+
+import com.jobmanagement.dto.ApplicationDto;
+import com.jobmanagement.dto.CompanyDto;
+import com.jobmanagement.service.ApplicationImportService;
+import com.jobmanagement.service.ApplicationService;
+import com.jobmanagement.service.CompanyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 쓰기가 계속 들어오는 중에 H2 샤드 두 개 사이에서 버킷을 옮겨도 커밋된 쓰기가 사라지지 않는지 확인
+// 모든 버킷이 0번 샤드에서 시작 (initial-placement: first), drain 대기 없이 버킷 행 잠금만으로 쓰기를 막음
+// H2에는 공유 잠금(FOR SHARE)이 없어서 FOR UPDATE로 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ShardMigratorTest.SHARD_0,
+        "spring.sql.init.mode=never",
+        "sharding.enabled=true",
+        "sharding.shards[0].url=" + ShardMigratorTest.SHARD_1,
+        "sharding.buckets=16",
+        "sharding.interleave-ids=false",
+        "sharding.bucket-lock=FOR UPDATE",
+        "sharding.migration-drain-ms=0",
+        "application-import.chunk-size=2"
+})
+@ActiveProfiles("test")
+class ShardMigratorTest {
+    
+    private static final String H2_OPTIONS = ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,DATE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000";
+    static final String SHARD_0 = "jdbc:h2:mem:migrator-shard-0" + H2_OPTIONS;
+    static final String SHARD_1 = "jdbc:h2:mem:migrator-shard-1" + H2_OPTIONS;
+    
+    // 디렉터리 초기화가 두 샤드의 shard_buckets를 읽으므로 컨텍스트보다 먼저 스키마 적용
+    // interleave-ids(MySQL 전용)를 끄므로 1번 샤드는 큰 ID부터 발급해서 옮긴 행과 겹치지 않게 함
+    static {
+        createShard(SHARD_0, null);
+        createShard(SHARD_1, 1_000_000L);
+    }
+    
+    @Autowired
+    private ShardDirectory directory;
+    @Autowired
+    private ShardMigrator migrator;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private CompanyService companyService;
+    @Autowired
+    private ApplicationService applicationService;
+    @Autowired
+    private ApplicationImportService importService;
+    
+    // 한 사용자는 지원 내역을 계속 등록하고, 같은 버킷의 다른 사용자는 느리게 들어오는 일괄 등록(청크 2행)을 하는 중에 버킷을 1번 샤드로 옮김
+    // 등록이 성공으로 돌아온 지원 내역은 모두 1번 샤드에 있어야 하고, 일괄 등록은 이동이 시작된 뒤의 청크에서 503으로 멈춰야 함
+    @Test
+    void keepsWritesCommittedDuringMigration() throws Exception {
+        Long userId = newUser();
+        Long importerId;
+        do {
+            importerId = newUser();
+        } while (directory.bucketOf(importerId) != directory.bucketOf(userId));
+        Long importer = importerId;
+        Long companyId = companyService.createCompany(CompanyDto.builder()
+                .name("샤드 이동 테스트")
+                .industry("IT/인터넷")
+                .location("서울특별시")
+                .build()).getCompanyId();
+        int bucket = directory.bucketOf(userId);
+        assertEquals(0, directory.shardOf(userId));
+        
+        List<Long> created = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger linesSent = new AtomicInteger();
+        AtomicBoolean stop = new AtomicBoolean();
+        ExecutorService writers = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> creating = writers.submit(() -> {
+                while (!stop.get()) {
+                    try {
+                        created.add(applicationService.createApplication(ApplicationDto.builder()
+                                .userId(userId)
+                                .companyId(companyId)
+                                .appliedDate(LocalDate.now())
+                                .notes("이동 중 등록")
+                                .build()).getApplicationId());
+                    } catch (ShardMigrationInProgressException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+            });
+            Future<?> importing = writers.submit(() -> importService.importNdjson(importer, slowBody(companyId, 200, linesSent)));
+            awaitUntil(creating, () -> created.size() >= 5 && linesSent.get() >= 4);
+            
+            ShardMigrator.MigrationResult result = migrator.migrate(Map.of(bucket, 1));
+            assertEquals(Map.of(bucket, 1), result.getMovedBuckets());
+            assertEquals(1, directory.shardOf(userId));
+            int createdBeforeMove = created.size();
+            awaitUntil(creating, () -> created.size() >= createdBeforeMove + 5);
+            stop.set(true);
+            creating.get();
+            
+            ExecutionException importFailure = assertThrows(ExecutionException.class, importing::get);
+            assertInstanceOf(ShardMigrationInProgressException.class, importFailure.getCause());
+        } finally {
+            stop.set(true);
+            writers.shutdownNow();
+        }
+        
+        JdbcTemplate source = directory.jdbcTemplate(0);
+        JdbcTemplate target = directory.jdbcTemplate(1);
+        for (String table : ShardMigrator.USER_TABLES) {
+            assertEquals(0, count(source, "SELECT COUNT(*) FROM " + table + " WHERE user_id IN (?, ?)", userId, importer), table);
+        }
+        List<Long> moved = target.queryForList("SELECT application_id FROM applications WHERE user_id = ?", Long.class, userId);
+        assertTrue(moved.containsAll(created), "이동 중 커밋된 지원 내역이 새 샤드에 없습니다.");
+        long imported = count(target, "SELECT COUNT(*) FROM applications WHERE user_id = ?", importer);
+        assertTrue(imported >= 2 && imported % 2 == 0, "일괄 등록은 청크 단위로 옮겨져야 합니다: " + imported);
+        String counted = "SELECT applied_count + document_pass_count + final_pass_count + rejected_count FROM application_status_counts WHERE user_id = ?";
+        assertEquals(moved.size(), count(target, counted, userId));
+        assertEquals(imported, count(target, counted, importer));
+        
+        // 옮긴 뒤에는 원래 샤드의 버킷 행이 새 샤드를 가리켜서, 디렉터리를 늦게 읽은 인스턴스의 쓰기도 원래 샤드에서는 거절됨
+        assertTrue(directory.transactionTemplate(0).execute(status -> directory.lockOwnedBuckets(0, List.of(bucket))).isEmpty());
+        assertEquals(List.of(bucket), List.copyOf(directory.transactionTemplate(1)
+                .execute(status -> directory.lockOwnedBuckets(1, List.of(bucket)))));
+    }
+    
+    private Long newUser() {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO users (name, career_level, job_category) VALUES (?, 'NEWCOMER', '개발자')",
+                    new String[]{"user_id"});
+            statement.setString(1, "이동 테스트 사용자");
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+    
+    private static long count(JdbcTemplate jdbcTemplate, String sql, Object... args) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, args);
+        return count != null ? count : 0;
+    }
+    
+    // 등록 작업이 예외로 끝났으면 기다리지 않고 그 예외로 실패
+    private static void awaitUntil(Future<?> writer, BooleanSupplier condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!condition.getAsBoolean()) {
+            if (writer.isDone()) {
+                writer.get();
+            }
+            if (System.currentTimeMillis() > deadline) {
+                fail("조건을 기다리다 시간이 지났습니다.");
+            }
+            Thread.sleep(10);
+        }
+    }
+    
+    // 한 번에 한 줄씩, 줄마다 잠깐 쉬면서 돌려주는 NDJSON 본문 (일괄 등록이 이동 전후의 여러 청크 트랜잭션에 걸치도록)
+    private static InputStream slowBody(Long companyId, int rows, AtomicInteger linesSent) {
+        return new InputStream() {
+            private byte[] line = new byte[0];
+            private int position;
+            
+            @Override
+            public int read() {
+                byte[] one = new byte[1];
+                return read(one, 0, 1) < 0 ? -1 : one[0] & 0xff;
+            }
+            
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                if (position == line.length) {
+                    if (linesSent.get() == rows) {
+                        return -1;
+                    }
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return -1;
+                    }
+                    line = ("{\"companyId\": " + companyId + ", \"notes\": \"" + "일괄 등록 " + linesSent.getAndIncrement() + "\"}\n")
+                            .getBytes(StandardCharsets.UTF_8);
+                    position = 0;
+                }
+                int read = Math.min(length, line.length - position);
+                System.arraycopy(line, position, buffer, offset, read);
+                position += read;
+                return read;
+            }
+        };
+    }
+    
+    private static void createShard(String url, Long firstId) {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            ScriptUtils.executeSqlScript(connection, new EncodedResource(new FileSystemResource("../init.sql"), StandardCharsets.UTF_8));
+            if (firstId == null) {
+                return;
+            }
+            List<String[]> identities = new ArrayList<>();
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT table_name, column_name FROM information_schema.columns "
+                         + "WHERE table_schema = 'public' AND is_identity = 'YES'")) {
+                while (rs.next()) {
+                    identities.add(new String[]{rs.getString(1), rs.getString(2)});
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                for (String[] identity : identities) {
+                    statement.execute("ALTER TABLE " + identity[0] + " ALTER COLUMN " + identity[1] + " RESTART WITH " + firstId);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("테스트 샤드를 만들 수 없습니다: " + url, e);
+        }
+    }
+}
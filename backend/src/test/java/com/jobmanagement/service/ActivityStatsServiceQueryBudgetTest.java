@@ -0,0 +1,25 @@
+package com.jobmanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+
+class ActivityStatsServiceQueryBudgetTest extends QueryBudgetTestSupport {
+    
+    @Autowired
+    private ActivityStatsService activityStatsService;
+    
+    // 시드 통계는 하루에 한 행씩 rows일치
+    @Test
+    void getActivityStats() throws Throwable {
+        Long userId = newUser();
+        LocalDate today = LocalDate.now();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            LocalDate from = today.minusDays(rows);
+            assertQueries(1, () -> activityStatsService.getActivityStats(userId, from, today, ActivityStatsService.Granularity.DAY));
+            assertQueries(1, () -> activityStatsService.getActivityStats(userId, from, today, ActivityStatsService.Granularity.WEEK));
+        }
+    }
+}
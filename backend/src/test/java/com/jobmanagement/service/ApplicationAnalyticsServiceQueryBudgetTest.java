@@ -0,0 +1,44 @@
+package com.jobmanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// 시드 지원 내역의 3분의 2는 상태가 한 번 바뀌어서 이력과 전이 집계가 함께 쌓임
+class ApplicationAnalyticsServiceQueryBudgetTest extends QueryBudgetTestSupport {
+    
+    @Autowired
+    private ApplicationAnalyticsService applicationAnalyticsService;
+    
+    @Test
+    void getHistory() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long applicationId = applications.get(rows - 1).getApplicationId();
+            assertQueries(1, () -> applicationAnalyticsService.getHistory(applicationId));
+        }
+    }
+    
+    @Test
+    void getTransitionDurations() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            int size = assertQueries(1, () -> applicationAnalyticsService.getTransitionDurations(userId, null, null)).size();
+            assertFalse(size == 0);
+        }
+    }
+    
+    @Test
+    void getFunnel() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            for (ApplicationAnalyticsService.Period period : ApplicationAnalyticsService.Period.values()) {
+                assertQueries(1, () -> applicationAnalyticsService.getFunnel(userId, null, null, period));
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.jobmanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ApplicationExportServiceQueryBudgetTest extends QueryBudgetTestSupport {
+    
+    @Autowired
+    private ApplicationExportService applicationExportService;
+    
+    @Test
+    void checkUser() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            assertQueries(1, () -> applicationExportService.checkUser(userId));
+        }
+    }
+    
+    @Test
+    void export() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            for (ApplicationExportService.Format format : ApplicationExportService.Format.values()) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                assertQueries(1, () -> applicationExportService.export(userId, format, out));
+                assertFalse(out.size() == 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.jobmanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 업로드 행 수도 데이터 규모만큼 늘려서 검사 (청크 하나 안에서는 행 수와 무관해야 함)
+// 자동완성 지원 건수는 이벤트의 회사별 건수로만 더하고 applications 전체를 다시 세지 않음
+class ApplicationImportServiceQueryBudgetTest extends QueryBudgetTestSupport {
+    
+    @Autowired
+    private ApplicationImportService importService;
+    @Autowired
+    private CompanyTypeaheadIndex typeaheadIndex;
+    
+    @Test
+    void importNdjson() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long companyId = applications.get(0).getCompanyId();
+            String companyName = companyService.getCompany(companyId).getName();
+            long before = applicationCount(companyName);
+            StringBuilder body = new StringBuilder();
+            for (int i = 0; i < rows; i++) {
+                body.append("{\"companyId\": ").append(companyId).append(", \"notes\": \"일괄 등록 ").append(i).append("\"}\n");
+            }
+            byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+            long imported = assertQueries(7, () -> importService.importNdjson(userId, new ByteArrayInputStream(bytes))).getImportedCount();
+            assertEquals(rows, imported);
+            assertEquals(before + rows, applicationCount(companyName));
+        }
+    }
+    
+    private long applicationCount(String companyName) {
+        return typeaheadIndex.suggest(companyName, 1).get(0).getApplicationCount();
+    }
+}
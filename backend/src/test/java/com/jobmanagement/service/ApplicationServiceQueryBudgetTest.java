@@ -0,0 +1,133 @@
+package com.jobmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobmanagement.dto.ApplicationDto;
+import com.jobmanagement.dto.ApplicationPageDto;
+import com.jobmanagement.util.MergePatch;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ApplicationServiceQueryBudgetTest extends QueryBudgetTestSupport {
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Test
+    void getApplicationsByUser() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            int size = assertQueries(1, () -> applicationService.getApplicationsByUser(userId)).size();
+            assertEquals(rows, size);
+        }
+    }
+    
+    // 날짜가 있는 구간과 NULL 구간에 걸친 페이지까지 끝까지 넘겨 봄
+    @Test
+    void getApplicationPage() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            String cursor = null;
+            int seen = 0;
+            do {
+                String after = cursor;
+                ApplicationPageDto page = assertQueries(2, () -> applicationService.getApplicationPage(userId, after, 20, null, null, null));
+                seen += page.getItems().size();
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+            assertEquals(rows, seen);
+            assertQueries(2, () -> applicationService.getApplicationPage(userId, null, 20, "REJECTED", null, null));
+            assertQueries(2, () -> applicationService.getApplicationPage(userId, null, 20, null, LocalDate.now().minusDays(30), null));
+        }
+    }
+    
+    @Test
+    void getApplication() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long applicationId = applications.get(rows - 1).getApplicationId();
+            assertQueries(1, () -> applicationService.getApplication(applicationId));
+        }
+    }
+    
+    // 카운터 행이 있을 때와 없을 때(원본에서 다시 셈) 모두
+    @Test
+    void getApplicationStats() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            assertQueries(2, () -> applicationService.getApplicationStats(userId));
+            jdbcTemplate.update("DELETE FROM application_status_counts WHERE user_id = ?", userId);
+            assertQueries(2, () -> applicationService.getApplicationStats(userId));
+        }
+    }
+    
+    @Test
+    void createApplication() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            ApplicationDto request = ApplicationDto.builder()
+                    .userId(userId)
+                    .companyId(applications.get(0).getCompanyId())
+                    .resumeId(resumes.get(0).getResumeId())
+                    .coverLetterId(coverLetters.get(0).getCoverLetterId())
+                    .appliedDate(LocalDate.now())
+                    .notes("새 지원")
+                    .build();
+            assertQueries(8, () -> applicationService.createApplication(request));
+        }
+    }
+    
+    @Test
+    void updateApplication() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            ApplicationDto application = applications.get(rows - 1);
+            ApplicationDto request = ApplicationDto.builder()
+                    .notes("수정한 메모")
+                    .status("FINAL_PASS")
+                    .version(applicationService.getApplication(application.getApplicationId()).getVersion())
+                    .build();
+            assertQueries(6, () -> applicationService.updateApplication(application.getApplicationId(), request));
+        }
+    }
+    
+    @Test
+    void updateApplicationStatus() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long applicationId = applications.get(rows - 1).getApplicationId();
+            assertQueries(6, () -> applicationService.updateApplicationStatus(applicationId, "FINAL_PASS"));
+        }
+    }
+    
+    @Test
+    void patchApplication() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long applicationId = applications.get(rows - 1).getApplicationId();
+            MergePatch patch = new MergePatch(objectMapper.readTree("{\"status\": \"FINAL_PASS\", \"notes\": \"패치한 메모\"}"));
+            assertQueries(6, () -> applicationService.patchApplication(applicationId, patch));
+        }
+    }
+    
+    @Test
+    void deleteApplication() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long applicationId = applications.get(rows - 1).getApplicationId();
+            assertQueries(3, () -> applicationService.deleteApplication(applicationId));
+        }
+    }
+}
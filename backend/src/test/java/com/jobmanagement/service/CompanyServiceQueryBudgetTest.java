@@ -0,0 +1,64 @@
+package com.jobmanagement.service;
+
+import com.jobmanagement.dto.CompanyDto;
+import org.junit.jupiter.api.Test;
+
+// 회사는 시드 지원 내역마다 하나씩 늘어남 (목록/자동완성은 메모리 스냅샷이라 회사 수와 무관해야 함)
+class CompanyServiceQueryBudgetTest extends QueryBudgetTestSupport {
+    
+    @Test
+    void getAllCompanies() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            assertQueries(1, () -> companyService.getAllCompanies());
+        }
+    }
+    
+    @Test
+    void searchCompanies() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            assertQueries(1, () -> companyService.searchCompanies("상한테스트", 50));
+        }
+    }
+    
+    @Test
+    void getCompany() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long companyId = applications.get(rows - 1).getCompanyId();
+            assertQueries(1, () -> companyService.getCompany(companyId));
+        }
+    }
+    
+    @Test
+    void createCompany() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            CompanyDto request = CompanyDto.builder()
+                    .name("새 회사 " + userId + "-" + rows)
+                    .industry("핀테크")
+                    .build();
+            assertQueries(2, () -> companyService.createCompany(request));
+        }
+    }
+    
+    // 이름 변경(중복 확인 포함)
+    @Test
+    void updateCompany() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long companyId = applications.get(rows - 1).getCompanyId();
+            CompanyDto request = CompanyDto.builder()
+                    .name("이름 바꾼 회사 " + userId + "-" + rows)
+                    .location("경기도 성남시")
+                    .build();
+            assertQueries(3, () -> companyService.updateCompany(companyId, request));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.jobmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobmanagement.dto.CoverLetterDto;
+import com.jobmanagement.util.MergePatch;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CoverLetterServiceQueryBudgetTest extends QueryBudgetTestSupport {
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Test
+    void getCoverLettersByUser() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            int size = assertQueries(1, () -> coverLetterService.getCoverLettersByUser(userId, false)).size();
+            assertEquals(rows, size);
+            assertQueries(1, () -> coverLetterService.getCoverLettersByUser(userId, true));
+        }
+    }
+    
+    @Test
+    void getCoverLetter() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long coverLetterId = coverLetters.get(rows - 1).getCoverLetterId();
+            assertQueries(2, () -> coverLetterService.getCoverLetter(coverLetterId));
+        }
+    }
+    
+    @Test
+    void checkCoverLetter() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long coverLetterId = coverLetters.get(rows - 1).getCoverLetterId();
+            assertQueries(1, () -> coverLetterService.checkCoverLetter(coverLetterId));
+        }
+    }
+    
+    @Test
+    void writeContent() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long coverLetterId = coverLetters.get(rows - 1).getCoverLetterId();
+            assertQueries(1, () -> coverLetterService.writeContent(coverLetterId, new ByteArrayOutputStream()));
+        }
+    }
+    
+    @Test
+    void createCoverLetter() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            CoverLetterDto request = CoverLetterDto.builder()
+                    .userId(userId)
+                    .title("새 자기소개서")
+                    .content("새로 작성한 자기소개서 본문입니다.")
+                    .build();
+            assertQueries(3, () -> coverLetterService.createCoverLetter(request));
+        }
+    }
+    
+    // 본문을 바꿀 때와 제목만 바꿀 때(색인용으로 기존 본문을 읽음)
+    @Test
+    void updateCoverLetter() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long coverLetterId = coverLetters.get(rows - 1).getCoverLetterId();
+            CoverLetterDto content = CoverLetterDto.builder()
+                    .title("수정한 자기소개서")
+                    .content("수정한 자기소개서 본문입니다.")
+                    .build();
+            assertQueries(4, () -> coverLetterService.updateCoverLetter(coverLetterId, content));
+            CoverLetterDto title = CoverLetterDto.builder()
+                    .title("제목만 수정한 자기소개서")
+                    .build();
+            assertQueries(4, () -> coverLetterService.updateCoverLetter(coverLetterId, title));
+        }
+    }
+    
+    @Test
+    void patchCoverLetter() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long coverLetterId = coverLetters.get(rows - 1).getCoverLetterId();
+            MergePatch content = new MergePatch(objectMapper.readTree("{\"content\": \"패치한 본문입니다.\"}"));
+            assertQueries(3, () -> coverLetterService.patchCoverLetter(coverLetterId, content));
+            MergePatch title = new MergePatch(objectMapper.readTree("{\"title\": \"패치한 제목\"}"));
+            assertQueries(3, () -> coverLetterService.patchCoverLetter(coverLetterId, title));
+        }
+    }
+    
+    @Test
+    void deleteCoverLetter() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long coverLetterId = coverLetters.get(rows - 1).getCoverLetterId();
+            assertQueries(2, () -> coverLetterService.deleteCoverLetter(coverLetterId));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.jobmanagement.service;
+
+import com.jobmanagement.dto.CoverLetterSimilarityDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// 시드 자기소개서는 본문 대부분이 같아서 서로 비슷한 후보가 행 수만큼 생김
+class CoverLetterSimilarityServiceQueryBudgetTest extends QueryBudgetTestSupport {
+    
+    @Autowired
+    private CoverLetterSimilarityService coverLetterSimilarityService;
+    
+    @Test
+    void getSimilar() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long coverLetterId = coverLetters.get(rows - 1).getCoverLetterId();
+            CoverLetterSimilarityDto similarity = assertQueries(2, () -> coverLetterSimilarityService.getSimilar(coverLetterId, null, null));
+            assertFalse(similarity.getSimilar().isEmpty());
+        }
+    }
+    
+    @Test
+    void getDuplicates() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            int size = assertQueries(1, () -> coverLetterSimilarityService.getDuplicates(userId, null, 100)).size();
+            assertFalse(size == 0);
+        }
+    }
+}
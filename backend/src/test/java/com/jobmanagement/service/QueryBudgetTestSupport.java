@@ -0,0 +1,141 @@
+package com.jobmanagement.service;
+
+import com.jobmanagement.config.QueryScope;
+import com.jobmanagement.dto.ApplicationDto;
+import com.jobmanagement.dto.CompanyDto;
+import com.jobmanagement.dto.CoverLetterDto;
+import com.jobmanagement.dto.ResumeDto;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+// 서비스 메서드 한 번 호출에서 실행하는 SQL 문장 수 상한 검사 (N+1 회귀 방지)
+// 사용자 데이터를 SMALL개, LARGE개(10배)로 늘려 가며 같은 상한을 검사해서 행 수에 비례해 늘어나는 쿼리를 잡음
+// QueryMetricsDataSource를 거친 문장을 QueryScope로 셈, 테스트 메서드에 트랜잭션을 걸지 않아야 커밋 시 flush되는 문장까지 포함됨
+@SpringBootTest
+@ActiveProfiles("test")
+abstract class QueryBudgetTestSupport {
+    
+    protected static final int SMALL = 5;
+    protected static final int LARGE = SMALL * 10;
+    protected static final int[] SCALES = {SMALL, LARGE};
+    
+    // 유사도/검색 대상이 되도록 모든 자기소개서와 메모에 공통으로 들어가는 문장
+    private static final String COVER_LETTER_BODY = "저는 대용량 트래픽을 처리하는 백엔드 서비스를 개발하며 코딩테스트와 기술 면접을 준비해 왔습니다. "
+            + "장애 대응 경험을 바탕으로 안정적인 서비스를 만드는 데 기여하고 싶습니다. ";
+    
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+    @Autowired
+    protected ApplicationService applicationService;
+    @Autowired
+    protected CompanyService companyService;
+    @Autowired
+    protected ResumeService resumeService;
+    @Autowired
+    protected CoverLetterService coverLetterService;
+    
+    // 이 테스트 사용자에게 지금까지 만든 행 (growTo에서 이어서 채움)
+    protected final List<ApplicationDto> applications = new ArrayList<>();
+    protected final List<ResumeDto> resumes = new ArrayList<>();
+    protected final List<CoverLetterDto> coverLetters = new ArrayList<>();
+    
+    protected <T> T assertQueries(int budget, ThrowingSupplier<T> call) throws Throwable {
+        T result;
+        int count;
+        List<String> statements;
+        try (QueryScope scope = QueryScope.open(true)) {
+            result = call.get();
+            count = scope.getCount();
+            statements = scope.getStatements();
+        }
+        if (count > budget) {
+            fail(describe(budget, count, statements));
+        }
+        return result;
+    }
+    
+    protected void assertQueries(int budget, Executable call) throws Throwable {
+        assertQueries(budget, () -> {
+            call.execute();
+            return null;
+        });
+    }
+    
+    protected Long newUser() {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO users (name, career_level, job_category) VALUES (?, 'NEWCOMER', '개발자')",
+                    new String[]{"user_id"});
+            statement.setString(1, "테스트 사용자");
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+    
+    // 사용자의 지원 내역/이력서/자기소개서/활동 통계를 각각 rows개까지 채움
+    // 지원 내역마다 회사를 따로 만들고, 상태 변경 이력과 applied_date가 없는 행도 섞음 (연관 엔티티 지연 로딩이 행마다 일어나면 드러나도록)
+    protected void growTo(Long userId, int rows) {
+        LocalDate today = LocalDate.now();
+        for (int i = applications.size(); i < rows; i++) {
+            CompanyDto company = companyService.createCompany(CompanyDto.builder()
+                    .name("상한테스트 " + userId + "-" + i)
+                    .industry("IT/인터넷")
+                    .location("서울특별시")
+                    .build());
+            ResumeDto resume = resumeService.createResume(ResumeDto.builder()
+                    .userId(userId)
+                    .title("이력서 " + i)
+                    .isPrimary(i == 0)
+                    .jobCategory("IT개발·데이터")
+                    .build());
+            CoverLetterDto coverLetter = coverLetterService.createCoverLetter(CoverLetterDto.builder()
+                    .userId(userId)
+                    .title("자기소개서 " + i)
+                    .content(COVER_LETTER_BODY + i + "번째 지원 동기를 정리했습니다.")
+                    .isTemplate(i % 5 == 0)
+                    .build());
+            ApplicationDto application = applicationService.createApplication(ApplicationDto.builder()
+                    .userId(userId)
+                    .companyId(company.getCompanyId())
+                    .resumeId(resume.getResumeId())
+                    .coverLetterId(i % 2 == 0 ? coverLetter.getCoverLetterId() : null)
+                    .appliedDate(i % 7 == 6 ? null : today.minusDays(i))
+                    .notes("코딩테스트 메모 " + i)
+                    .build());
+            if (i % 3 == 1) {
+                application = applicationService.updateApplicationStatus(application.getApplicationId(), "DOCUMENT_PASS");
+            } else if (i % 3 == 2) {
+                application = applicationService.updateApplicationStatus(application.getApplicationId(), "REJECTED");
+            }
+            jdbcTemplate.update("INSERT INTO activity_stats (user_id, stat_type, value, date) VALUES (?, 'BOOKMARK_COUNT', ?, ?)",
+                    userId, i + 1, Date.valueOf(today.minusDays(i)));
+            applications.add(application);
+            resumes.add(resume);
+            coverLetters.add(coverLetter);
+        }
+    }
+    
+    private static String describe(int budget, int count, List<String> statements) {
+        StringBuilder message = new StringBuilder()
+                .append("쿼리 수 상한 초과 (허용 ").append(budget).append("개, 실행 ").append(count).append("개)");
+        for (int i = 0; i < statements.size(); i++) {
+            message.append("\n  ").append(i + 1).append(") ").append(statements.get(i));
+        }
+        return message.toString();
+    }
+}
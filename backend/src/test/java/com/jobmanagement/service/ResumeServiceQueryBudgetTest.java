@@ -0,0 +1,94 @@
+package com.jobmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobmanagement.dto.ResumeDto;
+import com.jobmanagement.util.MergePatch;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResumeServiceQueryBudgetTest extends QueryBudgetTestSupport {
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Test
+    void getResumesByUser() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            int size = assertQueries(1, () -> resumeService.getResumesByUser(userId)).size();
+            assertEquals(rows, size);
+        }
+    }
+    
+    @Test
+    void getPrimaryResume() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            assertQueries(1, () -> resumeService.getPrimaryResume(userId));
+        }
+    }
+    
+    @Test
+    void getResume() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long resumeId = resumes.get(rows - 1).getResumeId();
+            assertQueries(1, () -> resumeService.getResume(resumeId));
+        }
+    }
+    
+    @Test
+    void createResume() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            ResumeDto request = ResumeDto.builder()
+                    .userId(userId)
+                    .title("새 대표 이력서")
+                    .isPrimary(true)
+                    .build();
+            assertQueries(4, () -> resumeService.createResume(request));
+        }
+    }
+    
+    // 대표 지정(switchPrimary)까지 지나가도록
+    @Test
+    void updateResume() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long resumeId = resumes.get(rows - 1).getResumeId();
+            ResumeDto request = ResumeDto.builder()
+                    .title("수정한 이력서")
+                    .isPrimary(true)
+                    .build();
+            assertQueries(4, () -> resumeService.updateResume(resumeId, request));
+        }
+    }
+    
+    @Test
+    void patchResume() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long resumeId = resumes.get(rows - 1).getResumeId();
+            MergePatch patch = new MergePatch(objectMapper.readTree("{\"title\": \"패치한 이력서\", \"isPrimary\": true}"));
+            assertQueries(3, () -> resumeService.patchResume(resumeId, patch));
+        }
+    }
+    
+    @Test
+    void deleteResume() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            Long resumeId = resumes.get(rows - 1).getResumeId();
+            assertQueries(3, () -> resumeService.deleteResume(resumeId));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.jobmanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// 시드 지원 내역 메모와 자기소개서 본문에 모두 "코딩테스트"가 들어 있어서 두 종류가 함께 검색됨
+class SearchServiceQueryBudgetTest extends QueryBudgetTestSupport {
+    
+    @Autowired
+    private SearchService searchService;
+    
+    @Test
+    void search() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            int size = assertQueries(3, () -> searchService.search(userId, "코딩테스트", null, 100)).size();
+            assertFalse(size == 0);
+            assertQueries(3, () -> searchService.search(userId, "코딩테스트", "COVER_LETTER", null));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.jobmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobmanagement.dto.UserDto;
+import com.jobmanagement.util.MergePatch;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class UserServiceQueryBudgetTest extends QueryBudgetTestSupport {
+    
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Test
+    void getUser() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            assertQueries(1, () -> userService.getUser(userId));
+        }
+    }
+    
+    @Test
+    void updateUser() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            UserDto request = UserDto.builder()
+                    .name("수정한 이름 " + rows)
+                    .careerLevel("EXPERIENCED")
+                    .build();
+            assertQueries(2, () -> userService.updateUser(userId, request));
+        }
+    }
+    
+    @Test
+    void patchUser() throws Throwable {
+        Long userId = newUser();
+        for (int rows : SCALES) {
+            growTo(userId, rows);
+            MergePatch patch = new MergePatch(objectMapper.readTree("{\"name\": \"패치한 이름\", \"isMatchingEnabled\": false}"));
+            assertQueries(1, () -> userService.patchUser(userId, patch));
+        }
+    }
+}
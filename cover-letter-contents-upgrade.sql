@@ -0,0 +1,32 @@
+-- 자기소개서 본문 분리 업그레이드 (cover_letters.content -> cover_letter_contents, content_length)
+-- 이 변경 전 init.sql로 만든 DB에서 새 백엔드를 배포하기 전에 한 번만 실행 (새로 만드는 DB는 init.sql에 이미 반영되어 있음)
+-- 샤딩을 쓰면 모든 샤드에서 각각 실행, 읽기 복제본은 주 DB에서 복제되므로 따로 실행하지 않음
+-- 새 백엔드는 ddl-auto: validate라서 실행 전의 DB로는 기동하지 않고, 실행 후에는 이전 백엔드가 content 컬럼을 찾지 못함 (배포 중에는 쓰기를 멈춤)
+
+-- 자기소개서 본문 (init.sql과 같은 정의)
+CREATE TABLE cover_letter_contents (
+    cover_letter_id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    encoding VARCHAR(10) NOT NULL,  -- PLAIN | GZIP
+    data MEDIUMBLOB NOT NULL,  -- UTF-8 바이트 (GZIP이면 압축한 바이트)
+    FOREIGN KEY (cover_letter_id) REFERENCES cover_letters(cover_letter_id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+ALTER TABLE cover_letters ADD COLUMN content_length INT NOT NULL DEFAULT 0 AFTER title;
+
+-- 기존 본문은 압축하지 않고 PLAIN으로 옮김 (CoverLetterContentStore가 그대로 읽음, 다음 저장부터 크기에 따라 GZIP)
+-- 빈 본문은 서비스와 같이 행을 만들지 않음
+INSERT INTO cover_letter_contents (cover_letter_id, user_id, encoding, data)
+SELECT cover_letter_id, user_id, 'PLAIN', CAST(CONVERT(content USING utf8mb4) AS BINARY)
+FROM cover_letters
+WHERE content IS NOT NULL AND content <> '';
+
+-- 서비스의 content.length()와 같은 값이 되도록 UTF-16 코드 단위로 셈 (CHAR_LENGTH는 이모지 등을 1로 세어 달라짐)
+UPDATE cover_letters
+SET content_length = LENGTH(CONVERT(content USING utf16)) DIV 2
+WHERE content IS NOT NULL;
+
+ALTER TABLE cover_letters DROP COLUMN content;
+
+CREATE INDEX idx_cover_letters_user_created ON cover_letters(user_id, created_at, cover_letter_id);
@@ -9,6 +9,7 @@ CREATE TABLE users (
     job_category VARCHAR(100),
     profile_image_url VARCHAR(500),
     is_matching_enabled BOOLEAN DEFAULT TRUE,
+    version BIGINT NOT NULL DEFAULT 0, -- 낙관적 잠금 (JPA @Version)
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
 );
@@ -48,9 +49,13 @@ CREATE TABLE resumes (
     target_company_type VARCHAR(100),
     target_location VARCHAR(200),
     is_public BOOLEAN DEFAULT FALSE,
+    version BIGINT NOT NULL DEFAULT 0,
+    -- 대표 이력서일 때만 user_id, 아니면 NULL (NULL은 유일 인덱스에서 중복 허용 → 사용자당 대표 이력서 최대 1개)
+    primary_user_id BIGINT GENERATED ALWAYS AS (CASE WHEN is_primary THEN user_id END),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
+    UNIQUE KEY uk_resumes_primary_user (primary_user_id)
 );
 
 -- 자기소개서 테이블
@@ -58,13 +63,26 @@ CREATE TABLE cover_letters (
     cover_letter_id BIGINT PRIMARY KEY AUTO_INCREMENT,
     user_id BIGINT NOT NULL,
     title VARCHAR(200) NOT NULL,
-    content TEXT,
+    content_length INT NOT NULL DEFAULT 0,  -- 본문 글자 수 (본문은 cover_letter_contents, 목록 조회는 이 테이블만 읽음)
     is_template BOOLEAN DEFAULT FALSE,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
 );
 
+-- 자기소개서 본문 (한 건씩 필요할 때만 읽음, 일정 크기 이상이면 GZIP으로 압축해서 저장)
+-- user_id는 샤드 이동 시 사용자 단위로 행을 고르기 위함
+-- cover_letters.content가 있던 이전 스키마의 DB는 cover-letter-contents-upgrade.sql로 옮김
+CREATE TABLE cover_letter_contents (
+    cover_letter_id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    encoding VARCHAR(10) NOT NULL,  -- PLAIN | GZIP
+    data MEDIUMBLOB NOT NULL,  -- UTF-8 바이트 (GZIP이면 압축한 바이트)
+    FOREIGN KEY (cover_letter_id) REFERENCES cover_letters(cover_letter_id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
 -- 지원 현황 테이블
 CREATE TABLE applications (
     application_id BIGINT PRIMARY KEY AUTO_INCREMENT,
@@ -75,6 +93,7 @@ CREATE TABLE applications (
     status ENUM('APPLIED', 'DOCUMENT_PASS', 'FINAL_PASS', 'REJECTED') DEFAULT 'APPLIED',
     applied_date DATE,
     notes TEXT,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
@@ -101,7 +120,7 @@ CREATE TABLE user_companies (
 CREATE TABLE activity_stats (
     stat_id BIGINT PRIMARY KEY AUTO_INCREMENT,
     user_id BIGINT NOT NULL,
-    stat_type ENUM('RESUME_COUNT', 'COVER_LETTER_COUNT', 'BOOKMARK_COUNT', 'DEADLINE_COUNT') NOT NULL,
+    stat_type ENUM('RESUME_COUNT', 'COVER_LETTER_COUNT', 'BOOKMARK_COUNT', 'DEADLINE_COUNT', 'APPLICATION_COUNT') NOT NULL,
     value INT DEFAULT 0,
     date DATE NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
@@ -110,11 +129,59 @@ CREATE TABLE activity_stats (
     UNIQUE KEY unique_user_stat_date (user_id, stat_type, date)
 );
 
+-- 지원 상태별 카운터 테이블 (지원 내역 변경 시 증분 갱신, 주기적으로 재계산)
+CREATE TABLE application_status_counts (
+    user_id BIGINT PRIMARY KEY,
+    applied_count BIGINT NOT NULL DEFAULT 0,
+    document_pass_count BIGINT NOT NULL DEFAULT 0,
+    final_pass_count BIGINT NOT NULL DEFAULT 0,
+    rejected_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+-- 지원 상태 변경 이력 (추가 전용, 지원 내역 삭제 후에도 유지)
+CREATE TABLE application_status_history (
+    history_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    application_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    from_status ENUM('APPLIED', 'DOCUMENT_PASS', 'FINAL_PASS', 'REJECTED'),
+    to_status ENUM('APPLIED', 'DOCUMENT_PASS', 'FINAL_PASS', 'REJECTED') NOT NULL,
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+-- 상태 전이 일별 집계 (이전 상태에 머문 시간을 log2(시간+1) 구간으로 나눈 히스토그램)
+-- from_status는 최초 등록 시 'NONE'
+CREATE TABLE application_transition_buckets (
+    user_id BIGINT NOT NULL,
+    bucket_date DATE NOT NULL,
+    from_status VARCHAR(20) NOT NULL,
+    to_status VARCHAR(20) NOT NULL,
+    duration_bucket TINYINT NOT NULL,
+    transition_count INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, bucket_date, from_status, to_status, duration_bucket),
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+-- 샤드 디렉터리 (sharding.enabled=true 일 때만 사용, 사용자 ID 해시 버킷 → 샤드)
+-- 0번 샤드의 행이 디렉터리, 나머지 샤드의 행은 그 샤드가 버킷을 가지고 있는지 쓰기 트랜잭션이 잠가서 확인하는 사본
+-- 비어 있으면 백엔드 기동 시 sharding.buckets개를 채우고, 버킷 이동(/actuator/shards) 시 shard/state 변경
+CREATE TABLE shard_buckets (
+    bucket INT PRIMARY KEY,
+    shard INT NOT NULL,
+    state VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
 -- 인덱스 생성
-CREATE INDEX idx_applications_user_status ON applications(user_id, status);
+CREATE INDEX idx_applications_user_status ON applications(user_id, status, applied_date, application_id);
+CREATE INDEX idx_applications_user_applied ON applications(user_id, applied_date, application_id);
 CREATE INDEX idx_resumes_user_primary ON resumes(user_id, is_primary);
+CREATE INDEX idx_cover_letters_user_created ON cover_letters(user_id, created_at, cover_letter_id);
 CREATE INDEX idx_user_companies_user ON user_companies(user_id);
 CREATE INDEX idx_activity_stats_user_date ON activity_stats(user_id, date);
+CREATE INDEX idx_status_history_application ON application_status_history(application_id, changed_at);
 
 -- 테스트 데이터 삽입
 INSERT INTO users (name, career_level, job_category, is_matching_enabled) VALUES
@@ -147,3 +214,12 @@ INSERT INTO user_companies (user_id, company_id, job_category, priority) VALUES
 (1, 2, '백엔드', 2),
 (1, 3, '풀스택', 3),
 (1, 4, '프론트엔드', 4);
+
+INSERT INTO application_status_counts (user_id, applied_count, document_pass_count, final_pass_count, rejected_count)
+SELECT user_id,
+       SUM(status = 'APPLIED'),
+       SUM(status = 'DOCUMENT_PASS'),
+       SUM(status = 'FINAL_PASS'),
+       SUM(status = 'REJECTED')
+FROM applications
+GROUP BY user_id;
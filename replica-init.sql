@@ -0,0 +1,11 @@
+-- 읽기 복제본 초기화 (docker-compose.yml의 mysql-replica 서비스에서 최초 기동 시 한 번 실행)
+-- 주 DB(mysql 서비스)를 GTID 자동 위치로 복제, 설정은 데이터 디렉터리에 남으므로 재시작해도 이어서 복제
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql',
+    SOURCE_PORT = 3306,
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = '0000',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+
+START REPLICA;
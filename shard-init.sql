@@ -0,0 +1,3 @@
+-- 추가 샤드 초기화 (docker-compose.yml의 mysql-shard-1 서비스에서 init.sql 다음에 한 번 실행)
+-- 스키마와 회사(참조 테이블)는 init.sql 그대로 두고, 테스트 사용자와 소유 행은 0번 샤드에만 남김 (외래 키 CASCADE로 함께 삭제)
+DELETE FROM users;